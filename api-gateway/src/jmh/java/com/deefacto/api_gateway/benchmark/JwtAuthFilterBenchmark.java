@@ -0,0 +1,91 @@
+package com.deefacto.api_gateway.benchmark;
+
+import com.deefacto.api_gateway.filter.JwtAuthFilter;
+import com.deefacto.api_gateway.metrics.AuthMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * JwtAuthFilter.filter() 벤치마크
+ *
+ * MockServerWebExchange와 아무것도 하지 않는 GatewayFilterChain으로
+ * 필터 자체의 비용만 측정 (교환 객체 생성 비용은 exchangeOnly로 따로 측정)
+ * 실행: ./gradlew jmh -PjmhIncludes=JwtAuthFilterBenchmark
+ */
+@State(Scope.Benchmark)
+public class JwtAuthFilterBenchmark {
+
+    /**
+     * 하위 필터/서비스 호출 없이 바로 완료되는 체인
+     */
+    private static final GatewayFilterChain NO_OP_CHAIN = exchange -> Mono.empty();
+
+    @Param({"true", "false"})
+    public boolean cacheEnabled;
+
+    private JwtAuthFilter filter;
+    private String validHeader;
+    private String expiredHeader;
+    private String badSignatureHeader;
+
+    @Setup
+    public void setUp() {
+        filter = new JwtAuthFilter(JwtFixtures.provider(cacheEnabled),
+                new AuthMetrics(new SimpleMeterRegistry()), JwtFixtures.policyMatcher());
+        validHeader = "Bearer " + JwtFixtures.validToken();
+        expiredHeader = "Bearer " + JwtFixtures.expiredToken();
+        badSignatureHeader = "Bearer " + JwtFixtures.badSignatureToken();
+    }
+
+    @Benchmark
+    public MockServerWebExchange exchangeOnly() {
+        return exchange("/sensors/1", validHeader);
+    }
+
+    @Benchmark
+    public MockServerWebExchange validToken() {
+        return run(exchange("/sensors/1", validHeader));
+    }
+
+    @Benchmark
+    public MockServerWebExchange expiredToken() {
+        return run(exchange("/sensors/1", expiredHeader));
+    }
+
+    @Benchmark
+    public MockServerWebExchange badSignature() {
+        return run(exchange("/sensors/1", badSignatureHeader));
+    }
+
+    @Benchmark
+    public MockServerWebExchange missingHeader() {
+        return run(exchange("/sensors/1", null));
+    }
+
+    @Benchmark
+    public MockServerWebExchange loginBypass() {
+        return run(exchange("/auth/login", null));
+    }
+
+    private MockServerWebExchange run(MockServerWebExchange exchange) {
+        filter.filter(exchange, NO_OP_CHAIN).block();
+        return exchange;
+    }
+
+    private static MockServerWebExchange exchange(String path, String authHeader) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get(path);
+        if (authHeader != null) {
+            request.header(HttpHeaders.AUTHORIZATION, authHeader);
+        }
+        return MockServerWebExchange.from(request);
+    }
+}
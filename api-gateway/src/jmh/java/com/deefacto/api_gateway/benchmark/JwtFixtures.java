@@ -0,0 +1,94 @@
+package com.deefacto.api_gateway.benchmark;
+
+import com.deefacto.api_gateway.policy.AuthPolicyMatcher;
+import com.deefacto.api_gateway.util.JwtProvider;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.mock.env.MockEnvironment;
+
+import javax.crypto.SecretKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+
+/**
+ * 벤치마크 공통 JWT 픽스처
+ *
+ * dev 프로필과 같은 형식의 시크릿 키로 JwtProvider를 만들고,
+ * 유효/만료/서명 불일치 토큰을 생성
+ */
+final class JwtFixtures {
+
+    /**
+     * 벤치마크용 시크릿 키 (Base64, 32바이트 이상)
+     */
+    static final String SECRET = Base64.getEncoder().encodeToString(
+            "benchmark-secret-key-minimum-32-characters-long".getBytes());
+
+    /**
+     * 서명 불일치 토큰 생성용 다른 키
+     */
+    private static final String OTHER_SECRET = Base64.getEncoder().encodeToString(
+            "another-secret-key-that-does-not-match-the-gateway".getBytes());
+
+    private JwtFixtures() {
+    }
+
+    /**
+     * 설정이 적용된 JwtProvider 생성
+     *
+     * @param cacheEnabled 검증된 토큰 캐시 사용 여부
+     */
+    static JwtProvider provider(boolean cacheEnabled) {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("jwt.secret-key", SECRET)
+                .withProperty("jwt.cache.enabled", String.valueOf(cacheEnabled))
+                .withProperty("jwt.claims.role", "role");
+        JwtProvider provider = new JwtProvider(environment,
+                new DefaultListableBeanFactory().getBeanProvider(MeterRegistry.class));
+        provider.init();
+        return provider;
+    }
+
+    /**
+     * application.yml과 같은 인증 정책(로그인/재발급 공개)을 가진 매처 생성
+     */
+    static AuthPolicyMatcher policyMatcher() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("gateway.auth.policies[0].path", "/auth/login/**")
+                .withProperty("gateway.auth.policies[0].access", "public")
+                .withProperty("gateway.auth.policies[1].path", "/auth/refresh/**")
+                .withProperty("gateway.auth.policies[1].access", "public")
+                .withProperty("jwt.headers.role", "X-Role");
+        AuthPolicyMatcher matcher = new AuthPolicyMatcher(environment);
+        matcher.init();
+        return matcher;
+    }
+
+    static String validToken() {
+        return token(SECRET, Instant.now().plus(Duration.ofHours(24)));
+    }
+
+    static String expiredToken() {
+        return token(SECRET, Instant.now().minus(Duration.ofMinutes(5)));
+    }
+
+    static String badSignatureToken() {
+        return token(OTHER_SECRET, Instant.now().plus(Duration.ofHours(24)));
+    }
+
+    private static String token(String secret, Instant expiresAt) {
+        SecretKey key = Keys.hmacShaKeyFor(Base64.getDecoder().decode(secret));
+        return Jwts.builder()
+                .claim("UserId", 1L)
+                .claim("EmployeeId", "E0001")
+                .claim("role", "ADMIN")
+                .issuedAt(Date.from(expiresAt.minus(Duration.ofHours(24))))
+                .expiration(Date.from(expiresAt))
+                .signWith(key)
+                .compact();
+    }
+}
@@ -0,0 +1,61 @@
+package com.deefacto.api_gateway.benchmark;
+
+import com.deefacto.api_gateway.util.JwtPrincipal;
+import com.deefacto.api_gateway.util.JwtProvider;
+import io.jsonwebtoken.JwtException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JwtProvider.verify() 벤치마크
+ *
+ * 캐시 사용 여부(cacheEnabled)별로 유효/만료/서명 불일치 토큰 검증 비용을 측정
+ * 실행: ./gradlew jmh -PjmhIncludes=JwtProviderBenchmark
+ */
+@State(Scope.Benchmark)
+public class JwtProviderBenchmark {
+
+    @Param({"true", "false"})
+    public boolean cacheEnabled;
+
+    private JwtProvider provider;
+    private String validToken;
+    private String expiredToken;
+    private String badSignatureToken;
+
+    @Setup
+    public void setUp() {
+        provider = JwtFixtures.provider(cacheEnabled);
+        validToken = JwtFixtures.validToken();
+        expiredToken = JwtFixtures.expiredToken();
+        badSignatureToken = JwtFixtures.badSignatureToken();
+    }
+
+    @Benchmark
+    public JwtPrincipal validToken() {
+        return provider.verify(validToken);
+    }
+
+    @Benchmark
+    public void expiredToken(Blackhole bh) {
+        verifyExpectingFailure(expiredToken, bh);
+    }
+
+    @Benchmark
+    public void badSignature(Blackhole bh) {
+        verifyExpectingFailure(badSignatureToken, bh);
+    }
+
+    private void verifyExpectingFailure(String token, Blackhole bh) {
+        try {
+            bh.consume(provider.verify(token));
+            throw new IllegalStateException("검증 실패가 예상되는 토큰이 통과했습니다");
+        } catch (JwtException e) {
+            bh.consume(e);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.deefacto.api_gateway.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 부하 테스트 측정 결과
+ *
+ * 응답 시간은 요청을 "보냈어야 하는" 시각부터 응답 본문을 다 받은 시각까지로 기록
+ * (게이트웨이가 밀려 요청이 늦게 나가도 그 대기 시간이 결과에 포함됨)
+ *
+ * 전체와 요청 종류별 HdrHistogram(마이크로초, 유효 숫자 3자리)을 여러 스레드에서 동시에 기록하고,
+ * 끝나면 백분위/처리량/오류율을 실행 간 비교 가능한 Map(JSON)으로 정리
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+final class LatencyReport {
+
+    /**
+     * 기록 가능한 최대 응답 시간 (이보다 길면 최대값으로 기록)
+     */
+    private static final long MAX_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    /**
+     * 결과 파일에 쓰는 백분위 이름과 값
+     */
+    private static final String[] PERCENTILE_NAMES = {"p50", "p90", "p99", "p999"};
+    private static final double[] PERCENTILES = {50.0, 90.0, 99.0, 99.9};
+
+    private final Histogram all = histogram();
+    private final Map<RequestKind, Histogram> byKind = new EnumMap<>(RequestKind.class);
+    private final Map<RequestKind, LongAdder> unexpectedByKind = new EnumMap<>(RequestKind.class);
+    private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+    private final LongAdder unexpected = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    private volatile long startNanos;
+    private volatile long endNanos;
+
+    LatencyReport() {
+        for (RequestKind kind : RequestKind.values()) {
+            byKind.put(kind, histogram());
+            unexpectedByKind.put(kind, new LongAdder());
+        }
+    }
+
+    /**
+     * 측정 시작 시각 기록
+     */
+    void start() {
+        startNanos = System.nanoTime();
+        endNanos = 0;
+    }
+
+    /**
+     * 측정 종료 시각 기록 (남은 응답을 모두 받은 뒤 호출)
+     */
+    void stop() {
+        endNanos = System.nanoTime();
+    }
+
+    /**
+     * 응답을 받은 요청 기록
+     *
+     * @param kind 요청 종류
+     * @param status 응답 상태 코드
+     * @param latencyNanos 보냈어야 하는 시각부터 응답 완료까지의 시간
+     */
+    void record(RequestKind kind, int status, long latencyNanos) {
+        long micros = Math.min(Math.max(1, latencyNanos / 1_000), MAX_TRACKABLE_MICROS);
+        all.recordValue(micros);
+        byKind.get(kind).recordValue(micros);
+        statuses.computeIfAbsent(status, code -> new LongAdder()).increment();
+        if (!kind.expects(status)) {
+            unexpected.increment();
+            unexpectedByKind.get(kind).increment();
+        }
+    }
+
+    /**
+     * 응답을 받지 못한 요청 기록 (연결 실패, 타임아웃 등)
+     */
+    void recordFailure(RequestKind kind, long latencyNanos) {
+        long micros = Math.min(Math.max(1, latencyNanos / 1_000), MAX_TRACKABLE_MICROS);
+        all.recordValue(micros);
+        byKind.get(kind).recordValue(micros);
+        failures.increment();
+        unexpectedByKind.get(kind).increment();
+    }
+
+    /**
+     * 처리 중 요청 수 제한으로 보내지 못한 요청 기록
+     */
+    void recordDropped() {
+        dropped.increment();
+    }
+
+    /**
+     * 결과 요약 (JSON으로 저장, 이전 결과와 비교할 때 같은 키 사용)
+     */
+    Map<String, Object> summary() {
+        long elapsedNanos = (endNanos != 0 ? endNanos : System.nanoTime()) - startNanos;
+        long completed = all.getTotalCount() - failures.sum();
+        long attempted = all.getTotalCount() + dropped.sum();
+        long errors = unexpected.sum() + failures.sum() + dropped.sum();
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("requests", attempted);
+        summary.put("completed", completed);
+        summary.put("elapsedSeconds", round(elapsedNanos / 1e9));
+        summary.put("throughput", round(elapsedNanos > 0 ? completed / (elapsedNanos / 1e9) : 0));
+        summary.put("errorRate", ratio(errors, attempted));
+        summary.put("unexpectedStatus", unexpected.sum());
+        summary.put("failures", failures.sum());
+        summary.put("dropped", dropped.sum());
+        summary.put("latencyMs", latency(all));
+
+        Map<String, Object> kinds = new LinkedHashMap<>();
+        for (RequestKind kind : RequestKind.values()) {
+            Histogram histogram = byKind.get(kind);
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("requests", histogram.getTotalCount());
+            entry.put("errorRate", ratio(unexpectedByKind.get(kind).sum(), histogram.getTotalCount()));
+            entry.put("latencyMs", latency(histogram));
+            kinds.put(kind.tag(), entry);
+        }
+        summary.put("kinds", kinds);
+
+        Map<String, Long> statusCounts = new TreeMap<>();
+        statuses.forEach((status, count) -> statusCounts.put(String.valueOf(status), count.sum()));
+        summary.put("statuses", statusCounts);
+        return summary;
+    }
+
+    private static Map<String, Object> latency(Histogram histogram) {
+        Map<String, Object> latency = new LinkedHashMap<>();
+        for (int i = 0; i < PERCENTILES.length; i++) {
+            latency.put(PERCENTILE_NAMES[i], millis(histogram.getValueAtPercentile(PERCENTILES[i])));
+        }
+        latency.put("max", millis(histogram.getMaxValue()));
+        latency.put("mean", millis(histogram.getTotalCount() > 0 ? histogram.getMean() : 0));
+        return latency;
+    }
+
+    private static Histogram histogram() {
+        return new ConcurrentHistogram(MAX_TRACKABLE_MICROS, 3);
+    }
+
+    private static double millis(double micros) {
+        return round(micros / 1_000);
+    }
+
+    private static double ratio(long count, long total) {
+        return total > 0 ? Math.round((double) count / total * 100_000) / 100_000.0 : 0;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1_000) / 1_000.0;
+    }
+}
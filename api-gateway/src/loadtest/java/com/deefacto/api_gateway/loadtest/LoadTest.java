@@ -0,0 +1,161 @@
+package com.deefacto.api_gateway.loadtest;
+
+import com.deefacto.api_gateway.ApiGatewayApplication;
+import com.deefacto.api_gateway.stub.StubBackend;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import reactor.netty.DisposableServer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게이트웨이 end-to-end 부하 테스트
+ *
+ * 1. 라우트 7개에 대응하는 스텁 서버를 로컬 포트(18081 ~ 18087)에 띄움 (지연/응답 크기/오류율 설정)
+ * 2. loadtest 프로필(application-loadtest.yml, 모든 라우트 -> 스텁)로 게이트웨이 시작
+ * 3. 예열 후 일정한 도착률로 유효/잘못된 토큰 요청을 보내 측정 (OpenLoadDriver)
+ * 4. p50/p90/p99/p99.9, 처리량, 오류율을 JSON 파일로 저장하고, 이전 결과(--baseline)가 있으면 비교 출력
+ *
+ * 실행: ./gradlew loadTest -Prate=1000 -Pduration=60s -Platency=20ms -PpayloadSize=4096 -Pbaseline=...json
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+public final class LoadTest {
+
+    /**
+     * 스텁 서버 시작 포트 (application-loadtest.yml의 라우트 uri와 같아야 함)
+     */
+    private static final int STUB_BASE_PORT = 18081;
+
+    /**
+     * 라우트 수 (auth, user, notification, dashboard, sensors, report, chatbot)
+     */
+    private static final int STUB_COUNT = 7;
+
+    /**
+     * 이전 결과와 비교할 항목 (summary 안의 경로)
+     */
+    private static final String[][] COMPARED = {
+            {"throughput"}, {"errorRate"},
+            {"latencyMs", "p50"}, {"latencyMs", "p90"}, {"latencyMs", "p99"}, {"latencyMs", "p999"},
+            {"latencyMs", "max"}};
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+
+        List<DisposableServer> stubs = new ArrayList<>();
+        ConfigurableApplicationContext gateway = null;
+        OpenLoadDriver driver = null;
+        try {
+            for (int i = 0; i < STUB_COUNT; i++) {
+                stubs.add(StubBackend.start(STUB_BASE_PORT + i, options.latency(), options.jitter(),
+                        options.errorRate(), options.payloadSize()));
+            }
+            gateway = new SpringApplicationBuilder(ApiGatewayApplication.class)
+                    .run("--spring.profiles.active=loadtest", "--server.port=" + options.gatewayPort());
+
+            RequestMix mix = new RequestMix(new TokenFactory(options.users()), options.invalidTokenRatio());
+            driver = new OpenLoadDriver(options.gatewayPort(), mix, options.maxOutstanding());
+
+            System.out.printf("예열: rate=%d/s, %s%n", options.rate(), options.warmup());
+            driver.run(options.rate(), options.warmup(), new LatencyReport());
+
+            System.out.printf("측정: rate=%d/s, %s%n", options.rate(), options.duration());
+            LatencyReport report = new LatencyReport();
+            driver.run(options.rate(), options.duration(), report);
+
+            write(options, report.summary());
+        } finally {
+            if (driver != null) {
+                driver.close();
+            }
+            if (gateway != null) {
+                gateway.close();
+            }
+            stubs.forEach(DisposableServer::disposeNow);
+        }
+        System.exit(0);
+    }
+
+    /**
+     * 결과 파일 저장 (loadtest-<시각>.json + latest.json) 및 이전 결과와 비교
+     */
+    private static void write(LoadTestOptions options, Map<String, Object> summary) throws IOException {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("timestamp", LocalDateTime.now().toString());
+        result.put("config", options.describe());
+        result.put("result", summary);
+
+        if (options.baseline() != null) {
+            Map<String, Object> baseline = MAPPER.readValue(options.baseline().toFile(),
+                    new TypeReference<Map<String, Object>>() {
+                    });
+            result.put("comparison", compare(options.baseline(), baseline, summary));
+        }
+
+        Files.createDirectories(options.reportDir());
+        String name = "loadtest-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".json";
+        Path file = options.reportDir().resolve(name);
+        MAPPER.writeValue(file.toFile(), result);
+        MAPPER.writeValue(options.reportDir().resolve("latest.json").toFile(), result);
+
+        System.out.println(MAPPER.writeValueAsString(result));
+        System.out.println("결과 파일: " + file.toAbsolutePath());
+    }
+
+    /**
+     * 이전 결과 대비 변화 (항목별 이전 값, 현재 값, 변화율 %)
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> compare(Path baselineFile, Map<String, Object> baseline,
+                                               Map<String, Object> current) {
+        Map<String, Object> previous = (Map<String, Object>) baseline.get("result");
+        Map<String, Object> comparison = new LinkedHashMap<>();
+        comparison.put("baseline", baselineFile.toString());
+        for (String[] path : COMPARED) {
+            Number before = number(previous, path);
+            Number after = number(current, path);
+            if (before == null || after == null) {
+                continue;
+            }
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("baseline", before);
+            entry.put("current", after);
+            if (before.doubleValue() != 0) {
+                double change = (after.doubleValue() - before.doubleValue()) / before.doubleValue() * 100;
+                entry.put("changePercent", Math.round(change * 10) / 10.0);
+            }
+            comparison.put(String.join(".", path), entry);
+        }
+        return comparison;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Number number(Map<String, Object> summary, String[] path) {
+        Object value = summary;
+        for (String key : path) {
+            if (!(value instanceof Map)) {
+                return null;
+            }
+            value = ((Map<String, Object>) value).get(key);
+        }
+        return value instanceof Number number ? number : null;
+    }
+}
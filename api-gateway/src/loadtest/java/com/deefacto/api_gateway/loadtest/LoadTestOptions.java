@@ -0,0 +1,78 @@
+package com.deefacto.api_gateway.loadtest;
+
+import com.deefacto.api_gateway.stub.StubBackend;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 실행 옵션 (--name=value 형식 인자)
+ *
+ * @param rate 초당 요청 수 (도착률, 응답과 관계없이 일정)
+ * @param duration 측정 시간
+ * @param warmup 측정 전 예열 시간 (결과에 포함하지 않음)
+ * @param latency 스텁 응답 지연
+ * @param jitter 스텁 지연에 더할 최대 무작위 시간
+ * @param errorRate 스텁 500 응답 비율
+ * @param payloadSize 스텁 응답 크기 (바이트)
+ * @param invalidTokenRatio 잘못된 토큰(만료/서명 불일치/없음) 요청 비율
+ * @param users 유효 토큰을 만들 사용자 수 (토큰 캐시 hit 비율에 영향)
+ * @param maxOutstanding 동시에 응답을 기다리는 최대 요청 수 (초과 시 보내지 않고 dropped로 기록)
+ * @param gatewayPort 게이트웨이 포트
+ * @param reportDir 결과 파일 디렉터리
+ * @param baseline 비교할 이전 결과 파일 (없으면 null)
+ * @author API Gateway Team
+ * @version 1.0
+ */
+public record LoadTestOptions(int rate, Duration duration, Duration warmup, Duration latency, Duration jitter,
+                              double errorRate, int payloadSize, double invalidTokenRatio, int users,
+                              int maxOutstanding, int gatewayPort, Path reportDir, Path baseline) {
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                int separator = arg.indexOf('=');
+                String value = arg.substring(separator + 1);
+                if (!value.isBlank()) {
+                    options.put(arg.substring(2, separator), value);
+                }
+            }
+        }
+        return new LoadTestOptions(
+                Integer.parseInt(options.getOrDefault("rate", "500")),
+                StubBackend.duration(options.getOrDefault("duration", "60s")),
+                StubBackend.duration(options.getOrDefault("warmup", "10s")),
+                StubBackend.duration(options.getOrDefault("latency", "20ms")),
+                StubBackend.duration(options.getOrDefault("jitter", "10ms")),
+                Double.parseDouble(options.getOrDefault("error-rate", "0")),
+                Integer.parseInt(options.getOrDefault("payload-size", "2048")),
+                Double.parseDouble(options.getOrDefault("invalid-token-ratio", "0.1")),
+                Integer.parseInt(options.getOrDefault("users", "1000")),
+                Integer.parseInt(options.getOrDefault("max-outstanding", "10000")),
+                Integer.parseInt(options.getOrDefault("gateway-port", "18080")),
+                Path.of(options.getOrDefault("report-dir", "build/reports/loadtest")),
+                options.containsKey("baseline") ? Path.of(options.get("baseline")) : null);
+    }
+
+    /**
+     * 결과 파일에 함께 기록할 설정 값
+     */
+    Map<String, Object> describe() {
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("rate", rate);
+        config.put("durationSeconds", duration.toSeconds());
+        config.put("warmupSeconds", warmup.toSeconds());
+        config.put("stubLatencyMs", latency.toMillis());
+        config.put("stubJitterMs", jitter.toMillis());
+        config.put("stubErrorRate", errorRate);
+        config.put("payloadSize", payloadSize);
+        config.put("invalidTokenRatio", invalidTokenRatio);
+        config.put("users", users);
+        config.put("maxOutstanding", maxOutstanding);
+        return config;
+    }
+}
@@ -0,0 +1,117 @@
+package com.deefacto.api_gateway.loadtest;
+
+import org.springframework.http.HttpHeaders;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 열린 모델(open model) 부하 발생기
+ *
+ * 응답을 기다렸다가 다음 요청을 보내는 닫힌 모델과 달리,
+ * 응답 속도와 관계없이 정해진 도착률(초당 요청 수)로 요청을 보냄
+ *
+ * - i번째 요청의 예정 시각 = 시작 시각 + i * (1초 / rate), 늦어지면 밀린 요청을 바로 보냄
+ * - 응답 시간은 예정 시각부터 측정 (게이트웨이가 느려져 밀린 시간도 포함, coordinated omission 방지)
+ * - 응답을 기다리는 요청이 maxOutstanding을 넘으면 보내지 않고 dropped로 기록 (부하 발생기 자체 보호)
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+final class OpenLoadDriver {
+
+    /**
+     * 응답을 기다리는 최대 시간 (초과 시 실패로 기록, 라우트 타임아웃보다 길게)
+     */
+    private static final Duration RESPONSE_TIMEOUT = Duration.ofSeconds(90);
+
+    private final HttpClient client;
+    private final ConnectionProvider connections;
+    private final RequestMix mix;
+    private final int maxOutstanding;
+    private final AtomicInteger outstanding = new AtomicInteger();
+
+    OpenLoadDriver(int gatewayPort, RequestMix mix, int maxOutstanding) {
+        this.connections = ConnectionProvider.builder("loadtest")
+                .maxConnections(maxOutstanding)
+                .pendingAcquireMaxCount(-1)
+                .build();
+        this.client = HttpClient.create(connections)
+                .baseUrl("http://localhost:" + gatewayPort)
+                .responseTimeout(RESPONSE_TIMEOUT);
+        this.mix = mix;
+        this.maxOutstanding = maxOutstanding;
+    }
+
+    /**
+     * 정해진 시간 동안 일정한 도착률로 요청을 보내고, 남은 응답을 모두 받을 때까지 대기
+     *
+     * @param rate 초당 요청 수
+     * @param duration 요청을 보내는 시간
+     * @param report 결과를 기록할 대상
+     */
+    void run(int rate, Duration duration, LatencyReport report) {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, rate);
+        long total = duration.toNanos() / intervalNanos;
+
+        report.start();
+        long start = System.nanoTime();
+        for (long i = 0; i < total; i++) {
+            long intended = start + i * intervalNanos;
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            send(mix.next(), intended, report);
+        }
+        awaitOutstanding();
+        report.stop();
+    }
+
+    /**
+     * 요청 한 건 전송 (응답은 비동기로 기록)
+     */
+    private void send(RequestMix.Target target, long intendedNanos, LatencyReport report) {
+        if (outstanding.incrementAndGet() > maxOutstanding) {
+            outstanding.decrementAndGet();
+            report.recordDropped();
+            return;
+        }
+        client.headers(headers -> {
+                    if (target.authorization() != null) {
+                        headers.set(HttpHeaders.AUTHORIZATION, target.authorization());
+                    }
+                })
+                .get()
+                .uri(target.path())
+                // 본문까지 다 받은 뒤 상태 코드 반환 (수신 버퍼는 reactor-netty가 해제)
+                .response((response, body) -> body.then(Mono.just(response.status().code())))
+                .next()
+                .doFinally(signal -> outstanding.decrementAndGet())
+                .subscribe(
+                        status -> report.record(target.kind(), status, System.nanoTime() - intendedNanos),
+                        error -> report.recordFailure(target.kind(), System.nanoTime() - intendedNanos));
+    }
+
+    /**
+     * 보낸 요청의 응답을 모두 받을 때까지 대기 (최대 RESPONSE_TIMEOUT)
+     */
+    private void awaitOutstanding() {
+        long deadline = System.nanoTime() + RESPONSE_TIMEOUT.toNanos();
+        while (outstanding.get() > 0 && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+    }
+
+    /**
+     * 연결 풀 정리
+     */
+    void close() {
+        connections.disposeLater().block(Duration.ofSeconds(10));
+    }
+}
@@ -0,0 +1,45 @@
+package com.deefacto.api_gateway.loadtest;
+
+/**
+ * 부하 테스트 요청 종류 (종류별로 기대 응답과 지연 분포를 따로 집계)
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+enum RequestKind {
+
+    /**
+     * 유효한 토큰으로 인증이 필요한 경로 호출 (기대: 2xx)
+     */
+    AUTHENTICATED("authenticated"),
+
+    /**
+     * 잘못된 토큰(만료/서명 불일치/형식 오류/없음)으로 인증이 필요한 경로 호출 (기대: 401)
+     */
+    INVALID_TOKEN("invalid-token"),
+
+    /**
+     * 인증 제외 경로 호출 (기대: 2xx)
+     */
+    PUBLIC("public");
+
+    private final String tag;
+
+    RequestKind(String tag) {
+        this.tag = tag;
+    }
+
+    /**
+     * 결과 파일에 쓰는 이름
+     */
+    String tag() {
+        return tag;
+    }
+
+    /**
+     * 응답 상태 코드가 이 종류의 기대 결과인지 확인
+     */
+    boolean expects(int status) {
+        return this == INVALID_TOKEN ? status == 401 : status >= 200 && status < 300;
+    }
+}
@@ -0,0 +1,74 @@
+package com.deefacto.api_gateway.loadtest;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 부하 테스트 요청 구성
+ *
+ * 7개 라우트에 가중치를 두어 요청을 나누고,
+ * 인증이 필요한 경로는 invalidTokenRatio 비율만큼 잘못된 토큰으로 보냄
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+final class RequestMix {
+
+    /**
+     * 요청 한 건의 대상
+     *
+     * @param path 요청 경로
+     * @param kind 요청 종류 (기대 응답)
+     * @param authorization Authorization 헤더 값 (없으면 null)
+     */
+    record Target(String path, RequestKind kind, String authorization) {
+    }
+
+    /**
+     * 경로별 가중치 (public: 인증 제외 경로)
+     */
+    private record Entry(String path, boolean isPublic, int weight) {
+    }
+
+    private static final List<Entry> ENTRIES = List.of(
+            new Entry("/sensors/latest", false, 30),
+            new Entry("/home/summary", false, 20),
+            new Entry("/noti/unread", false, 15),
+            new Entry("/user/me", false, 10),
+            new Entry("/reports/daily", false, 5),
+            new Entry("/chatbot/ping", false, 5),
+            new Entry("/auth/login/check", true, 15));
+
+    private static final int TOTAL_WEIGHT = ENTRIES.stream().mapToInt(Entry::weight).sum();
+
+    private final TokenFactory tokens;
+    private final double invalidTokenRatio;
+
+    RequestMix(TokenFactory tokens, double invalidTokenRatio) {
+        this.tokens = tokens;
+        this.invalidTokenRatio = invalidTokenRatio;
+    }
+
+    /**
+     * 다음 요청 대상 선택
+     */
+    Target next() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int pick = random.nextInt(TOTAL_WEIGHT);
+        Entry entry = ENTRIES.get(ENTRIES.size() - 1);
+        for (Entry candidate : ENTRIES) {
+            pick -= candidate.weight();
+            if (pick < 0) {
+                entry = candidate;
+                break;
+            }
+        }
+        if (entry.isPublic()) {
+            return new Target(entry.path(), RequestKind.PUBLIC, null);
+        }
+        if (random.nextDouble() < invalidTokenRatio) {
+            return new Target(entry.path(), RequestKind.INVALID_TOKEN, tokens.invalidHeader());
+        }
+        return new Target(entry.path(), RequestKind.AUTHENTICATED, tokens.validHeader());
+    }
+}
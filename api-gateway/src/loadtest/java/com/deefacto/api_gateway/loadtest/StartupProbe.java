@@ -0,0 +1,229 @@
+package com.deefacto.api_gateway.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 실행 방식별 게이트웨이 시작 시간 / 메모리(RSS) 측정
+ *
+ * 빌드된 bootJar를 기준으로 아래 방식을 차례로 여러 번 실행하고,
+ * 프로세스 시작부터 /actuator/health가 200을 반환할 때까지의 시간과 그 시점의 RSS를 기록
+ * - jar: java -jar (기존 실행 방식)
+ * - cds: 압축 해제한 레이어 jar + AppCDS 아카이브 (아카이브는 측정 전에 한 번 학습 실행으로 생성)
+ * - aot, aot+cds: -Paot로 빌드한 경우 Spring AOT 코드 사용 (-Dspring.aot.enabled=true)
+ * - native: GraalVM 네이티브 이미지가 빌드되어 있는 경우 (./gradlew nativeCompile -Pnative)
+ *
+ * 실행: ./gradlew measureStartup [-Paot] [-Pruns=5]
+ * (각 실행의 출력과 애플리케이션 로그 파일은 build/startup 아래에 남음)
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+public final class StartupProbe {
+
+    /**
+     * 측정용 게이트웨이 포트 (실행은 한 번에 하나씩)
+     */
+    private static final int PORT = 18090;
+
+    /**
+     * 시작을 기다리는 최대 시간
+     */
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private static final HttpClient HTTP = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofMillis(200))
+            .build();
+
+    private StartupProbe() {
+    }
+
+    /**
+     * 측정할 실행 방식
+     *
+     * @param name 결과 파일에 쓰는 이름
+     * @param command 실행 명령 (애플리케이션 인자 제외)
+     */
+    private record Variant(String name, List<String> command) {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Map<String, String> options = parse(args);
+        Path jar = Path.of(options.get("jar")).toAbsolutePath();
+        Path workDir = Path.of(options.getOrDefault("work-dir", "build/startup")).toAbsolutePath();
+        Path reportDir = Path.of(options.getOrDefault("report-dir", "build/reports/startup"));
+        boolean aot = Boolean.parseBoolean(options.getOrDefault("aot", "false"));
+        int runs = Integer.parseInt(options.getOrDefault("runs", "5"));
+        List<String> appArgs = List.of("--spring.profiles.active=" + options.getOrDefault("profile", "local"),
+                "--server.port=" + PORT);
+        String java = ProcessHandle.current().info().command().orElse("java");
+
+        Files.createDirectories(workDir);
+        Path extracted = workDir.resolve("extracted");
+        Path extractedJar = extracted.resolve(jar.getFileName());
+        Path archive = workDir.resolve("application.jsa");
+        List<String> aotFlags = aot ? List.of("-Dspring.aot.enabled=true") : List.of();
+
+        // 레이어 jar 압축 해제 (app jar + lib/, Dockerfile과 같은 구조) 후 AppCDS 학습 실행
+        exec(workDir.resolve("extract.log"), java, "-Djarmode=tools", "-jar", jar.toString(),
+                "extract", "--destination", extracted.toString(), "--force");
+        List<String> training = new ArrayList<>(List.of(java, "-XX:ArchiveClassesAtExit=" + archive,
+                "-Dspring.context.exit=onRefresh"));
+        training.addAll(aotFlags);
+        training.addAll(List.of("-jar", extractedJar.toString()));
+        training.addAll(appArgs);
+        exec(workDir.resolve("training.log"), training.toArray(String[]::new));
+
+        List<Variant> variants = new ArrayList<>();
+        variants.add(new Variant("jar", List.of(java, "-jar", jar.toString())));
+        if (aot) {
+            variants.add(new Variant("aot", List.of(java, "-Dspring.aot.enabled=true", "-jar", jar.toString())));
+        }
+        List<String> cds = new ArrayList<>(List.of(java, "-XX:SharedArchiveFile=" + archive));
+        cds.addAll(aotFlags);
+        cds.addAll(List.of("-jar", extractedJar.toString()));
+        variants.add(new Variant(aot ? "aot+cds" : "cds", cds));
+        if (options.containsKey("native") && Files.isExecutable(Path.of(options.get("native")))) {
+            variants.add(new Variant("native", List.of(options.get("native"))));
+        }
+
+        Map<String, Object> results = new LinkedHashMap<>();
+        for (Variant variant : variants) {
+            long[] startupMillis = new long[runs];
+            long[] rssKb = new long[runs];
+            for (int run = 0; run < runs; run++) {
+                List<String> command = new ArrayList<>(variant.command());
+                command.addAll(appArgs);
+                long[] measured = measure(command, workDir.resolve(variant.name().replace('+', '-') + "-" + run + ".log"));
+                startupMillis[run] = measured[0];
+                rssKb[run] = measured[1];
+                System.out.printf("%-8s #%d: startup=%dms, rss=%dMB%n", variant.name(), run + 1,
+                        measured[0], measured[1] / 1024);
+            }
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("startupMsMedian", median(startupMillis));
+            result.put("startupMsMin", Arrays.stream(startupMillis).min().orElse(0));
+            long rss = median(rssKb);
+            result.put("rssMbMedian", rss < 0 ? -1 : rss / 1024);
+            results.put(variant.name(), result);
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("timestamp", LocalDateTime.now().toString());
+        report.put("jar", jar.getFileName().toString());
+        report.put("runs", runs);
+        report.put("results", results);
+
+        Files.createDirectories(reportDir);
+        String name = "startup-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".json";
+        MAPPER.writeValue(reportDir.resolve(name).toFile(), report);
+        MAPPER.writeValue(reportDir.resolve("latest.json").toFile(), report);
+        System.out.println(MAPPER.writeValueAsString(report));
+    }
+
+    /**
+     * 한 번 실행하여 health 응답까지 걸린 시간(ms)과 그 시점의 RSS(KB, 측정 불가 시 -1) 반환
+     */
+    private static long[] measure(List<String> command, Path log) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .directory(log.getParent().toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        try {
+            HttpRequest health = HttpRequest.newBuilder(URI.create("http://localhost:" + PORT + "/actuator/health"))
+                    .timeout(Duration.ofSeconds(1))
+                    .build();
+            long deadline = start + STARTUP_TIMEOUT.toNanos();
+            while (System.nanoTime() < deadline) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("게이트웨이가 시작 중 종료되었습니다 (로그: " + log + ")");
+                }
+                try {
+                    if (HTTP.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                        return new long[]{elapsed, rssKb(process.pid())};
+                    }
+                } catch (IOException e) {
+                    // 아직 포트가 열리지 않음
+                }
+                Thread.sleep(20);
+            }
+            throw new IllegalStateException("게이트웨이 시작 시간 초과 (로그: " + log + ")");
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    /**
+     * 프로세스 RSS (Linux /proc 기준, 다른 OS는 -1)
+     */
+    private static long rssKb(long pid) {
+        Path status = Path.of("/proc", String.valueOf(pid), "status");
+        try {
+            for (String line : Files.readAllLines(status)) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("[^0-9]", ""));
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // /proc가 없는 환경
+        }
+        return -1;
+    }
+
+    /**
+     * 명령 실행 후 종료까지 대기 (실패 시 예외)
+     */
+    private static void exec(Path log, String... command) throws IOException, InterruptedException {
+        Process process = new ProcessBuilder(command)
+                .directory(log.getParent().toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        if (process.waitFor() != 0) {
+            throw new IllegalStateException("실행 실패: " + String.join(" ", command) + " (로그: " + log + ")");
+        }
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                int separator = arg.indexOf('=');
+                options.put(arg.substring(2, separator), arg.substring(separator + 1));
+            }
+        }
+        return options;
+    }
+}
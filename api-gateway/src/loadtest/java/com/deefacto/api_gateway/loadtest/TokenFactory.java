@@ -0,0 +1,85 @@
+package com.deefacto.api_gateway.loadtest;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 부하 테스트용 JWT 생성기
+ *
+ * application-loadtest.yml의 jwt.secret-key와 같은 키로 사용자별 유효 토큰을 미리 만들고,
+ * 인증 실패 경로를 측정하기 위한 만료/서명 불일치 토큰을 함께 제공
+ * (claim 형식은 인증 서비스 발급 토큰과 동일: UserId, EmployeeId, role)
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+final class TokenFactory {
+
+    /**
+     * application-loadtest.yml의 jwt.secret-key와 같은 값이어야 함
+     */
+    static final String SECRET = Base64.getEncoder().encodeToString(
+            "loadtest-secret-key-minimum-32-characters-long".getBytes(StandardCharsets.UTF_8));
+
+    /**
+     * 서명 불일치 토큰 생성용 다른 키
+     */
+    private static final String OTHER_SECRET = Base64.getEncoder().encodeToString(
+            "another-secret-key-that-does-not-match-the-gateway".getBytes(StandardCharsets.UTF_8));
+
+    private final String[] validTokens;
+    private final String expiredToken;
+    private final String badSignatureToken;
+
+    /**
+     * @param users 유효 토큰을 만들 사용자 수 (요청마다 이 중 하나를 무작위로 사용)
+     */
+    TokenFactory(int users) {
+        Instant expiresAt = Instant.now().plus(Duration.ofHours(24));
+        validTokens = new String[Math.max(1, users)];
+        for (int i = 0; i < validTokens.length; i++) {
+            validTokens[i] = token(SECRET, i + 1L, expiresAt);
+        }
+        expiredToken = token(SECRET, 1L, Instant.now().minus(Duration.ofMinutes(5)));
+        badSignatureToken = token(OTHER_SECRET, 1L, expiresAt);
+    }
+
+    /**
+     * 무작위 사용자의 유효한 Authorization 헤더 값
+     */
+    String validHeader() {
+        return "Bearer " + validTokens[ThreadLocalRandom.current().nextInt(validTokens.length)];
+    }
+
+    /**
+     * 401이 나와야 하는 Authorization 헤더 값 (만료 / 서명 불일치 / 형식 오류 / 없음 중 하나, 없음은 null)
+     */
+    String invalidHeader() {
+        return switch (ThreadLocalRandom.current().nextInt(4)) {
+            case 0 -> "Bearer " + expiredToken;
+            case 1 -> "Bearer " + badSignatureToken;
+            case 2 -> "Basic dXNlcjpwYXNz";
+            default -> null;
+        };
+    }
+
+    private static String token(String secret, long userId, Instant expiresAt) {
+        SecretKey key = Keys.hmacShaKeyFor(Base64.getDecoder().decode(secret));
+        return Jwts.builder()
+                .claim("UserId", userId)
+                .claim("EmployeeId", String.format("E%05d", userId))
+                .claim("role", "USER")
+                .issuedAt(Date.from(expiresAt.minus(Duration.ofHours(24))))
+                .expiration(Date.from(expiresAt))
+                .signWith(key)
+                .compact();
+    }
+}
@@ -0,0 +1,414 @@
+package com.deefacto.api_gateway.batch;
+
+import com.deefacto.api_gateway.config.BatchProperties;
+import com.deefacto.api_gateway.config.LoadSheddingProperties;
+import com.deefacto.api_gateway.config.ResilienceProperties;
+import com.deefacto.api_gateway.filter.JwtAuthFilter;
+import com.deefacto.api_gateway.metrics.RouteMetrics;
+import com.deefacto.api_gateway.policy.AuthPolicy;
+import com.deefacto.api_gateway.policy.AuthPolicyMatcher;
+import com.deefacto.api_gateway.resilience.ResilienceRegistry;
+import com.deefacto.api_gateway.resilience.UpstreamPermit;
+import com.deefacto.api_gateway.shedding.LoadShedder;
+import com.deefacto.api_gateway.util.GatewayRoutes;
+import com.deefacto.api_gateway.util.GatewayWebClients;
+import com.deefacto.api_gateway.util.JwtPrincipal;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.gateway.filter.headers.HttpHeadersFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.route.RouteLocator;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebExchangeDecorator;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 배치 하위 요청 실행기
+ *
+ * 하위 요청마다 게이트웨이 라우트 조건(predicates)으로 라우트를 찾고,
+ * 해당 라우트의 인증 정책을 확인한 뒤 사용자 헤더를 넣어 하위 서비스를 병렬로 호출
+ *
+ * - 하위 요청은 GET만 지원 (배치 재시도/부분 실패 시에도 부작용이 없도록)
+ * - gateway.batch.routes에 등록된 라우트로만 보낼 수 있음 (배치 라우트 자신은 제외)
+ * - 하위 요청 하나가 실패/시간 초과되어도 나머지 결과는 그대로 반환 (부분 결과)
+ * - 일반 라우팅과 같은 보호 장치를 하위 요청마다 적용
+ *   - 과부하 차단: 하위 요청 경로/라우트 등급이 차단 중이면 해당 하위 요청만 503
+ *   - 서킷 브레이커/동시 요청 제한 (ResilienceRegistry): 허가를 못 받으면 해당 하위 요청만 503,
+ *     응답 헤더를 받으면 결과를 반영하고 허가 반납 (ResilienceFilter와 같은 기준)
+ *   - 하위 서비스 응답 시간 메트릭 (gateway.route.upstream.latency, 응답 헤더까지)
+ * - 호출에는 Gateway HttpClient와 라우트 connect-timeout을 사용 (GatewayWebClients)
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+@Component
+@Slf4j
+public class BatchDispatcher {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private final BatchProperties properties;
+    private final RouteLocator routeLocator;
+    private final AuthPolicyMatcher policyMatcher;
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<List<HttpHeadersFilter>> headersFilters;
+    private final MeterRegistry registry;
+    private final GatewayWebClients webClients;
+    private final ResilienceProperties resilienceProperties;
+    private final ResilienceRegistry resilienceRegistry;
+    private final LoadSheddingProperties loadSheddingProperties;
+    private final LoadShedder loadShedder;
+    private final RouteMetrics routeMetrics;
+
+    private final Map<String, Counter> partsByKey = new ConcurrentHashMap<>();
+
+    public BatchDispatcher(BatchProperties properties, RouteLocator routeLocator, AuthPolicyMatcher policyMatcher,
+                           ObjectMapper objectMapper, ObjectProvider<List<HttpHeadersFilter>> headersFilters,
+                           MeterRegistry registry, GatewayWebClients webClients,
+                           ResilienceProperties resilienceProperties, ResilienceRegistry resilienceRegistry,
+                           LoadSheddingProperties loadSheddingProperties, LoadShedder loadShedder,
+                           RouteMetrics routeMetrics) {
+        this.properties = properties;
+        this.routeLocator = routeLocator;
+        this.policyMatcher = policyMatcher;
+        this.objectMapper = objectMapper;
+        this.headersFilters = headersFilters;
+        this.registry = registry;
+        this.webClients = webClients;
+        this.resilienceProperties = resilienceProperties;
+        this.resilienceRegistry = resilienceRegistry;
+        this.loadSheddingProperties = loadSheddingProperties;
+        this.loadShedder = loadShedder;
+        this.routeMetrics = routeMetrics;
+    }
+
+    /**
+     * 하위 요청을 모두 병렬로 실행하고, 완료되는 순서대로 결과를 내보냄
+     *
+     * @param exchange 배치 요청 (인증 완료)
+     * @param principal 배치 요청의 검증된 토큰 정보
+     * @param parts 하위 요청 목록
+     * @return 하위 요청 결과 (오류도 결과로 변환되므로 Flux 자체는 실패하지 않음)
+     */
+    public Flux<BatchPartResult> dispatch(ServerWebExchange exchange, JwtPrincipal principal,
+                                          List<BatchRequest.Part> parts) {
+        HttpHeaders baseHeaders = baseHeaders(exchange);
+        return Flux.range(0, parts.size())
+                .flatMap(index -> {
+                    BatchRequest.Part part = parts.get(index);
+                    String id = part.id() != null ? part.id() : String.valueOf(index);
+                    return dispatch(exchange, principal, baseHeaders, id, part);
+                }, parts.size());
+    }
+
+    private Mono<BatchPartResult> dispatch(ServerWebExchange exchange, JwtPrincipal principal,
+                                           HttpHeaders baseHeaders, String id, BatchRequest.Part part) {
+        URI target = parsePath(part.path());
+        if (target == null) {
+            record(GatewayRoutes.UNKNOWN, "bad_request");
+            return Mono.just(BatchPartResult.failed(id, HttpStatus.BAD_REQUEST.value(), null, "잘못된 경로입니다"));
+        }
+        long start = System.nanoTime();
+        return resolveRoute(exchange, target)
+                .flatMap(route -> {
+                    AuthPolicy policy = policyMatcher.match(route.getId(), target.getPath());
+                    if (!policy.isPublic() && !policy.permits(principal)) {
+                        record(route.getId(), "forbidden");
+                        return Mono.just(BatchPartResult.failed(id, HttpStatus.FORBIDDEN.value(), null, "접근 권한이 없습니다"));
+                    }
+                    if (isShedding(route, target)) {
+                        record(route.getId(), "shed");
+                        return Mono.just(BatchPartResult.failed(id, HttpStatus.SERVICE_UNAVAILABLE.value(), null,
+                                "요청이 많아 잠시 후 다시 시도해 주세요"));
+                    }
+                    HttpHeaders headers = partHeaders(baseHeaders, part, principal, policy);
+                    return call(route, target, headers, id, part, start);
+                })
+                .switchIfEmpty(Mono.fromSupplier(() -> {
+                    record(GatewayRoutes.UNKNOWN, "not_found");
+                    return BatchPartResult.failed(id, HttpStatus.NOT_FOUND.value(), null, "라우트를 찾을 수 없습니다");
+                }));
+    }
+
+    /**
+     * 하위 서비스 호출 (응답 본문까지 모두 받음, 실패는 4xx/5xx 결과로 변환)
+     *
+     * 보호 장치 허가와 응답 시간 메트릭은 응답 헤더를 받은 시점에 반영 (본문 수신 시간 제외)
+     * 응답 헤더 전에 실패/시간 초과되면 실패로, 배치 요청이 취소되면 기록 없이 반납
+     */
+    private Mono<BatchPartResult> call(Route route, URI target, HttpHeaders headers, String id,
+                                       BatchRequest.Part part, long start) {
+        URI routeUri = route.getUri();
+        if (!"http".equals(routeUri.getScheme()) && !"https".equals(routeUri.getScheme())) {
+            record(route.getId(), "error");
+            return Mono.just(BatchPartResult.failed(id, HttpStatus.BAD_GATEWAY.value(), null, "배치로 호출할 수 없는 라우트입니다"));
+        }
+        URI uri = UriComponentsBuilder.fromUri(target)
+                .scheme(routeUri.getScheme())
+                .host(routeUri.getHost())
+                .port(routeUri.getPort())
+                .build(true)
+                .toUri();
+
+        Duration timeout = properties.partTimeoutFor(part.timeoutMs());
+        Duration routeTimeout = GatewayRoutes.responseTimeout(route);
+        if (routeTimeout != null && routeTimeout.compareTo(timeout) < 0) {
+            timeout = routeTimeout;
+        }
+
+        UpstreamPermit permit = resilienceProperties.isEnabled()
+                ? resilienceRegistry.forRoute(route.getId()).tryAcquire()
+                : UpstreamPermit.unrestricted();
+        if (!permit.isGranted()) {
+            boolean circuitOpen = permit.rejection() == UpstreamPermit.Rejection.CIRCUIT_OPEN;
+            record(route.getId(), circuitOpen ? "circuit_open" : "rejected");
+            return Mono.just(BatchPartResult.failed(id, HttpStatus.SERVICE_UNAVAILABLE.value(), null, circuitOpen
+                    ? "서비스를 일시적으로 사용할 수 없습니다"
+                    : "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요"));
+        }
+
+        RouteMetrics.RouteMeters meters = routeMetrics.meters(route.getId());
+        AtomicBoolean answered = new AtomicBoolean();
+        long upstreamStart = System.nanoTime();
+        int maxBodySize = (int) Math.min(properties.getMaxPartBodySize().toBytes(), Integer.MAX_VALUE);
+        return webClients.forRoute(route).method(HttpMethod.GET)
+                .uri(uri)
+                .headers(requestHeaders -> requestHeaders.addAll(headers))
+                .exchangeToMono(response -> {
+                    answered.set(true);
+                    meters.upstream(response.statusCode().value(), true, System.nanoTime() - upstreamStart);
+                    permit.release(response.statusCode().is5xxServerError());
+                    return DataBufferUtils.join(response.bodyToFlux(DataBuffer.class), maxBodySize)
+                            .map(BatchDispatcher::toBytes)
+                            .defaultIfEmpty(EMPTY)
+                            .map(body -> {
+                                MediaType contentType = response.headers().contentType().orElse(null);
+                                record(route.getId(), response.statusCode().isError() ? "error" : "success");
+                                return new BatchPartResult(id, response.statusCode().value(),
+                                        contentType != null ? contentType.toString() : null,
+                                        elapsedMillis(start), body(contentType, body), null);
+                            });
+                })
+                .timeout(timeout, Mono.error(TimeoutException::new))
+                .doOnError(e -> {
+                    if (!answered.get()) {
+                        meters.upstream(0, false, System.nanoTime() - upstreamStart);
+                        permit.release(true);
+                    }
+                })
+                .doOnCancel(() -> {
+                    if (!answered.get()) {
+                        meters.upstream(0, false, System.nanoTime() - upstreamStart);
+                        permit.cancel();
+                    }
+                })
+                .onErrorResume(e -> Mono.just(failure(route.getId(), id, e, start)));
+    }
+
+    /**
+     * 하위 요청 경로/라우트 등급이 과부하로 차단 중인지 확인 (LoadSheddingFilter와 같은 등급 기준)
+     */
+    private boolean isShedding(Route route, URI target) {
+        return loadSheddingProperties.isEnabled()
+                && loadShedder.isShedding(loadShedder.priorityOf(route.getId(), PathContainer.parsePath(target.getRawPath())));
+    }
+
+    private static byte[] toBytes(DataBuffer buffer) {
+        byte[] bytes = new byte[buffer.readableByteCount()];
+        buffer.read(bytes);
+        DataBufferUtils.release(buffer);
+        return bytes;
+    }
+
+    /**
+     * 실패한 하위 요청의 결과 (시간 초과 504, 그 외 502)
+     */
+    private BatchPartResult failure(String routeId, String id, Throwable e, long start) {
+        if (e instanceof TimeoutException) {
+            record(routeId, "timeout");
+            return BatchPartResult.failed(id, HttpStatus.GATEWAY_TIMEOUT.value(), elapsedMillis(start), "응답 시간이 초과되었습니다");
+        }
+        record(routeId, "error");
+        String message;
+        if (e instanceof WebClientRequestException) {
+            message = "하위 서비스에 연결할 수 없습니다";
+        } else if (e instanceof DataBufferLimitException) {
+            message = "응답이 너무 큽니다";
+        } else {
+            message = "하위 요청 처리 중 오류가 발생했습니다";
+        }
+        log.debug("BatchDispatcher - 하위 요청 실패: route={}, id={}, reason={}", routeId, id, e.toString());
+        return BatchPartResult.failed(id, HttpStatus.BAD_GATEWAY.value(), elapsedMillis(start), message);
+    }
+
+    /**
+     * 하위 요청 경로에 맞는 라우트 조회 (RoutePredicateHandlerMapping과 같은 순서/조건)
+     *
+     * 라우트 조건이 exchange 속성에 값을 캐시하므로 하위 요청마다 별도 속성을 가진 exchange로 확인
+     */
+    private Mono<Route> resolveRoute(ServerWebExchange exchange, URI target) {
+        ServerHttpRequest request = exchange.getRequest().mutate()
+                .method(HttpMethod.GET)
+                .uri(exchange.getRequest().getURI().resolve(target))
+                .build();
+        Map<String, Object> attributes = new ConcurrentHashMap<>();
+        ServerWebExchange probe = new ServerWebExchangeDecorator(exchange) {
+            @Override
+            public ServerHttpRequest getRequest() {
+                return request;
+            }
+
+            @Override
+            public Map<String, Object> getAttributes() {
+                return attributes;
+            }
+        };
+        return routeLocator.getRoutes()
+                .filter(route -> properties.getRoutes().contains(route.getId()))
+                .concatMap(route -> Mono.from(route.getPredicate().apply(probe))
+                        .filter(Boolean::booleanValue)
+                        .map(matched -> route))
+                .next();
+    }
+
+    /**
+     * 하위 요청 경로 검증 (게이트웨이 기준 절대 경로 + 쿼리만 허용, 외부 URL/상위 경로 이동 불가)
+     *
+     * @return 정규화된 경로, 허용되지 않는 값이면 null
+     */
+    private static URI parsePath(String path) {
+        if (path == null || !path.startsWith("/") || path.startsWith("//")) {
+            return null;
+        }
+        try {
+            URI uri = new URI(path).normalize();
+            if (uri.getScheme() != null || uri.getRawAuthority() != null
+                    || uri.getRawPath() == null || uri.getRawPath().contains("..")) {
+                return null;
+            }
+            return uri;
+        } catch (URISyntaxException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 모든 하위 요청에 공통으로 보낼 헤더 (Gateway의 HttpHeadersFilter 적용)
+     * 배치 요청 자체의 본문/협상 헤더와 사용자 헤더는 제외 (사용자 헤더는 하위 요청의 정책으로 다시 설정)
+     */
+    private HttpHeaders baseHeaders(ServerWebExchange exchange) {
+        List<HttpHeadersFilter> filters = headersFilters.getIfAvailable();
+        HttpHeaders filtered = filters != null
+                ? HttpHeadersFilter.filterRequest(filters, exchange)
+                : exchange.getRequest().getHeaders();
+        HttpHeaders headers = new HttpHeaders();
+        headers.addAll(filtered);
+        headers.remove(HttpHeaders.HOST);
+        headers.remove(HttpHeaders.CONTENT_LENGTH);
+        headers.remove(HttpHeaders.CONTENT_TYPE);
+        headers.remove(HttpHeaders.TRANSFER_ENCODING);
+        headers.remove(HttpHeaders.ACCEPT);
+        headers.remove(HttpHeaders.ACCEPT_ENCODING);
+        policyMatcher.managedHeaders().forEach(headers::remove);
+        return headers;
+    }
+
+    /**
+     * 하위 요청 하나의 헤더 (추가 헤더 + 라우트 정책에 따른 사용자 헤더)
+     */
+    private HttpHeaders partHeaders(HttpHeaders baseHeaders, BatchRequest.Part part,
+                                    JwtPrincipal principal, AuthPolicy policy) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.addAll(baseHeaders);
+        if (part.headers() != null) {
+            part.headers().forEach((name, value) -> {
+                if (isAllowedPartHeader(name)) {
+                    headers.set(name, value);
+                }
+            });
+        }
+        if (!headers.containsKey(HttpHeaders.ACCEPT)) {
+            headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+        }
+        JwtAuthFilter.putUserHeaders(headers, principal, policy);
+        return headers;
+    }
+
+    /**
+     * 하위 요청별 추가 헤더로 인증/사용자/전송 관련 헤더는 바꿀 수 없음
+     */
+    private boolean isAllowedPartHeader(String name) {
+        if (HttpHeaders.AUTHORIZATION.equalsIgnoreCase(name) || HttpHeaders.HOST.equalsIgnoreCase(name)
+                || HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)
+                || HttpHeaders.TRANSFER_ENCODING.equalsIgnoreCase(name)
+                || HttpHeaders.ACCEPT_ENCODING.equalsIgnoreCase(name)) {
+            return false;
+        }
+        for (String managed : policyMatcher.managedHeaders()) {
+            if (managed.equalsIgnoreCase(name)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 하위 응답 본문 (JSON이면 JSON 값 그대로, 그 외에는 문자열)
+     */
+    private Object body(MediaType contentType, byte[] body) {
+        if (body.length == 0) {
+            return null;
+        }
+        if (contentType != null && (MediaType.APPLICATION_JSON.isCompatibleWith(contentType)
+                || contentType.getSubtype().endsWith("+json"))) {
+            try {
+                return objectMapper.readTree(body);
+            } catch (IOException e) {
+                // JSON 형식이 아니면 문자열로 전달
+            }
+        }
+        Charset charset = contentType != null && contentType.getCharset() != null
+                ? contentType.getCharset() : StandardCharsets.UTF_8;
+        return new String(body, charset);
+    }
+
+    private static long elapsedMillis(long start) {
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    private void record(String routeTag, String outcome) {
+        partsByKey.computeIfAbsent(routeTag + '\0' + outcome, key -> Counter.builder("gateway.batch.parts")
+                .description("배치 하위 요청 결과별 수")
+                .tag("route", routeTag)
+                .tag("outcome", outcome)
+                .register(registry)).increment();
+    }
+}
@@ -0,0 +1,26 @@
+package com.deefacto.api_gateway.batch;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 하위 요청 하나의 결과 (응답 NDJSON의 한 줄)
+ *
+ * 예: {"id": "home", "status": 200, "contentType": "application/json", "latencyMs": 12, "body": {...}}
+ *     {"id": "noti", "status": 504, "latencyMs": 2001, "error": "응답 시간이 초과되었습니다"}
+ *
+ * @param id 하위 요청 ID
+ * @param status 하위 응답 상태 코드 (게이트웨이에서 실패한 경우 4xx/5xx)
+ * @param contentType 하위 응답 Content-Type
+ * @param latencyMs 하위 요청 처리 시간 (ms)
+ * @param body JSON 응답이면 JSON 값, 그 외에는 문자열
+ * @param error 게이트웨이에서 실패한 경우 오류 메시지
+ * @author API Gateway Team
+ * @version 1.0
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BatchPartResult(String id, int status, String contentType, Long latencyMs, Object body, String error) {
+
+    static BatchPartResult failed(String id, int status, Long latencyMs, String error) {
+        return new BatchPartResult(id, status, null, latencyMs, null, error);
+    }
+}
@@ -0,0 +1,27 @@
+package com.deefacto.api_gateway.batch;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 배치 요청 본문
+ *
+ * 예: {"requests": [{"id": "home", "path": "/home/summary"}, {"id": "noti", "path": "/noti/unread?size=5", "timeoutMs": 2000}]}
+ *
+ * @param requests 하위 요청 목록
+ * @author API Gateway Team
+ * @version 1.0
+ */
+public record BatchRequest(List<Part> requests) {
+
+    /**
+     * 하위 요청 하나 (GET만 지원)
+     *
+     * @param id 응답에서 하위 요청을 구분하는 ID (없으면 목록 순서)
+     * @param path 게이트웨이 기준 경로 + 쿼리 (예: /sensors/1?from=...)
+     * @param timeoutMs 하위 요청 타임아웃 (ms, 없으면 gateway.batch.part-timeout)
+     * @param headers 추가 요청 헤더 (사용자 헤더/Authorization은 무시됨)
+     */
+    public record Part(String id, String path, Long timeoutMs, Map<String, String> headers) {
+    }
+}
@@ -0,0 +1,81 @@
+package com.deefacto.api_gateway.cache;
+
+import lombok.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 캐시에 저장된 하위 서비스 응답
+ *
+ * 상태 코드, 응답 헤더(홉 단위 헤더/쿠키 제외), 본문, ETag를 보관하는 불변 객체
+ * 여러 요청에서 동시에 읽어도 안전함 (본문 배열은 수정하지 않음)
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+@Value
+public class CachedResponse {
+
+    HttpStatusCode status;
+
+    /**
+     * 읽기 전용 응답 헤더
+     */
+    HttpHeaders headers;
+
+    byte[] body;
+
+    /**
+     * 하위 서비스가 준 ETag 또는 첫 응답에 넣은 본문 해시 ETag (첫 응답에 ETag가 없었으면 null)
+     */
+    String etag;
+
+    /**
+     * 저장 시각 (System.nanoTime, Age 헤더 계산용)
+     */
+    long storedAtNanos;
+
+    /**
+     * 라우트에 설정된 보관 시간
+     */
+    Duration ttl;
+
+    /**
+     * 캐시 용량 계산용 크기 (본문 + 헤더 대략치)
+     */
+    public int weight() {
+        return body.length + 256;
+    }
+
+    /**
+     * 저장 후 지난 시간 (초, Age 헤더 값)
+     */
+    public long ageSeconds() {
+        return Math.max(0, (System.nanoTime() - storedAtNanos) / 1_000_000_000L);
+    }
+
+    /**
+     * If-None-Match 값 중 하나라도 이 응답의 ETag와 일치하는지 확인 (약한 비교)
+     *
+     * @param ifNoneMatch 요청의 If-None-Match 값 목록
+     */
+    public boolean matches(List<String> ifNoneMatch) {
+        if (etag == null) {
+            return false;
+        }
+        String own = stripWeak(etag);
+        for (String candidate : ifNoneMatch) {
+            if ("*".equals(candidate) || own.equals(stripWeak(candidate))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeak(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+}
@@ -0,0 +1,184 @@
+package com.deefacto.api_gateway.cache;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.util.DigestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 하위 서비스 응답을 그대로 전달하면서 본문을 복사해 두는 응답 래퍼
+ *
+ * 본문은 버퍼 단위로 흘려보내며 복사본만 보관하므로 클라이언트 응답이 지연되지 않음
+ * 본문이 최대 크기를 넘거나 스트리밍 응답(writeAndFlushWith)이면 복사를 중단하고 캐시하지 않음
+ *
+ * 하위 서비스가 ETag를 주지 않은 200 응답은 본문 해시로 ETag를 만들어, 캐시 hit과 같은 ETag를 첫 응답에도 넣음
+ * ETag는 응답 헤더를 보내기 전에 정해야 하므로, Content-Length가 최대 크기 이하인 응답만 본문을 모아서 전달
+ * (길이를 모르는 응답은 그대로 흘려보내고 ETag 없이 캐시 -> 캐시 hit에도 ETag 없음)
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+public class CapturingResponse extends ServerHttpResponseDecorator {
+
+    /**
+     * 캐시에 저장하지 않는 응답 헤더 (홉 단위 헤더, 쿠키, 캐시 여부 표시 헤더)
+     */
+    private static final Set<String> EXCLUDED_HEADERS = Set.of(
+            HttpHeaders.CONTENT_LENGTH.toLowerCase(), HttpHeaders.TRANSFER_ENCODING.toLowerCase(),
+            HttpHeaders.CONNECTION.toLowerCase(), HttpHeaders.SET_COOKIE.toLowerCase(),
+            HttpHeaders.DATE.toLowerCase(), HttpHeaders.AGE.toLowerCase(),
+            "keep-alive", "x-cache");
+
+    /**
+     * 캐시 키에 이미 포함된 요청 헤더 (Vary에 이 헤더만 있으면 캐시 가능)
+     */
+    private static final Set<String> KEYED_VARY_HEADERS = Set.of(
+            HttpHeaders.ACCEPT.toLowerCase(), HttpHeaders.ACCEPT_ENCODING.toLowerCase());
+
+    /**
+     * 유저별 캐시 라우트에서 추가로 캐시 키가 대신하는 요청 헤더 (사용자 식별 헤더)
+     */
+    private static final Set<String> PER_USER_VARY_HEADERS = Set.of(
+            HttpHeaders.AUTHORIZATION.toLowerCase(), "x-user-id", "x-employee-id");
+
+    private final int maxBodySize;
+
+    private byte[] body = new byte[1024];
+    private int size;
+    private boolean cacheable = true;
+
+    public CapturingResponse(ServerHttpResponse delegate, int maxBodySize) {
+        super(delegate);
+        this.maxBodySize = maxBodySize;
+    }
+
+    @Override
+    public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+        if (needsGeneratedEtag()) {
+            return DataBufferUtils.join(body, maxBodySize)
+                    .defaultIfEmpty(bufferFactory().wrap(new byte[0]))
+                    .flatMap(joined -> {
+                        capture(joined);
+                        if (cacheable) {
+                            getHeaders().setETag("\"" + DigestUtils.md5DigestAsHex(Arrays.copyOf(this.body, size)) + "\"");
+                        }
+                        return super.writeWith(Mono.just(joined));
+                    });
+        }
+        return super.writeWith(Flux.from(body).doOnNext(this::capture));
+    }
+
+    @Override
+    public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+        cacheable = false;
+        return super.writeAndFlushWith(body);
+    }
+
+    /**
+     * 본문 해시로 ETag를 만들어야 하는 응답인지 확인
+     * (캐시할 수 있는 200 응답, 하위 서비스 ETag 없음, Content-Length가 최대 크기 이하)
+     */
+    private boolean needsGeneratedEtag() {
+        HttpStatusCode status = getStatusCode();
+        HttpHeaders headers = getHeaders();
+        long contentLength = headers.getContentLength();
+        return cacheable && status != null && status.value() == HttpStatus.OK.value()
+                && !headers.containsKey(HttpHeaders.ETAG)
+                && contentLength > 0 && contentLength <= maxBodySize;
+    }
+
+    /**
+     * 버퍼의 읽기 위치를 바꾸지 않고 내용을 복사
+     */
+    private void capture(DataBuffer buffer) {
+        if (!cacheable) {
+            return;
+        }
+        int length = buffer.readableByteCount();
+        if (size + length > maxBodySize) {
+            cacheable = false;
+            body = null;
+            return;
+        }
+        if (size + length > body.length) {
+            body = Arrays.copyOf(body, Math.min(maxBodySize, Math.max(body.length * 2, size + length)));
+        }
+        try (DataBuffer.ByteBufferIterator iterator = buffer.readableByteBuffers()) {
+            while (iterator.hasNext()) {
+                ByteBuffer chunk = iterator.next();
+                int chunkLength = chunk.remaining();
+                chunk.get(body, size, chunkLength);
+                size += chunkLength;
+            }
+        }
+    }
+
+    /**
+     * 전달이 끝난 응답을 캐시 항목으로 변환
+     *
+     * 캐시하는 응답: 200 OK, 최대 크기 이하, Set-Cookie 없음, Cache-Control no-store 아님
+     * (private 응답은 유저별 캐시 라우트에서만 허용)
+     * Vary에 캐시 키로 구분하지 않는 요청 헤더(또는 *)가 있으면 캐시하지 않음
+     *
+     * @param ttl 라우트 보관 시간
+     * @param perUser 유저별 캐시 라우트 여부
+     * @return 캐시 항목, 캐시할 수 없으면 null
+     */
+    public CachedResponse toCachedResponse(Duration ttl, boolean perUser) {
+        HttpStatusCode status = getStatusCode();
+        if (!cacheable || status == null || status.value() != HttpStatus.OK.value()) {
+            return null;
+        }
+        HttpHeaders responseHeaders = getHeaders();
+        if (responseHeaders.containsKey(HttpHeaders.SET_COOKIE)) {
+            return null;
+        }
+        String cacheControl = responseHeaders.getCacheControl();
+        if (cacheControl != null && (cacheControl.contains("no-store")
+                || (!perUser && cacheControl.contains("private")))) {
+            return null;
+        }
+        if (!varyCoveredByKey(responseHeaders.getVary(), perUser)) {
+            return null;
+        }
+
+        byte[] content = Arrays.copyOf(body, size);
+        HttpHeaders headers = new HttpHeaders();
+        responseHeaders.forEach((name, values) -> {
+            if (!EXCLUDED_HEADERS.contains(name.toLowerCase())) {
+                headers.put(name, List.copyOf(values));
+            }
+        });
+        // 하위 서비스가 준 ETag 또는 writeWith에서 첫 응답에 넣은 ETag (둘 다 없으면 null)
+        String etag = responseHeaders.getETag();
+        headers.remove(HttpHeaders.ETAG);
+        return new CachedResponse(status, HttpHeaders.readOnlyHttpHeaders(headers), content, etag,
+                System.nanoTime(), ttl);
+    }
+
+    /**
+     * 응답의 Vary 헤더가 모두 캐시 키로 구분되는 요청 헤더인지 확인
+     */
+    private static boolean varyCoveredByKey(List<String> vary, boolean perUser) {
+        for (String header : vary) {
+            String name = header.trim().toLowerCase();
+            if (!KEYED_VARY_HEADERS.contains(name) && !(perUser && PER_USER_VARY_HEADERS.contains(name))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
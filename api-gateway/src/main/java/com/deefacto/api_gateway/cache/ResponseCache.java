@@ -0,0 +1,105 @@
+package com.deefacto.api_gateway.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import reactor.core.publisher.Sinks;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게이트웨이 응답 캐시
+ *
+ * - 저장소: Caffeine (본문 바이트 기준 용량 제한, 항목마다 라우트별 TTL)
+ * - single-flight: 같은 키의 캐시 miss가 동시에 여러 개 들어오면
+ *   첫 요청(leader)만 하위 서비스를 호출하고, 나머지는 leader의 결과를 기다려 함께 사용
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+public class ResponseCache {
+
+    private final Cache<ResponseCacheKey, CachedResponse> cache;
+
+    /**
+     * 하위 서비스 호출이 진행 중인 키 -> leader의 결과를 전달할 sink
+     */
+    private final Map<ResponseCacheKey, Sinks.One<CachedResponse>> inflight = new ConcurrentHashMap<>();
+
+    /**
+     * @param maxBytes 캐시 최대 용량 (본문 바이트 기준)
+     */
+    public ResponseCache(long maxBytes) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((ResponseCacheKey key, CachedResponse value) -> value.weight())
+                .expireAfter(new Expiry<ResponseCacheKey, CachedResponse>() {
+                    @Override
+                    public long expireAfterCreate(ResponseCacheKey key, CachedResponse value, long currentTime) {
+                        return value.getTtl().toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(ResponseCacheKey key, CachedResponse value,
+                                                  long currentTime, long currentDuration) {
+                        return value.getTtl().toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(ResponseCacheKey key, CachedResponse value,
+                                                long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 만료되지 않은 캐시 응답 조회
+     *
+     * @return 캐시 응답, 없으면 null
+     */
+    public CachedResponse get(ResponseCacheKey key) {
+        return cache.getIfPresent(key);
+    }
+
+    /**
+     * 하위 서비스 호출 진행 중으로 등록
+     *
+     * @param key 캐시 키
+     * @param sink 이 요청이 leader가 될 경우 결과를 전달할 sink
+     * @return 이미 진행 중인 호출의 sink (이 요청은 follower), 없으면 null (이 요청이 leader)
+     */
+    public Sinks.One<CachedResponse> joinInflight(ResponseCacheKey key, Sinks.One<CachedResponse> sink) {
+        return inflight.putIfAbsent(key, sink);
+    }
+
+    /**
+     * leader의 호출이 끝났을 때 결과를 저장하고 기다리던 follower에게 전달
+     *
+     * 캐시 저장 -> 진행 중 목록에서 제거 -> 전달 순서로 처리하여
+     * 그 사이에 들어온 요청도 캐시 또는 sink 중 하나에서 결과를 받도록 함
+     *
+     * @param response 캐시할 응답, 캐시할 수 없는 응답/오류/취소면 null (follower는 직접 호출)
+     */
+    public void complete(ResponseCacheKey key, Sinks.One<CachedResponse> sink, CachedResponse response) {
+        if (response != null) {
+            cache.put(key, response);
+        }
+        inflight.remove(key, sink);
+        if (response != null) {
+            sink.tryEmitValue(response);
+        } else {
+            sink.tryEmitEmpty();
+        }
+    }
+
+    /**
+     * 메트릭 등록용 Caffeine 캐시
+     */
+    public Cache<ResponseCacheKey, CachedResponse> nativeCache() {
+        return cache;
+    }
+}
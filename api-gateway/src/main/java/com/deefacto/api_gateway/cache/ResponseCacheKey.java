@@ -0,0 +1,25 @@
+package com.deefacto.api_gateway.cache;
+
+/**
+ * 응답 캐시 키
+ *
+ * 같은 라우트, 같은 경로+쿼리, 같은 Accept/Accept-Encoding 요청은 같은 응답을 공유하며,
+ * 유저별 캐시(per-user, 기본값) 라우트는 하위 서비스로 전달하는 사용자 식별 값(X-User-Id, X-Employee-Id)까지 같아야 같은 키가 됨
+ *
+ * @param routeId 라우트 ID
+ * @param pathAndQuery 요청 경로 + 쿼리 문자열
+ * @param userId 유저 ID (유저별 캐시가 아니거나 토큰에 없으면 null)
+ * @param employeeId 직원 ID (유저별 캐시가 아니거나 토큰에 없으면 null)
+ * @param accept Accept 헤더 값 (없으면 null)
+ * @param acceptEncoding Accept-Encoding 헤더 값 (없으면 null)
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+public record ResponseCacheKey(String routeId,
+                               String pathAndQuery,
+                               Long userId,
+                               String employeeId,
+                               String accept,
+                               String acceptEncoding) {
+}
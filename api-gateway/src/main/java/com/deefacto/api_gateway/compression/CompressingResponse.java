@@ -0,0 +1,195 @@
+package com.deefacto.api_gateway.compression;
+
+import com.deefacto.api_gateway.config.CompressionProperties;
+import com.deefacto.api_gateway.metrics.CompressionMetrics;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * 응답 본문을 gzip으로 압축하는 응답 래퍼
+ *
+ * 본문 전체를 모으지 않고 DataBuffer 단위로 압축하여 바로 내보냄
+ * - Content-Length가 있으면 그 값으로 최소 크기를 판단
+ * - Content-Length가 없으면(chunked) 최소 크기만큼만 앞부분을 모아서 판단
+ *   (최소 크기에 닿기 전에 본문이 끝나면 압축하지 않고 그대로 전달)
+ * - writeAndFlushWith(스트리밍 응답)는 청크마다 SYNC_FLUSH하여 클라이언트가 바로 받을 수 있게 함
+ *
+ * 이미 인코딩된 응답, 압축 대상이 아닌 Content-Type, Cache-Control: no-transform,
+ * 부분 응답(206)은 압축하지 않음
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+public class CompressingResponse extends ServerHttpResponseDecorator {
+
+    static final String GZIP = "gzip";
+
+    private final CompressionProperties properties;
+    private final CompressionMetrics metrics;
+    private final String routeTag;
+    private final long minResponseSize;
+
+    public CompressingResponse(ServerHttpResponse delegate, CompressionProperties properties,
+                               CompressionMetrics metrics, String routeTag, long minResponseSize) {
+        super(delegate);
+        this.properties = properties;
+        this.metrics = metrics;
+        this.routeTag = routeTag;
+        this.minResponseSize = minResponseSize;
+    }
+
+    @Override
+    public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+        String skipReason = skipReason();
+        if (skipReason != null) {
+            metrics.recordSkipped(routeTag, skipReason);
+            return super.writeWith(body);
+        }
+
+        long contentLength = getHeaders().getContentLength();
+        if (contentLength >= 0) {
+            if (contentLength < minResponseSize) {
+                metrics.recordSkipped(routeTag, "too_small");
+                return super.writeWith(body);
+            }
+            return super.writeWith(compress(Flux.from(body)));
+        }
+
+        // 길이를 모르는 응답: 최소 크기만큼 앞부분을 모은 뒤 압축 여부 결정
+        // (첫 묶음이 최소 크기보다 작으면 본문이 이미 끝난 것)
+        Flux<DataBuffer> decided = Flux.<DataBuffer>from(body)
+                .bufferUntil(new PrefixBoundary(minResponseSize))
+                .switchOnFirst((signal, chunks) -> {
+                    Flux<DataBuffer> buffers = chunks.concatMapIterable(chunk -> chunk);
+                    if (!signal.hasValue()) {
+                        return buffers;
+                    }
+                    if (size(signal.get()) < minResponseSize) {
+                        metrics.recordSkipped(routeTag, "too_small");
+                        return buffers;
+                    }
+                    return compress(buffers);
+                })
+                .doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+        return super.writeWith(decided);
+    }
+
+    @Override
+    public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+        String skipReason = skipReason();
+        if (skipReason != null) {
+            metrics.recordSkipped(routeTag, skipReason);
+            return super.writeAndFlushWith(body);
+        }
+
+        // 스트리밍 응답은 전체 크기를 알 수 없으므로 최소 크기와 관계없이 압축
+        GzipEncoder encoder = new GzipEncoder(properties.getLevel(), bufferFactory());
+        applyCompressedHeaders();
+        Flux<Flux<DataBuffer>> compressed = Flux.<Publisher<? extends DataBuffer>>from(body)
+                .map(chunk -> Flux.<DataBuffer>from(chunk)
+                        .mapNotNull(encoder::encode)
+                        .concatWith(Mono.fromSupplier(encoder::flush)))
+                .concatWith(Mono.just(Mono.fromSupplier(encoder::finish).flux()))
+                .doOnComplete(() -> metrics.recordCompressed(routeTag, encoder.inputBytes(), encoder.outputBytes()))
+                .doFinally(signal -> encoder.close());
+        return super.writeAndFlushWith(compressed);
+    }
+
+    /**
+     * 버퍼 스트림을 gzip으로 압축 (헤더는 첫 버퍼를 내보내기 전, 즉 응답 커밋 전에 설정됨)
+     */
+    private Flux<DataBuffer> compress(Flux<DataBuffer> buffers) {
+        GzipEncoder encoder = new GzipEncoder(properties.getLevel(), bufferFactory());
+        applyCompressedHeaders();
+        return buffers
+                .mapNotNull(encoder::encode)
+                .concatWith(Mono.fromSupplier(encoder::finish))
+                .doOnComplete(() -> metrics.recordCompressed(routeTag, encoder.inputBytes(), encoder.outputBytes()))
+                .doFinally(signal -> encoder.close());
+    }
+
+    /**
+     * 압축하지 않을 응답이면 이유를 반환 (메트릭 태그), 압축할 응답이면 null
+     */
+    private String skipReason() {
+        HttpHeaders headers = getHeaders();
+        if (headers.containsKey(HttpHeaders.CONTENT_ENCODING)) {
+            // 하위 서비스가 이미 압축한 응답은 그대로 전달
+            return "encoded";
+        }
+        HttpStatusCode status = getStatusCode();
+        if (status != null && (status.value() == HttpStatus.PARTIAL_CONTENT.value()
+                || status.value() == HttpStatus.NO_CONTENT.value()
+                || status.value() == HttpStatus.NOT_MODIFIED.value())) {
+            return "status";
+        }
+        List<String> cacheControl = headers.get(HttpHeaders.CACHE_CONTROL);
+        if (cacheControl != null && cacheControl.stream().anyMatch(value -> value.contains("no-transform"))) {
+            return "no_transform";
+        }
+        if (!properties.isCompressible(headers.getContentType())) {
+            return "content_type";
+        }
+        return null;
+    }
+
+    /**
+     * 압축 응답 헤더 설정
+     * 표현이 바뀌므로 길이는 제거하고, 강한 ETag는 약한 ETag로 바꿈
+     */
+    private void applyCompressedHeaders() {
+        HttpHeaders headers = getHeaders();
+        headers.set(HttpHeaders.CONTENT_ENCODING, GZIP);
+        headers.remove(HttpHeaders.CONTENT_LENGTH);
+        headers.remove(HttpHeaders.ACCEPT_RANGES);
+        if (!headers.getVary().contains(HttpHeaders.ACCEPT_ENCODING)) {
+            headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        String etag = headers.getETag();
+        if (etag != null && !etag.startsWith("W/")) {
+            headers.setETag("W/" + etag);
+        }
+    }
+
+    private static long size(List<DataBuffer> buffers) {
+        long size = 0;
+        for (DataBuffer buffer : buffers) {
+            size += buffer.readableByteCount();
+        }
+        return size;
+    }
+
+    /**
+     * 누적 크기가 최소 크기에 닿을 때까지 앞부분을 한 묶음으로 모으고,
+     * 그 이후에는 버퍼마다 바로 내보내는 bufferUntil 조건
+     */
+    private static final class PrefixBoundary implements Predicate<DataBuffer> {
+
+        private final long threshold;
+        private long seen;
+
+        private PrefixBoundary(long threshold) {
+            this.threshold = threshold;
+        }
+
+        @Override
+        public boolean test(DataBuffer buffer) {
+            if (seen >= threshold) {
+                return true;
+            }
+            seen += buffer.readableByteCount();
+            return seen >= threshold;
+        }
+    }
+}
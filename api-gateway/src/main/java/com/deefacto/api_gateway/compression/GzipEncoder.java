@@ -0,0 +1,171 @@
+package com.deefacto.api_gateway.compression;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * 응답 하나에 대한 스트리밍 gzip 인코더
+ *
+ * DataBuffer가 들어올 때마다 Deflater로 바로 압축하여 나온 만큼만 내보내므로
+ * 전체 본문을 메모리에 모으지 않음 (gzip 헤더/트레일러는 RFC 1952 형식으로 직접 작성)
+ *
+ * Deflater는 네이티브 메모리를 사용하므로 완료/오류/취소 시 반드시 close() 호출
+ * Reactor가 신호를 직렬화하지만 취소는 다른 스레드에서 올 수 있어 메서드를 동기화함
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+public final class GzipEncoder {
+
+    private static final byte[] HEADER = {
+            0x1f, (byte) 0x8b,  // magic
+            Deflater.DEFLATED,  // compression method
+            0,                  // flags
+            0, 0, 0, 0,         // mtime
+            0,                  // extra flags
+            (byte) 0xff         // OS (unknown)
+    };
+
+    private final Deflater deflater;
+    private final CRC32 crc = new CRC32();
+    private final DataBufferFactory bufferFactory;
+    private final byte[] chunk = new byte[8192];
+
+    private byte[] pending = new byte[8192];
+    private int pendingLength;
+    private boolean headerWritten;
+    private boolean closed;
+    private long inputBytes;
+    private long outputBytes;
+
+    public GzipEncoder(int level, DataBufferFactory bufferFactory) {
+        this.deflater = new Deflater(level, true);
+        this.bufferFactory = bufferFactory;
+    }
+
+    /**
+     * 입력 버퍼를 압축 (입력 버퍼는 해제됨)
+     *
+     * @param input 원본 데이터
+     * @return 압축된 데이터, 아직 내보낼 데이터가 없으면 null
+     */
+    public synchronized DataBuffer encode(DataBuffer input) {
+        try {
+            if (closed) {
+                return null;
+            }
+            writeHeader();
+            try (DataBuffer.ByteBufferIterator iterator = input.readableByteBuffers()) {
+                while (iterator.hasNext()) {
+                    ByteBuffer byteBuffer = iterator.next();
+                    inputBytes += byteBuffer.remaining();
+                    crc.update(byteBuffer.duplicate());
+                    deflater.setInput(byteBuffer);
+                    while (!deflater.needsInput()) {
+                        drain(Deflater.NO_FLUSH);
+                    }
+                }
+            }
+            return takePending();
+        } finally {
+            DataBufferUtils.release(input);
+        }
+    }
+
+    /**
+     * 지금까지 입력된 데이터를 모두 내보냄 (SYNC_FLUSH, 스트리밍 응답의 청크 경계용)
+     *
+     * @return 압축된 데이터, 내보낼 데이터가 없으면 null
+     */
+    public synchronized DataBuffer flush() {
+        if (closed) {
+            return null;
+        }
+        writeHeader();
+        int written;
+        do {
+            written = drain(Deflater.SYNC_FLUSH);
+        } while (written == chunk.length);
+        return takePending();
+    }
+
+    /**
+     * 남은 데이터와 gzip 트레일러(CRC32, 원본 크기)를 내보내고 Deflater 해제
+     */
+    public synchronized DataBuffer finish() {
+        if (closed) {
+            return null;
+        }
+        writeHeader();
+        deflater.finish();
+        while (!deflater.finished()) {
+            drain(Deflater.NO_FLUSH);
+        }
+        writeIntLe((int) crc.getValue());
+        writeIntLe((int) inputBytes);
+        DataBuffer last = takePending();
+        close();
+        return last;
+    }
+
+    /**
+     * Deflater 해제 (여러 번 호출해도 안전)
+     */
+    public synchronized void close() {
+        if (!closed) {
+            closed = true;
+            deflater.end();
+        }
+    }
+
+    public synchronized long inputBytes() {
+        return inputBytes;
+    }
+
+    public synchronized long outputBytes() {
+        return outputBytes;
+    }
+
+    private void writeHeader() {
+        if (!headerWritten) {
+            headerWritten = true;
+            append(HEADER, HEADER.length);
+        }
+    }
+
+    private int drain(int flushMode) {
+        int written = deflater.deflate(chunk, 0, chunk.length, flushMode);
+        append(chunk, written);
+        return written;
+    }
+
+    private void writeIntLe(int value) {
+        byte[] bytes = {(byte) value, (byte) (value >>> 8), (byte) (value >>> 16), (byte) (value >>> 24)};
+        append(bytes, bytes.length);
+    }
+
+    private void append(byte[] bytes, int length) {
+        if (pendingLength + length > pending.length) {
+            pending = Arrays.copyOf(pending, Math.max(pending.length * 2, pendingLength + length));
+        }
+        System.arraycopy(bytes, 0, pending, pendingLength, length);
+        pendingLength += length;
+    }
+
+    private DataBuffer takePending() {
+        if (pendingLength == 0) {
+            return null;
+        }
+        DataBuffer output = bufferFactory.allocateBuffer(pendingLength);
+        output.write(pending, 0, pendingLength);
+        outputBytes += pendingLength;
+        pendingLength = 0;
+        return output;
+    }
+}
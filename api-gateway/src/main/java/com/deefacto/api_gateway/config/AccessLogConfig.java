@@ -0,0 +1,17 @@
+package com.deefacto.api_gateway.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 접근 로그 설정 클래스
+ *
+ * 로그 출력 자체는 logback-spring.xml의 비동기 appender(ACCESS_LOG)가 담당
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+@Configuration
+@EnableConfigurationProperties(AccessLogProperties.class)
+public class AccessLogConfig {
+}
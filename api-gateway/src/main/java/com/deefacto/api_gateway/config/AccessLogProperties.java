@@ -0,0 +1,54 @@
+package com.deefacto.api_gateway.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 접근 로그 설정
+ *
+ * application.yml의 gateway.access-log.* 값과 매핑됨
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gateway.access-log")
+public class AccessLogProperties {
+
+    /**
+     * 접근 로그 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 기본 샘플링 비율 (0.0 ~ 1.0)
+     */
+    private double sampleRate = 1.0;
+
+    /**
+     * 라우트별 샘플링 비율 (key: 라우트 ID)
+     */
+    private Map<String, Double> routes = new HashMap<>();
+
+    /**
+     * 5xx 응답/처리 오류는 샘플링과 관계없이 항상 기록
+     */
+    private boolean alwaysLogErrors = true;
+
+    /**
+     * 라우트의 샘플링 비율 조회
+     *
+     * @param routeId 라우트 ID (라우트가 없으면 null)
+     */
+    public double sampleRateFor(String routeId) {
+        if (routeId == null) {
+            return sampleRate;
+        }
+        return routes.getOrDefault(routeId, sampleRate);
+    }
+}
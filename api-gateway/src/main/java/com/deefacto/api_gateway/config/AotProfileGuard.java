@@ -0,0 +1,68 @@
+package com.deefacto.api_gateway.config;
+
+import org.springframework.aot.AotDetector;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * AOT 빌드 프로필 확인
+ *
+ * AOT 처리(processAot)는 빌드 시점의 프로필로 빈 구성을 고정하므로, 다른 프로필로 실행하면
+ * 설정 파일은 실행 프로필 값을 읽지만 빈 구성은 빌드 프로필 기준인 채로 조용히 동작함
+ * -> AOT 실행(-Dspring.aot.enabled=true)에서 빌드 프로필과 실행 프로필이 다르면 시작을 중단
+ *
+ * 빌드 프로필은 build.gradle(-PaotProfile)이 META-INF/gateway-aot.properties에 기록
+ * 이미지 빌드의 AppCDS 학습 실행도 이 확인을 거치므로, 프로필이 어긋나면 이미지 빌드가 실패함
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+public class AotProfileGuard implements EnvironmentPostProcessor, Ordered {
+
+    /**
+     * 빌드 프로필이 기록된 파일
+     */
+    static final String AOT_PROPERTIES = "META-INF/gateway-aot.properties";
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        if (!AotDetector.useGeneratedArtifacts()) {
+            return;
+        }
+        ClassPathResource resource = new ClassPathResource(AOT_PROPERTIES);
+        if (!resource.exists()) {
+            return;
+        }
+        String buildProfiles;
+        try {
+            Properties properties = PropertiesLoaderUtils.loadProperties(resource);
+            buildProfiles = properties.getProperty("profiles", "");
+        } catch (IOException e) {
+            throw new IllegalStateException("AOT 빌드 정보를 읽을 수 없습니다: " + AOT_PROPERTIES, e);
+        }
+
+        Set<String> expected = StringUtils.commaDelimitedListToSet(buildProfiles.replace(" ", ""));
+        Set<String> actual = Set.of(environment.getActiveProfiles());
+        if (!expected.equals(actual)) {
+            throw new IllegalStateException("AOT 빌드 프로필과 실행 프로필이 다릅니다: build=" + expected
+                    + ", active=" + actual + " (같은 프로필로 다시 빌드하거나 SPRING_PROFILES_ACTIVE를 맞춰 주세요)");
+        }
+    }
+
+    /**
+     * 설정 파일(application*.yml)로 활성 프로필이 정해진 뒤 실행
+     */
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,78 @@
+package com.deefacto.api_gateway.config;
+
+import com.deefacto.api_gateway.policy.AuthAccess;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 인증 정책 테이블 설정
+ *
+ * application.yml의 gateway.auth.* 값과 매핑됨
+ * AuthPolicyMatcher가 시작 시/설정 변경 시 직접 바인딩하여 매처로 컴파일함
+ *
+ * 정책 우선순위: 경로 패턴(path) > 라우트 ID(route) > 기본 접근 수준(default-access)
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gateway.auth")
+public class AuthPolicyProperties {
+
+    /**
+     * 정책이 없는 경로의 접근 수준
+     */
+    private AuthAccess defaultAccess = AuthAccess.AUTHENTICATED;
+
+    /**
+     * 역할 확인에 사용할 claim의 논리 이름 (jwt.claims에 정의된 이름)
+     */
+    private String roleClaim = "role";
+
+    /**
+     * 정책 목록 (같은 경로/라우트가 여러 번 나오면 먼저 정의된 정책 사용)
+     */
+    private List<Rule> policies = new ArrayList<>();
+
+    /**
+     * 정책 한 건
+     */
+    @Getter
+    @Setter
+    public static class Rule {
+
+        /**
+         * 경로 패턴 (예: /auth/login/**, /sensors/*)
+         * "*"는 세그먼트 하나, "**"는 나머지 전체(마지막에만 사용)
+         */
+        private String path;
+
+        /**
+         * 라우트 ID (path가 없을 때 사용)
+         */
+        private String route;
+
+        /**
+         * 접근 수준
+         */
+        private AuthAccess access = AuthAccess.AUTHENTICATED;
+
+        /**
+         * access=ROLE 인 경우 허용할 역할 목록
+         */
+        private List<String> roles = new ArrayList<>();
+
+        /**
+         * 하위 서비스로 전달할 claim -> 헤더 매핑 (jwt.headers에 추가/재정의)
+         * key: jwt.claims의 논리 이름, value: 헤더 이름
+         */
+        private Map<String, String> headers = new LinkedHashMap<>();
+    }
+}
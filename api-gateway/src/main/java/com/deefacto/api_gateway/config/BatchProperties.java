@@ -0,0 +1,78 @@
+package com.deefacto.api_gateway.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 배치 요청 설정
+ *
+ * application.yml의 gateway.batch.* 값과 매핑됨
+ * route-id 라우트(POST /batch)로 들어온 요청을 BatchFilter가 처리함
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gateway.batch")
+public class BatchProperties {
+
+    /**
+     * 배치 요청 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 배치 요청을 받는 라우트 ID (application-*.yml의 routes[].id)
+     */
+    private String routeId = "batch";
+
+    /**
+     * 하위 요청을 보낼 수 있는 라우트 ID 목록 (여기 없는 라우트의 하위 요청은 404)
+     */
+    private Set<String> routes = new LinkedHashSet<>();
+
+    /**
+     * 배치 하나에 담을 수 있는 최대 하위 요청 수
+     */
+    private int maxRequests = 10;
+
+    /**
+     * 배치 요청 본문 최대 크기
+     */
+    private DataSize maxRequestSize = DataSize.ofKilobytes(64);
+
+    /**
+     * 하위 응답 하나의 최대 본문 크기 (초과 시 해당 하위 요청만 502)
+     */
+    private DataSize maxPartBodySize = DataSize.ofMegabytes(1);
+
+    /**
+     * 하위 요청의 기본 타임아웃 (하위 요청에 timeout-ms가 없을 때 사용)
+     */
+    private Duration partTimeout = Duration.ofSeconds(5);
+
+    /**
+     * 하위 요청이 지정할 수 있는 최대 타임아웃
+     */
+    private Duration maxPartTimeout = Duration.ofSeconds(30);
+
+    /**
+     * 하위 요청 하나의 타임아웃 (요청 값을 최대 값으로 제한, 없으면 기본 값)
+     *
+     * @param requestedMillis 하위 요청에 지정된 타임아웃 (ms, 없으면 null)
+     */
+    public Duration partTimeoutFor(Long requestedMillis) {
+        if (requestedMillis == null || requestedMillis <= 0) {
+            return partTimeout;
+        }
+        Duration requested = Duration.ofMillis(requestedMillis);
+        return requested.compareTo(maxPartTimeout) > 0 ? maxPartTimeout : requested;
+    }
+}
@@ -0,0 +1,15 @@
+package com.deefacto.api_gateway.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 응답 압축 설정 클래스
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+@Configuration
+@EnableConfigurationProperties(CompressionProperties.class)
+public class CompressionConfig {
+}
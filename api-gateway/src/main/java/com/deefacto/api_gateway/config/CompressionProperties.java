@@ -0,0 +1,129 @@
+package com.deefacto.api_gateway.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.http.MediaType;
+import org.springframework.util.unit.DataSize;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 응답 압축 설정
+ *
+ * application.yml의 gateway.compression.* 값과 매핑됨
+ * routes에 등록된 라우트의 응답만 압축함
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gateway.compression")
+public class CompressionProperties {
+
+    /**
+     * 응답 압축 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * gzip 압축 레벨 (1: 빠름 ~ 9: 최대 압축)
+     */
+    private int level = 5;
+
+    /**
+     * 이보다 작은 응답은 압축하지 않음 (라우트별 설정이 없을 때 사용)
+     */
+    private DataSize minResponseSize = DataSize.ofKilobytes(1);
+
+    /**
+     * 압축할 Content-Type 목록 (이미지/zip 등 이미 압축된 형식과 SSE는 제외)
+     */
+    private List<MediaType> mimeTypes = new ArrayList<>(List.of(
+            MediaType.APPLICATION_JSON,
+            MediaType.APPLICATION_NDJSON,
+            MediaType.APPLICATION_XML,
+            MediaType.TEXT_PLAIN,
+            MediaType.TEXT_HTML,
+            MediaType.TEXT_XML,
+            MediaType.valueOf("text/csv")));
+
+    /**
+     * 하위 서비스가 이미 압축한 응답의 처리 방식
+     */
+    private UpstreamEncoding upstreamEncoding = UpstreamEncoding.PASS_THROUGH;
+
+    /**
+     * 압축할 라우트별 설정 (key: 라우트 ID)
+     */
+    private Map<String, Route> routes = new HashMap<>();
+
+    /**
+     * 라우트의 압축 설정 조회
+     *
+     * @param routeId 라우트 ID (라우트가 없으면 null)
+     * @return 압축 설정, 압축하지 않는 라우트면 null
+     */
+    public Route routeFor(String routeId) {
+        Route route = routeId != null ? routes.get(routeId) : null;
+        return route != null && route.isEnabled() ? route : null;
+    }
+
+    /**
+     * 라우트의 최소 압축 크기 (바이트)
+     */
+    public long minResponseSizeFor(Route route) {
+        return (route.getMinResponseSize() != null ? route.getMinResponseSize() : minResponseSize).toBytes();
+    }
+
+    /**
+     * 압축 대상 Content-Type인지 확인 (charset 등 파라미터는 무시)
+     */
+    public boolean isCompressible(MediaType contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        for (MediaType mimeType : mimeTypes) {
+            if (mimeType.isCompatibleWith(contentType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 하위 서비스 응답 인코딩 처리 방식
+     */
+    public enum UpstreamEncoding {
+        /**
+         * 하위 서비스가 압축한 응답(Content-Encoding 있음)은 그대로 전달
+         */
+        PASS_THROUGH,
+        /**
+         * 압축 라우트에서는 하위 서비스에 Accept-Encoding을 보내지 않아 항상 원본을 받고 게이트웨이에서 압축
+         */
+        IDENTITY
+    }
+
+    /**
+     * 라우트 하나의 압축 설정
+     */
+    @Getter
+    @Setter
+    public static class Route {
+
+        /**
+         * 라우트 압축 사용 여부
+         */
+        private boolean enabled = true;
+
+        /**
+         * 라우트별 최소 압축 크기 (없으면 전역 값 사용)
+         */
+        private DataSize minResponseSize;
+    }
+}
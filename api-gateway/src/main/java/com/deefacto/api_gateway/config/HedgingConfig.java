@@ -0,0 +1,30 @@
+package com.deefacto.api_gateway.config;
+
+import com.deefacto.api_gateway.hedge.RetryBudget;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 헤지 요청 설정 클래스
+ *
+ * 추가 요청 예산은 모든 라우트가 함께 사용하며, 남은 예산은 gateway.hedge.budget 게이지로 노출
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+@Configuration
+@EnableConfigurationProperties(HedgingProperties.class)
+public class HedgingConfig {
+
+    @Bean
+    public RetryBudget hedgeRetryBudget(HedgingProperties properties, MeterRegistry registry) {
+        RetryBudget budget = new RetryBudget(properties.getBudget().getRatio(), properties.getBudget().getMaxTokens());
+        Gauge.builder("gateway.hedge.budget", budget, RetryBudget::available)
+                .description("사용 가능한 헤지 요청 수")
+                .register(registry);
+        return budget;
+    }
+}
@@ -0,0 +1,101 @@
+package com.deefacto.api_gateway.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 헤지 요청(hedged request) 설정
+ *
+ * application.yml의 gateway.hedging.* 값과 매핑됨
+ * routes에 등록된 라우트의 GET/HEAD 요청에만 적용 (기본값: 사용 안 함)
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gateway.hedging")
+public class HedgingProperties {
+
+    /**
+     * 헤지 요청 사용 여부
+     */
+    private boolean enabled = false;
+
+    /**
+     * 전체 라우트가 함께 사용하는 추가 요청 예산
+     */
+    private Budget budget = new Budget();
+
+    /**
+     * 헤지 요청을 적용할 라우트별 설정 (key: 라우트 ID)
+     */
+    private Map<String, Route> routes = new HashMap<>();
+
+    /**
+     * 라우트의 헤지 설정 조회
+     *
+     * @return 헤지 설정, 적용하지 않는 라우트면 null
+     */
+    public Route routeFor(String routeId) {
+        return routeId != null ? routes.get(routeId) : null;
+    }
+
+    /**
+     * 추가 요청 예산 (원래 요청 대비 추가 요청 비율 상한)
+     */
+    @Getter
+    @Setter
+    public static class Budget {
+
+        /**
+         * 원래 요청 하나당 적립되는 헤지 요청 수 (0.1: 최대 10% 추가 부하)
+         */
+        private double ratio = 0.1;
+
+        /**
+         * 적립할 수 있는 최대 헤지 요청 수 (한 번에 몰리는 헤지 요청 상한)
+         */
+        private int maxTokens = 100;
+    }
+
+    /**
+     * 라우트 하나의 헤지 설정
+     */
+    @Getter
+    @Setter
+    public static class Route {
+
+        /**
+         * 헤지 지연 시간으로 사용할 처리 시간 백분위수 (0.95: 최근 요청의 p95)
+         */
+        private double percentile = 0.95;
+
+        /**
+         * 헤지 지연 시간 하한
+         */
+        private Duration minDelay = Duration.ofMillis(20);
+
+        /**
+         * 헤지 지연 시간 상한 (표본이 부족할 때도 이 값을 사용)
+         */
+        private Duration maxDelay = Duration.ofSeconds(1);
+
+        /**
+         * 백분위수를 계산하기 위한 최소 표본 수
+         */
+        private int minSamples = 100;
+
+        /**
+         * 버퍼에 받을 수 있는 최대 응답 본문 크기
+         * 넘는 응답은 버리고 일반 라우팅(NettyRoutingFilter, 스트리밍 전달)으로 다시 요청
+         */
+        private DataSize maxBodySize = DataSize.ofMegabytes(1);
+    }
+}
@@ -0,0 +1,54 @@
+package com.deefacto.api_gateway.config;
+
+import com.deefacto.api_gateway.shedding.EventLoopLagMonitor;
+import com.deefacto.api_gateway.shedding.LoadShedder;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.EventLoopGroup;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ReactorResourceFactory;
+import reactor.netty.http.HttpResources;
+
+/**
+ * 과부하 차단 설정 클래스
+ *
+ * 이벤트 루프 지연은 WebFlux 서버가 사용하는 Reactor Netty 이벤트 루프에서 측정하며,
+ * 부하 지수와 측정값은 gateway.shedding.* 게이지로 노출
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+@Configuration
+@EnableConfigurationProperties(LoadSheddingProperties.class)
+public class LoadSheddingConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public EventLoopLagMonitor eventLoopLagMonitor(LoadSheddingProperties properties,
+                                                   ObjectProvider<ReactorResourceFactory> resourceFactory) {
+        ReactorResourceFactory factory = resourceFactory.getIfAvailable();
+        EventLoopGroup eventLoops = factory != null
+                ? factory.getLoopResources().onServer(true)
+                : HttpResources.get().onServer(true);
+        return new EventLoopLagMonitor(eventLoops, properties.getLagProbeInterval());
+    }
+
+    @Bean
+    public LoadShedder loadShedder(LoadSheddingProperties properties, EventLoopLagMonitor lagMonitor,
+                                   MeterRegistry registry) {
+        LoadShedder loadShedder = new LoadShedder(properties, lagMonitor);
+        Gauge.builder("gateway.shedding.pressure", loadShedder, LoadShedder::pressure)
+                .description("부하 지수 (1.0 = 기준 값 도달)")
+                .register(registry);
+        Gauge.builder("gateway.shedding.eventloop.lag", loadShedder, shedder -> shedder.eventLoopLagNanos() / 1_000_000_000.0)
+                .description("이벤트 루프 지연 (가장 느린 이벤트 루프 기준)")
+                .baseUnit("seconds")
+                .register(registry);
+        Gauge.builder("gateway.shedding.inflight", loadShedder, LoadShedder::inflight)
+                .description("게이트웨이 전체 처리 중 요청 수 (SSE 구독 제외)")
+                .register(registry);
+        return loadShedder;
+    }
+}
@@ -0,0 +1,121 @@
+package com.deefacto.api_gateway.config;
+
+import com.deefacto.api_gateway.shedding.Priority;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 과부하 차단(load shedding) 설정
+ *
+ * application.yml의 gateway.load-shedding.* 값과 매핑됨
+ *
+ * 부하 지수(pressure)는 이벤트 루프 지연, 처리 중 요청 수를 각 기준 값으로 나눈 값 중 최대값
+ * (1.0 = 기준 값 도달), 부하 지수가 등급별 shed-at 값 이상이면 해당 등급의 요청을 차단
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gateway.load-shedding")
+public class LoadSheddingProperties {
+
+    /**
+     * 과부하 차단 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * routes/paths에 없는 요청의 등급
+     */
+    private Priority defaultPriority = Priority.NORMAL;
+
+    /**
+     * 라우트별 등급 (key: 라우트 ID)
+     */
+    private Map<String, Priority> routes = new HashMap<>();
+
+    /**
+     * 경로 패턴별 등급 (routes보다 우선, 위에서부터 처음 일치하는 패턴 사용)
+     */
+    private List<PathRule> paths = new ArrayList<>();
+
+    /**
+     * 부하 지수 1.0에 해당하는 기준 값
+     */
+    private Thresholds thresholds = new Thresholds();
+
+    /**
+     * 등급별 차단 시작 부하 지수 (없는 등급은 차단하지 않음)
+     */
+    private Map<Priority, Double> shedAt = new EnumMap<>(Map.of(
+            Priority.LOW, 1.0,
+            Priority.NORMAL, 1.5,
+            Priority.HIGH, 2.0));
+
+    /**
+     * 이벤트 루프 지연 측정 주기
+     */
+    private Duration lagProbeInterval = Duration.ofMillis(100);
+
+    /**
+     * 차단 응답의 Retry-After
+     */
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    /**
+     * 테스트용 고정 부하 지수 (설정하면 실제 측정값 대신 사용, 스텁 서버로 과부하 상황 재현용)
+     * 실행 중에는 POST /actuator/loadshedding {"pressure": 1.2}로 변경
+     */
+    private Double simulatedPressure;
+
+    /**
+     * 등급의 차단 시작 부하 지수
+     *
+     * @return 부하 지수, 차단하지 않는 등급이면 null
+     */
+    public Double shedThreshold(Priority priority) {
+        return shedAt.get(priority);
+    }
+
+    /**
+     * 경로 패턴 하나의 등급
+     */
+    @Getter
+    @Setter
+    public static class PathRule {
+
+        /**
+         * 경로 패턴 (예: /reports/export/**)
+         */
+        private String pattern;
+
+        private Priority priority = Priority.NORMAL;
+    }
+
+    /**
+     * 부하 지수 기준 값
+     */
+    @Getter
+    @Setter
+    public static class Thresholds {
+
+        /**
+         * 이벤트 루프 지연 기준 (작업이 이벤트 루프에서 실행되기까지 기다린 시간)
+         */
+        private Duration eventLoopLag = Duration.ofMillis(100);
+
+        /**
+         * 게이트웨이 전체 처리 중 요청 수 기준 (SSE 구독 제외)
+         */
+        private int inflight = 2000;
+    }
+}
@@ -0,0 +1,62 @@
+package com.deefacto.api_gateway.config;
+
+import com.deefacto.api_gateway.ratelimit.InMemoryRateLimitStore;
+import com.deefacto.api_gateway.ratelimit.LocalRateLimiter;
+import com.deefacto.api_gateway.ratelimit.RateLimitStore;
+import com.deefacto.api_gateway.ratelimit.RedisRateLimitStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.gateway.support.ipresolver.RemoteAddressResolver;
+import org.springframework.cloud.gateway.support.ipresolver.XForwardedRemoteAddressResolver;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+
+/**
+ * 요청 제한 설정 클래스
+ *
+ * - LocalRateLimiter: 인스턴스 내부 버킷 (local 모드, distributed 모드의 저장소 장애 시 대체)
+ * - RateLimitStore: gateway.rate-limit.store 값에 따라 선택 (memory: 테스트/로컬, redis: 운영)
+ * - RemoteAddressResolver: 인증 제외 경로의 클라이언트 IP 결정 (gateway.rate-limit.trusted-proxies)
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+@Slf4j
+public class RateLimitConfig {
+
+    @Bean
+    public LocalRateLimiter localRateLimiter(RateLimitProperties properties) {
+        return new LocalRateLimiter(properties.getMaxKeys(), properties.getIdleTimeout());
+    }
+
+    /**
+     * 신뢰할 수 있는 프록시 수만큼만 X-Forwarded-For를 믿는 클라이언트 IP 결정기
+     * (ingress/로드 밸런서 뒤에서 모든 요청이 프록시 주소 하나로 묶이지 않도록)
+     */
+    @Bean
+    public RemoteAddressResolver rateLimitAddressResolver(RateLimitProperties properties) {
+        int trustedProxies = properties.getTrustedProxies();
+        if (trustedProxies <= 0) {
+            log.info("요청 제한 클라이언트 IP: 연결 원격 주소 사용");
+            return new RemoteAddressResolver() {
+            };
+        }
+        log.info("요청 제한 클라이언트 IP: X-Forwarded-For (신뢰하는 프록시 {}개)", trustedProxies);
+        return XForwardedRemoteAddressResolver.maxTrustedIndex(trustedProxies);
+    }
+
+    @Bean
+    public RateLimitStore rateLimitStore(RateLimitProperties properties,
+                                         ObjectProvider<ReactiveStringRedisTemplate> redisTemplate) {
+        if ("redis".equalsIgnoreCase(properties.getStore())) {
+            log.info("요청 제한 저장소: Redis (mode={}, keyPrefix={})", properties.getMode(), properties.getKeyPrefix());
+            return new RedisRateLimitStore(redisTemplate.getObject(), properties.getKeyPrefix());
+        }
+        log.info("요청 제한 저장소: 메모리 (mode={})", properties.getMode());
+        return new InMemoryRateLimitStore();
+    }
+}
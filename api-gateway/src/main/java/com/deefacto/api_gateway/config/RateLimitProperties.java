@@ -0,0 +1,130 @@
+package com.deefacto.api_gateway.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 요청 제한(rate limiting) 설정
+ *
+ * application.yml의 gateway.rate-limit.* 값과 매핑됨
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gateway.rate-limit")
+public class RateLimitProperties {
+
+    /**
+     * 요청 제한 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 제한 방식 (local: 인스턴스별 메모리 버킷, distributed: 저장소를 통해 인스턴스 간 공유)
+     */
+    private String mode = "local";
+
+    /**
+     * distributed 모드의 저장소 종류 (memory: 테스트/로컬용, redis: 운영용)
+     */
+    private String store = "memory";
+
+    /**
+     * Redis 키 접두사 (키: 접두사 + 라우트 ID + 유저 ID/클라이언트 IP)
+     */
+    private String keyPrefix = "rate-limit:";
+
+    /**
+     * local 모드에서 라우트별로 보관하는 최대 키 수
+     */
+    private long maxKeys = 100_000;
+
+    /**
+     * local 모드에서 요청이 없는 키를 제거하기까지의 시간
+     */
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    /**
+     * 게이트웨이 앞에 있는 신뢰할 수 있는 프록시(ingress, 로드 밸런서) 수
+     *
+     * 인증 제외 경로의 클라이언트 IP를 X-Forwarded-For의 뒤에서 이 번째 값으로 결정
+     * (신뢰하는 프록시가 직접 덧붙인 값만 사용, 그보다 앞의 값은 클라이언트가 조작할 수 있으므로 무시)
+     * 0이면 연결의 원격 주소를 사용 (프록시 없이 직접 노출되는 경우)
+     * 실제 프록시 수보다 크게 설정하면 클라이언트가 보낸 값을 믿게 되어 제한을 우회할 수 있음
+     */
+    private int trustedProxies = 0;
+
+    /**
+     * 라우트별 설정이 없을 때 적용할 기본 한도
+     */
+    private Limit defaultLimit = new Limit();
+
+    /**
+     * 라우트별 한도 (key: 라우트 ID)
+     */
+    private Map<String, Limit> routes = new HashMap<>();
+
+    /**
+     * distributed 모드 여부
+     */
+    public boolean isDistributed() {
+        return "distributed".equalsIgnoreCase(mode);
+    }
+
+    /**
+     * 라우트에 적용할 한도 조회
+     *
+     * @param routeId 라우트 ID (라우트가 없으면 null)
+     */
+    public Limit limitFor(String routeId) {
+        if (routeId == null) {
+            return defaultLimit;
+        }
+        Limit limit = routes.get(routeId);
+        return limit != null ? limit : defaultLimit;
+    }
+
+    /**
+     * 키 하나(유저 또는 클라이언트 IP)에 대한 한도
+     */
+    @Getter
+    @Setter
+    public static class Limit {
+
+        /**
+         * 초당 허용 요청 수 (0 이하: 제한 없음, 1 미만도 가능 - 예: 0.5는 2초에 1회)
+         */
+        private double replenishRate = 50;
+
+        /**
+         * 한 번에 허용하는 최대 요청 수 (0 이하: replenishRate와 같게 처리)
+         */
+        private int burstCapacity = 100;
+
+        public boolean isUnlimited() {
+            return replenishRate <= 0;
+        }
+
+        /**
+         * 토큰 하나가 채워지는 간격 (나노초)
+         */
+        public long intervalNanos() {
+            return (long) (1_000_000_000L / replenishRate);
+        }
+
+        /**
+         * 버스트 허용 시간 (나노초)
+         */
+        public long toleranceNanos() {
+            int burst = burstCapacity > 0 ? burstCapacity : (int) Math.max(1, Math.ceil(replenishRate));
+            return intervalNanos() * burst;
+        }
+    }
+}
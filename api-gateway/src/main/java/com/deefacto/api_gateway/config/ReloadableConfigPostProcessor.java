@@ -0,0 +1,106 @@
+package com.deefacto.api_gateway.config;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.EnumerablePropertySource;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 재시작 없이 다시 읽는 설정 파일 (gateway.reload.location)
+ *
+ * /actuator/refresh를 쓸 수 없는 환경(운영 프로필은 refresh 미노출, AOT 빌드는 refresh 비활성)에서도
+ * 인증 정책과 JWT 설정을 바꿀 수 있도록, 지정한 YAML 파일을 가장 높은 우선순위의 설정으로 추가
+ * - 시작 시: 이 클래스가 파일을 읽어 Environment 맨 앞에 추가 (빈 생성 전)
+ * - 실행 중: ReloadableConfigWatcher가 파일 변경을 감지해 같은 이름의 설정을 교체하고
+ *   EnvironmentChangeEvent를 발행 (AuthPolicyMatcher, JwtProvider가 다시 컴파일)
+ *
+ * 다시 읽는 값은 RELOADABLE_PREFIXES로 시작하는 키만 (그 외 값은 시작 시 한 번만 읽는 빈이 많아 무시)
+ * 파일이 없으면 아무것도 추가하지 않음
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+public class ReloadableConfigPostProcessor implements EnvironmentPostProcessor, Ordered {
+
+    /**
+     * Environment에 추가하는 설정 이름
+     */
+    public static final String PROPERTY_SOURCE_NAME = "gatewayReloadableConfig";
+
+    /**
+     * 설정 파일 위치 설정 키
+     */
+    public static final String LOCATION_PROPERTY = "gateway.reload.location";
+
+    /**
+     * 다시 읽을 수 있는 설정 키 접두사 (변경 시 다시 컴파일하는 빈이 있는 설정만)
+     */
+    public static final List<String> RELOADABLE_PREFIXES = List.of("gateway.auth.", "jwt.");
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        Path location = location(environment);
+        if (location == null || !Files.isRegularFile(location)) {
+            return;
+        }
+        try {
+            environment.getPropertySources().addFirst(load(location));
+        } catch (IOException | RuntimeException e) {
+            throw new IllegalStateException("설정 파일을 읽을 수 없습니다: " + location, e);
+        }
+    }
+
+    /**
+     * 일반 설정 파일(application*.yml)을 읽은 뒤 실행
+     */
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+
+    /**
+     * 설정 파일 위치 (설정되지 않았으면 null)
+     */
+    static Path location(ConfigurableEnvironment environment) {
+        String location = environment.getProperty(LOCATION_PROPERTY);
+        return StringUtils.hasText(location) ? Path.of(location) : null;
+    }
+
+    /**
+     * YAML 파일을 읽어 다시 읽을 수 있는 키만 담은 설정으로 변환
+     *
+     * @throws IOException 파일을 읽을 수 없는 경우
+     * @throws IllegalArgumentException 다시 읽을 수 없는 키가 들어 있는 경우
+     */
+    static MapPropertySource load(Path location) throws IOException {
+        Map<String, Object> values = new LinkedHashMap<>();
+        List<PropertySource<?>> documents = new YamlPropertySourceLoader()
+                .load(PROPERTY_SOURCE_NAME, new FileSystemResource(location));
+        for (PropertySource<?> document : documents) {
+            if (!(document instanceof EnumerablePropertySource<?> enumerable)) {
+                continue;
+            }
+            for (String key : enumerable.getPropertyNames()) {
+                if (RELOADABLE_PREFIXES.stream().noneMatch(key::startsWith)) {
+                    throw new IllegalArgumentException("다시 읽을 수 없는 설정입니다: " + key
+                            + " (허용: " + RELOADABLE_PREFIXES + ")");
+                }
+                values.putIfAbsent(key, enumerable.getProperty(key));
+            }
+        }
+        return new MapPropertySource(PROPERTY_SOURCE_NAME, values);
+    }
+}
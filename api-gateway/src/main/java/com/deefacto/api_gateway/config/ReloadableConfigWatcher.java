@@ -0,0 +1,112 @@
+package com.deefacto.api_gateway.config;
+
+import com.deefacto.api_gateway.util.FileChangeWatcher;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.MutablePropertySources;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ObjectUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 재시작 없이 다시 읽는 설정 파일(gateway.reload.location) 변경 감지
+ *
+ * 파일이 바뀌면 Environment의 설정(ReloadableConfigPostProcessor가 시작 시 추가)을 통째로 교체하고,
+ * 값이 바뀐 키만 담아 EnvironmentChangeEvent를 발행 (/actuator/refresh와 같은 이벤트)
+ * 파일을 읽지 못하면 기존 설정을 유지하고, 파일이 삭제되면 application*.yml 값으로 되돌림
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReloadableConfigWatcher {
+
+    private final ConfigurableEnvironment environment;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private FileChangeWatcher watcher;
+
+    @PostConstruct
+    public void start() {
+        Path location = ReloadableConfigPostProcessor.location(environment);
+        if (location == null) {
+            return;
+        }
+        try {
+            watcher = new FileChangeWatcher("gateway-config", location, Duration.ofMillis(500), () -> reload(location));
+            watcher.start();
+        } catch (IOException e) {
+            log.error("설정 파일 변경 감지를 시작할 수 없습니다: location={}, reason={}", location, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        if (watcher != null) {
+            watcher.close();
+        }
+    }
+
+    /**
+     * 설정 파일을 다시 읽어 교체 (값이 바뀐 키가 있을 때만 이벤트 발행)
+     */
+    synchronized void reload(Path location) {
+        MutablePropertySources sources = environment.getPropertySources();
+        MapPropertySource previous = (MapPropertySource) sources.get(ReloadableConfigPostProcessor.PROPERTY_SOURCE_NAME);
+        MapPropertySource next = null;
+        if (Files.isRegularFile(location)) {
+            try {
+                next = ReloadableConfigPostProcessor.load(location);
+            } catch (IOException | RuntimeException e) {
+                log.error("설정 파일을 읽을 수 없어 기존 설정을 유지합니다: location={}, reason={}",
+                        location, e.getMessage());
+                return;
+            }
+        }
+
+        Set<String> changed = changedKeys(previous != null ? previous.getSource() : Map.of(),
+                next != null ? next.getSource() : Map.of());
+        if (changed.isEmpty()) {
+            return;
+        }
+        if (next == null) {
+            sources.remove(ReloadableConfigPostProcessor.PROPERTY_SOURCE_NAME);
+        } else if (previous == null) {
+            sources.addFirst(next);
+        } else {
+            sources.replace(ReloadableConfigPostProcessor.PROPERTY_SOURCE_NAME, next);
+        }
+        log.info("설정 파일 다시 읽기 완료: location={}, 변경된 키 {}개", location, changed.size());
+        eventPublisher.publishEvent(new EnvironmentChangeEvent(environment, changed));
+    }
+
+    private static Set<String> changedKeys(Map<String, Object> before, Map<String, Object> after) {
+        Set<String> changed = new HashSet<>();
+        before.forEach((key, value) -> {
+            if (!ObjectUtils.nullSafeEquals(value, after.get(key))) {
+                changed.add(key);
+            }
+        });
+        after.forEach((key, value) -> {
+            if (!before.containsKey(key)) {
+                changed.add(key);
+            }
+        });
+        return changed;
+    }
+}
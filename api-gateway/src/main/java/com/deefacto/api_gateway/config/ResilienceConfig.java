@@ -0,0 +1,37 @@
+package com.deefacto.api_gateway.config;
+
+import com.deefacto.api_gateway.resilience.ResilienceRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 하위 서비스 보호 설정 클래스
+ *
+ * 서킷 브레이커는 Resilience4j를 직접 사용하며 (라우트 ID = 서킷 브레이커 이름),
+ * 상태/실패율은 resilience4j.circuitbreaker.* 메트릭으로 노출
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+@Configuration
+@EnableConfigurationProperties(ResilienceProperties.class)
+public class ResilienceConfig {
+
+    @Bean
+    public CircuitBreakerRegistry circuitBreakerRegistry(MeterRegistry meterRegistry) {
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.ofDefaults();
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+        return registry;
+    }
+
+    @Bean
+    public ResilienceRegistry resilienceRegistry(ResilienceProperties properties,
+                                                 CircuitBreakerRegistry circuitBreakerRegistry,
+                                                 MeterRegistry meterRegistry) {
+        return new ResilienceRegistry(properties, circuitBreakerRegistry, meterRegistry);
+    }
+}
@@ -0,0 +1,142 @@
+package com.deefacto.api_gateway.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 하위 서비스 보호(서킷 브레이커, 동시 요청 제한) 설정
+ *
+ * application.yml의 gateway.resilience.* 값과 매핑됨
+ * 응답 타임아웃은 라우트 정의의 metadata(response-timeout, connect-timeout)로 설정
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gateway.resilience")
+public class ResilienceProperties {
+
+    /**
+     * 하위 서비스 보호 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 라우트별 설정이 없을 때 적용할 기본 설정
+     */
+    private Route defaults = new Route();
+
+    /**
+     * 라우트별 설정 (key: 라우트 ID, 지정하지 않은 값은 클래스 기본값 사용)
+     */
+    private Map<String, Route> routes = new HashMap<>();
+
+    /**
+     * 라우트에 적용할 설정 조회
+     */
+    public Route routeFor(String routeId) {
+        Route route = routes.get(routeId);
+        return route != null ? route : defaults;
+    }
+
+    /**
+     * 라우트 하나의 보호 설정
+     */
+    @Getter
+    @Setter
+    public static class Route {
+
+        private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+        private Concurrency concurrency = new Concurrency();
+    }
+
+    /**
+     * 서킷 브레이커 설정 (오류/5xx 응답/느린 호출 비율이 기준을 넘으면 일정 시간 즉시 실패 처리)
+     */
+    @Getter
+    @Setter
+    public static class CircuitBreaker {
+
+        private boolean enabled = true;
+
+        /**
+         * 실패율 기준 (%, 초과 시 OPEN)
+         */
+        private float failureRateThreshold = 50;
+
+        /**
+         * 느린 호출로 간주하는 처리 시간
+         */
+        private Duration slowCallDuration = Duration.ofSeconds(5);
+
+        /**
+         * 느린 호출 비율 기준 (%, 초과 시 OPEN)
+         */
+        private float slowCallRateThreshold = 80;
+
+        /**
+         * 실패율 계산에 사용하는 최근 호출 수
+         */
+        private int slidingWindowSize = 50;
+
+        /**
+         * 실패율을 계산하기 위한 최소 호출 수
+         */
+        private int minimumCalls = 20;
+
+        /**
+         * OPEN 상태 유지 시간 (이후 HALF_OPEN으로 전환하여 일부 요청만 시험)
+         */
+        private Duration openStateWait = Duration.ofSeconds(10);
+
+        /**
+         * HALF_OPEN 상태에서 허용하는 시험 요청 수
+         */
+        private int halfOpenCalls = 5;
+    }
+
+    /**
+     * 동시 요청 제한(bulkhead) 설정
+     */
+    @Getter
+    @Setter
+    public static class Concurrency {
+
+        /**
+         * 제한 방식 (none: 제한 없음, fixed: 고정 값, adaptive: 처리 시간에 따라 AIMD 방식으로 조절)
+         */
+        private String mode = "adaptive";
+
+        /**
+         * fixed 모드의 최대 동시 요청 수 / adaptive 모드의 시작 값
+         */
+        private int limit = 100;
+
+        /**
+         * adaptive 모드의 최소 동시 요청 수
+         */
+        private int minLimit = 10;
+
+        /**
+         * adaptive 모드의 최대 동시 요청 수
+         */
+        private int maxLimit = 500;
+
+        /**
+         * adaptive 모드에서 이 시간보다 오래 걸린 요청은 과부하 신호로 간주
+         */
+        private Duration latencyThreshold = Duration.ofSeconds(1);
+
+        /**
+         * 과부하 신호 시 제한 값에 곱하는 비율 (multiplicative decrease)
+         */
+        private double backoffRatio = 0.9;
+    }
+}
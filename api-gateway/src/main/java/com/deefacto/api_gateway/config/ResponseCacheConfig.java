@@ -0,0 +1,28 @@
+package com.deefacto.api_gateway.config;
+
+import com.deefacto.api_gateway.cache.ResponseCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 응답 캐시 설정 클래스
+ *
+ * 캐시 hit/miss/제거 통계는 gateway.response-cache 이름의 cache.* 메트릭으로 노출
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+@Configuration
+@EnableConfigurationProperties(ResponseCacheProperties.class)
+public class ResponseCacheConfig {
+
+    @Bean
+    public ResponseCache responseCache(ResponseCacheProperties properties, MeterRegistry registry) {
+        ResponseCache responseCache = new ResponseCache(properties.getMaxSize().toBytes());
+        CaffeineCacheMetrics.monitor(registry, responseCache.nativeCache(), "gateway.response-cache");
+        return responseCache;
+    }
+}
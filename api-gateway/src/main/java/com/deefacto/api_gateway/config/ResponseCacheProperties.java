@@ -0,0 +1,82 @@
+package com.deefacto.api_gateway.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 응답 캐시 설정
+ *
+ * application.yml의 gateway.response-cache.* 값과 매핑됨
+ * routes에 등록된 라우트의 GET 요청만 캐시함
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gateway.response-cache")
+public class ResponseCacheProperties {
+
+    /**
+     * 응답 캐시 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 캐시 전체 최대 용량 (본문 기준, 초과 시 W-TinyLFU 방식으로 제거)
+     */
+    private DataSize maxSize = DataSize.ofMegabytes(64);
+
+    /**
+     * 캐시할 응답 하나의 최대 크기 (초과하는 응답은 전달만 하고 캐시하지 않음)
+     */
+    private DataSize maxBodySize = DataSize.ofKilobytes(512);
+
+    /**
+     * 동시 miss 요청이 leader의 응답을 기다리는 최대 시간 (초과 시 직접 하위 서비스 호출)
+     */
+    private Duration coalesceTimeout = Duration.ofSeconds(10);
+
+    /**
+     * 캐시할 라우트별 설정 (key: 라우트 ID)
+     */
+    private Map<String, Route> routes = new HashMap<>();
+
+    /**
+     * 라우트의 캐시 설정 조회
+     *
+     * @param routeId 라우트 ID (라우트가 없으면 null)
+     * @return 캐시 설정, 캐시하지 않는 라우트면 null
+     */
+    public Route routeFor(String routeId) {
+        return routeId != null ? routes.get(routeId) : null;
+    }
+
+    /**
+     * 라우트 하나의 캐시 설정
+     */
+    @Getter
+    @Setter
+    public static class Route {
+
+        /**
+         * 응답 보관 시간
+         */
+        private Duration ttl = Duration.ofSeconds(5);
+
+        /**
+         * 유저별로 따로 캐시할지 여부 (true: 캐시 키에 유저 ID/직원 ID 포함)
+         *
+         * 하위 서비스 요청에는 항상 X-User-Id/X-Employee-Id가 전달되므로 기본값은 true
+         * false(사용자 간 공유)는 응답이 사용자와 무관함이 확실한 라우트에만 명시적으로 설정
+         * (공유 라우트에서도 Cache-Control: private 응답은 캐시하지 않음)
+         */
+        private boolean perUser = true;
+    }
+}
@@ -0,0 +1,44 @@
+package com.deefacto.api_gateway.config;
+
+import com.deefacto.api_gateway.revocation.InMemoryTokenRevocationStore;
+import com.deefacto.api_gateway.revocation.RedisTokenRevocationStore;
+import com.deefacto.api_gateway.revocation.TokenRevocationChecker;
+import com.deefacto.api_gateway.revocation.TokenRevocationStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+
+/**
+ * 토큰 폐기 확인 설정 클래스
+ *
+ * gateway.revocation.store 값에 따라 저장소 구현을 선택
+ * - memory: InMemoryTokenRevocationStore (로컬/테스트)
+ * - redis: RedisTokenRevocationStore (운영)
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+@Configuration
+@EnableConfigurationProperties(RevocationProperties.class)
+@Slf4j
+public class RevocationConfig {
+
+    @Bean
+    public TokenRevocationStore tokenRevocationStore(RevocationProperties properties,
+                                                     ObjectProvider<ReactiveStringRedisTemplate> redisTemplate) {
+        if ("redis".equalsIgnoreCase(properties.getStore())) {
+            log.info("토큰 폐기 저장소: Redis (keyPrefix={}, channel={})", properties.getKeyPrefix(), properties.getChannel());
+            return new RedisTokenRevocationStore(redisTemplate.getObject(), properties.getKeyPrefix(), properties.getChannel());
+        }
+        log.info("토큰 폐기 저장소: 메모리");
+        return new InMemoryTokenRevocationStore();
+    }
+
+    @Bean
+    public TokenRevocationChecker tokenRevocationChecker(TokenRevocationStore store, RevocationProperties properties) {
+        return new TokenRevocationChecker(store, properties);
+    }
+}
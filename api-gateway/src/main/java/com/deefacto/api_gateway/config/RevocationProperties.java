@@ -0,0 +1,82 @@
+package com.deefacto.api_gateway.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 토큰 폐기(로그아웃 블랙리스트) 확인 설정
+ *
+ * application.yml의 gateway.revocation.* 값과 매핑됨
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gateway.revocation")
+public class RevocationProperties {
+
+    /**
+     * 토큰 폐기 확인 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 폐기 저장소 종류 (memory: 테스트/로컬용, redis: 운영용)
+     */
+    private String store = "memory";
+
+    /**
+     * Redis 블랙리스트 키 접두사 (키: 접두사 + 토큰)
+     */
+    private String keyPrefix = "blacklist:";
+
+    /**
+     * 폐기 이벤트를 전달받는 Redis pub/sub 채널 (메시지: 폐기된 토큰)
+     */
+    private String channel = "token-revocations";
+
+    /**
+     * 블룸 필터 예상 항목 수 (동시에 유효한 폐기 토큰 수)
+     */
+    private long expectedRevocations = 100_000;
+
+    /**
+     * 블룸 필터 목표 오탐률
+     */
+    private double falsePositiveRate = 0.001;
+
+    /**
+     * 원격 조회 결과를 보관하는 near-cache 최대 항목 수
+     */
+    private long nearCacheSize = 10_000;
+
+    /**
+     * near-cache 보관 시간
+     */
+    private Duration nearCacheTtl = Duration.ofMinutes(5);
+
+    /**
+     * 블룸 필터 재생성 주기 (만료된 폐기 토큰 정리)
+     */
+    private Duration rebuildInterval = Duration.ofHours(1);
+
+    /**
+     * 첫 블룸 필터 생성 실패 시 재시도 간격 (실패할 때마다 두 배, rebuild-retry-max-backoff까지)
+     * 첫 생성 전에는 모든 토큰을 원격 조회하므로 rebuild-interval을 기다리지 않고 따로 재시도
+     */
+    private Duration rebuildRetryMinBackoff = Duration.ofSeconds(1);
+
+    /**
+     * 첫 블룸 필터 생성 재시도 간격 상한
+     */
+    private Duration rebuildRetryMaxBackoff = Duration.ofSeconds(30);
+
+    /**
+     * 원격 저장소 조회 실패 시 통과 여부 (false: 폐기된 것으로 간주)
+     */
+    private boolean failOpen = false;
+}
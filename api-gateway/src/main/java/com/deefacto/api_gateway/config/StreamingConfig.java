@@ -0,0 +1,27 @@
+package com.deefacto.api_gateway.config;
+
+import com.deefacto.api_gateway.streaming.StreamHub;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 스트리밍(SSE) fan-out 설정 클래스
+ *
+ * 하위 서비스 스트림 연결에는 Gateway HttpClient 기반 WebClient(GatewayWebClients)를 라우트별로 사용하며,
+ * StreamFanOutFilter가 요청 라우트에 맞는 WebClient를 넘겨줌
+ * (SSE는 응답이 끝나지 않으므로 응답 타임아웃을 두지 않음)
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+@Configuration
+@EnableConfigurationProperties(StreamingProperties.class)
+public class StreamingConfig {
+
+    @Bean
+    public StreamHub streamHub(StreamingProperties properties, MeterRegistry registry) {
+        return new StreamHub(properties.getIdleGrace(), registry);
+    }
+}
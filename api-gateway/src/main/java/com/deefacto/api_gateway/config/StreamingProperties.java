@@ -0,0 +1,76 @@
+package com.deefacto.api_gateway.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 스트리밍(SSE) fan-out 설정
+ *
+ * application.yml의 gateway.streaming.* 값과 매핑됨
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gateway.streaming")
+public class StreamingProperties {
+
+    /**
+     * 스트리밍 fan-out 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * fan-out을 적용할 라우트 ID (Accept: text/event-stream GET 요청만 해당)
+     */
+    private Set<String> routes = new HashSet<>();
+
+    /**
+     * 사용자 간에 하위 서비스 스트림을 공유할 라우트 ID (routes 중 응답이 사용자와 무관한 라우트만)
+     *
+     * 여기에 없는 라우트는 사용자(유저 ID/직원 ID)별로 스트림을 따로 열어 사용자 헤더와 함께 전달
+     * (같은 사용자의 여러 탭/기기만 하나의 연결을 공유)
+     * 공유 라우트는 하위 서비스로 사용자 헤더를 보내지 않음
+     */
+    private Set<String> sharedRoutes = new HashSet<>();
+
+    /**
+     * 클라이언트별 버퍼 크기 (가득 차면 가장 오래된 프레임부터 버림)
+     */
+    private int clientBuffer = 256;
+
+    /**
+     * 마지막 구독자가 나간 뒤 하위 서비스 스트림을 유지하는 시간
+     */
+    private Duration idleGrace = Duration.ofSeconds(5);
+
+    /**
+     * 연결 유지용 주석 프레임 전송 간격 (0: 보내지 않음)
+     */
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+
+    /**
+     * 토큰이 만료되면 스트림을 종료할지 여부 (클라이언트는 새 토큰으로 다시 구독)
+     */
+    private boolean closeOnTokenExpiry = true;
+
+    /**
+     * fan-out 대상 라우트인지 확인
+     */
+    public boolean isStreamingRoute(String routeId) {
+        return routeId != null && routes.contains(routeId);
+    }
+
+    /**
+     * 사용자 간에 스트림을 공유하는 라우트인지 확인
+     */
+    public boolean isSharedRoute(String routeId) {
+        return routeId != null && sharedRoutes.contains(routeId);
+    }
+}
@@ -0,0 +1,32 @@
+package com.deefacto.api_gateway.config;
+
+import com.deefacto.api_gateway.trace.SlowRequestBuffer;
+import com.deefacto.api_gateway.trace.UpstreamTimingCustomizer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 요청 추적 설정 클래스
+ *
+ * 느린/실패 요청 버퍼는 /actuator/slowrequests로 조회
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+@Configuration
+@EnableConfigurationProperties(TracingProperties.class)
+public class TracingConfig {
+
+    @Bean
+    public SlowRequestBuffer slowRequestBuffer(TracingProperties properties) {
+        return new SlowRequestBuffer(properties.getBufferSize());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "gateway.tracing", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public UpstreamTimingCustomizer upstreamTimingCustomizer() {
+        return new UpstreamTimingCustomizer();
+    }
+}
@@ -0,0 +1,61 @@
+package com.deefacto.api_gateway.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 요청 추적 설정
+ *
+ * application.yml의 gateway.tracing.* 값과 매핑됨
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gateway.tracing")
+public class TracingProperties {
+
+    /**
+     * traceparent 전달 및 단계별 시간 측정 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * traceparent 없이 들어온 요청의 샘플링 비율 (0.0 ~ 1.0, 들어온 traceparent의 샘플링 값은 그대로 따름)
+     */
+    private double sampleRate = 0.1;
+
+    /**
+     * 이보다 오래 걸린 요청을 느린 요청 버퍼에 기록 (라우트별 설정이 없을 때 사용)
+     */
+    private Duration slowThreshold = Duration.ofSeconds(1);
+
+    /**
+     * 라우트별 느린 요청 기준 (key: 라우트 ID, 예: 리포트/챗봇처럼 원래 오래 걸리는 라우트)
+     */
+    private Map<String, Duration> routes = new HashMap<>();
+
+    /**
+     * 느린/실패 요청 버퍼 크기 (초과 시 오래된 기록부터 덮어씀)
+     */
+    private int bufferSize = 256;
+
+    /**
+     * 기록할 경로 최대 길이
+     */
+    private int maxPathLength = 256;
+
+    /**
+     * 라우트의 느린 요청 기준 (나노초)
+     */
+    public long slowThresholdNanos(String routeId) {
+        Duration threshold = routeId != null ? routes.get(routeId) : null;
+        return (threshold != null ? threshold : slowThreshold).toNanos();
+    }
+}
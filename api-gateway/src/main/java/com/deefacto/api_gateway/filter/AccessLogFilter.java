@@ -0,0 +1,129 @@
+package com.deefacto.api_gateway.filter;
+
+import com.deefacto.api_gateway.config.AccessLogProperties;
+import com.deefacto.api_gateway.trace.RequestTrace;
+import com.deefacto.api_gateway.util.GatewayRoutes;
+import com.deefacto.api_gateway.util.JwtPrincipal;
+import lombok.RequiredArgsConstructor;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 접근 로그 필터
+ *
+ * 요청당 한 줄의 구조화된 접근 로그를 남기는 필터
+ * (라우트 ID, 메서드, 경로, 상태 코드, 처리 시간, 유저 ID, 요청/응답 바이트 수, trace ID)
+ *
+ * 특징:
+ * - 토큰/Authorization 헤더는 절대 기록하지 않음
+ * - 라우트별 샘플링 비율 적용 (5xx/오류는 항상 기록)
+ * - 샘플링되지 않은 요청은 문자열을 만들지 않음
+ * - 출력은 "access-log" 로거 -> logback 비동기 appender (큐가 가득 차면 버림, 블로킹 없음)
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class AccessLogFilter implements GlobalFilter, Ordered {
+
+    /**
+     * 접근 로그 전용 로거 (logback-spring.xml의 ACCESS_LOG appender로 출력)
+     */
+    private static final Logger ACCESS_LOG = LoggerFactory.getLogger("access-log");
+
+    private final AccessLogProperties properties;
+
+    /**
+     * 가장 바깥쪽에서 실행 (인증 실패 등 다른 필터에서 끝난 요청도 기록)
+     */
+    @Override
+    public int getOrder() {
+        return JwtAuthFilter.ORDER - 200;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ExchangeStats stats = new ExchangeStats(System.nanoTime());
+        exchange.getAttributes().put(ExchangeStats.ATTR, stats);
+
+        // 응답 바이트 수 측정을 위한 응답 래퍼
+        ServerHttpResponseDecorator countingResponse = new ServerHttpResponseDecorator(exchange.getResponse()) {
+            @Override
+            public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+                return super.writeWith(Flux.from(body)
+                        .doOnNext(buffer -> stats.addResponseBytes(buffer.readableByteCount())));
+            }
+
+            @Override
+            public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+                return super.writeAndFlushWith(Flux.from(body)
+                        .map(chunk -> Flux.<DataBuffer>from(chunk)
+                                .doOnNext(buffer -> stats.addResponseBytes(buffer.readableByteCount()))));
+            }
+        };
+
+        return chain.filter(exchange.mutate().response(countingResponse).build())
+                .doFinally(signal -> {
+                    if (properties.isEnabled()) {
+                        log(exchange, stats, signal);
+                    }
+                });
+    }
+
+    /**
+     * 샘플링 여부를 판단하고 접근 로그 한 줄을 기록
+     */
+    private void log(ServerWebExchange exchange, ExchangeStats stats, SignalType signal) {
+        if (!ACCESS_LOG.isInfoEnabled()) {
+            return;
+        }
+
+        String routeId = GatewayRoutes.routeId(exchange);
+        HttpStatusCode status = exchange.getResponse().getStatusCode();
+
+        boolean error = signal == SignalType.ON_ERROR || (status != null && status.is5xxServerError());
+        if (!(error && properties.isAlwaysLogErrors())) {
+            double rate = properties.sampleRateFor(routeId);
+            if (rate < 1.0 && ThreadLocalRandom.current().nextDouble() >= rate) {
+                return;
+            }
+        }
+
+        ServerHttpRequest request = exchange.getRequest();
+        JwtPrincipal principal = exchange.getAttribute(JwtAuthFilter.PRINCIPAL_ATTR);
+        long requestBytes = request.getHeaders().getContentLength();
+
+        StringBuilder line = new StringBuilder(192)
+                .append("route=").append(routeId != null ? routeId : "-")
+                .append(" method=").append(request.getMethod().name())
+                .append(" path=").append(request.getPath().value())
+                .append(" status=").append(status != null ? status.value() : 0)
+                .append(" outcome=").append(signal == SignalType.ON_COMPLETE ? "complete"
+                        : signal == SignalType.ON_ERROR ? "error" : "cancel")
+                .append(" latencyUs=").append(stats.elapsedNanos() / 1_000)
+                .append(" userId=").append(principal != null ? principal.getUserId() : "-")
+                .append(" reqBytes=").append(Math.max(requestBytes, 0))
+                .append(" respBytes=").append(stats.getResponseBytes());
+        RequestTrace trace = RequestTrace.from(exchange);
+        if (trace != null) {
+            line.append(" traceId=").append(trace.getContext().traceId());
+        }
+        ACCESS_LOG.info(line.toString());
+    }
+}
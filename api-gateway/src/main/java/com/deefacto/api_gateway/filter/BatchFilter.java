@@ -0,0 +1,153 @@
+package com.deefacto.api_gateway.filter;
+
+import com.deefacto.api_gateway.batch.BatchDispatcher;
+import com.deefacto.api_gateway.batch.BatchPartResult;
+import com.deefacto.api_gateway.batch.BatchRequest;
+import com.deefacto.api_gateway.config.BatchProperties;
+import com.deefacto.api_gateway.util.ErrorResponseWriter;
+import com.deefacto.api_gateway.util.GatewayRoutes;
+import com.deefacto.api_gateway.util.JwtPrincipal;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 배치 요청 필터
+ *
+ * 대시보드 첫 화면처럼 여러 API(/home, /noti, /sensors)를 한 번에 호출해야 하는 경우
+ * 클라이언트가 하위 요청 목록을 POST /batch로 한 번에 보내면,
+ * 인증은 배치 요청에서 한 번만 하고(JwtAuthFilter) 하위 요청은 병렬로 실행하여
+ * 완료되는 순서대로 NDJSON(application/x-ndjson, 한 줄에 하위 요청 결과 하나)으로 응답
+ *
+ * - 하위 요청마다 상태 코드/처리 시간을 따로 반환하며, 일부가 실패해도 배치 응답은 200
+ * - 하위 요청별 타임아웃: timeoutMs (gateway.batch.max-part-timeout과 라우트 response-timeout 이내)
+ *
+ * 배치 라우트(gateway.batch.route-id)의 요청만 처리하고, 하위 서비스로 전달하지 않음
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class BatchFilter implements GlobalFilter, Ordered {
+
+    private static final byte NEWLINE = '\n';
+
+    private final BatchProperties properties;
+    private final BatchDispatcher dispatcher;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 인증/토큰 폐기 확인/요청 제한 이후에 실행 (배치 요청 하나가 한 번의 요청으로 제한됨)
+     */
+    @Override
+    public int getOrder() {
+        return JwtAuthFilter.ORDER + 12;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (!properties.isEnabled() || !properties.getRouteId().equals(GatewayRoutes.routeId(exchange))) {
+            return chain.filter(exchange);
+        }
+        // 배치 라우트는 하위 서비스가 없으므로 NettyRoutingFilter로 넘기지 않음
+        ServerWebExchangeUtils.setAlreadyRouted(exchange);
+
+        JwtPrincipal principal = exchange.getAttribute(JwtAuthFilter.PRINCIPAL_ATTR);
+        if (principal == null) {
+            return ErrorResponseWriter.write(exchange, "배치 요청은 인증이 필요합니다", HttpStatus.UNAUTHORIZED);
+        }
+        if (exchange.getRequest().getMethod() != HttpMethod.POST) {
+            return ErrorResponseWriter.write(exchange, "배치 요청은 POST만 지원합니다", HttpStatus.METHOD_NOT_ALLOWED);
+        }
+
+        return DataBufferUtils.join(exchange.getRequest().getBody(), (int) properties.getMaxRequestSize().toBytes())
+                .map(this::read)
+                .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("요청 본문이 없습니다")))
+                .onErrorResume(e -> reject(exchange, e).then(Mono.empty()))
+                .flatMap(batch -> respond(exchange, principal, batch));
+    }
+
+    /**
+     * 하위 요청 결과를 완료되는 순서대로 한 줄씩 전송 (결과마다 flush)
+     */
+    private Mono<Void> respond(ServerWebExchange exchange, JwtPrincipal principal, BatchRequest batch) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.OK);
+        response.getHeaders().setContentType(MediaType.APPLICATION_NDJSON);
+        response.getHeaders().setCacheControl("no-store");
+
+        Flux<Mono<DataBuffer>> lines = dispatcher.dispatch(exchange, principal, batch.requests())
+                .map(result -> Mono.fromSupplier(() -> line(response, result)));
+        return response.writeAndFlushWith(lines);
+    }
+
+    /**
+     * 요청 본문을 읽고 하위 요청 수를 검증 (형식 오류는 IllegalArgumentException)
+     */
+    private BatchRequest read(DataBuffer buffer) {
+        BatchRequest batch;
+        try (InputStream input = buffer.asInputStream(true)) {
+            batch = objectMapper.readValue(input, BatchRequest.class);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("요청 본문 형식이 올바르지 않습니다");
+        }
+        if (batch == null || batch.requests() == null || batch.requests().isEmpty()) {
+            throw new IllegalArgumentException("하위 요청(requests)이 없습니다");
+        }
+        if (batch.requests().size() > properties.getMaxRequests()) {
+            throw new IllegalArgumentException("하위 요청은 최대 " + properties.getMaxRequests() + "개까지 가능합니다");
+        }
+        return batch;
+    }
+
+    /**
+     * 잘못된 배치 요청에 대한 에러 응답 (그 외 오류는 그대로 전달)
+     */
+    private Mono<Void> reject(ServerWebExchange exchange, Throwable e) {
+        if (e instanceof DataBufferLimitException) {
+            return ErrorResponseWriter.write(exchange, "배치 요청이 너무 큽니다", HttpStatus.PAYLOAD_TOO_LARGE);
+        }
+        if (e instanceof IllegalArgumentException) {
+            return ErrorResponseWriter.write(exchange, e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+        return Mono.error(e);
+    }
+
+    private DataBuffer line(ServerHttpResponse response, BatchPartResult result) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(result);
+        } catch (JsonProcessingException e) {
+            json = objectMapper.createObjectNode()
+                    .put("id", result.id())
+                    .put("status", HttpStatus.BAD_GATEWAY.value())
+                    .put("error", "응답을 변환할 수 없습니다")
+                    .toString()
+                    .getBytes(StandardCharsets.UTF_8);
+        }
+        DataBuffer buffer = response.bufferFactory().allocateBuffer(json.length + 1);
+        buffer.write(json);
+        buffer.write(NEWLINE);
+        return buffer;
+    }
+}
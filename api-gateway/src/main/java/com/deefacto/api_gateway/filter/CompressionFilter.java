@@ -0,0 +1,111 @@
+package com.deefacto.api_gateway.filter;
+
+import com.deefacto.api_gateway.compression.CompressingResponse;
+import com.deefacto.api_gateway.config.CompressionProperties;
+import com.deefacto.api_gateway.metrics.CompressionMetrics;
+import com.deefacto.api_gateway.util.GatewayRoutes;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * 응답 압축 필터
+ *
+ * gateway.compression.routes에 등록된 라우트(리포트/센서 등 큰 JSON 응답)의 응답을
+ * 클라이언트의 Accept-Encoding에 따라 gzip으로 스트리밍 압축
+ *
+ * 응답 캐시 필터보다 먼저(바깥에서) 실행되므로 캐시에는 원본이 저장되고,
+ * 캐시 hit 응답도 요청마다 클라이언트에 맞게 압축됨
+ *
+ * upstream-encoding이 identity이면 하위 서비스에 Accept-Encoding을 보내지 않아
+ * 압축은 게이트웨이에서만 수행 (pass-through이면 하위 서비스가 압축한 응답을 그대로 전달)
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class CompressionFilter implements GlobalFilter, Ordered {
+
+    private final CompressionProperties properties;
+    private final CompressionMetrics metrics;
+
+    /**
+     * 요청 제한 이후, 응답 캐시 이전에 실행
+     */
+    @Override
+    public int getOrder() {
+        return JwtAuthFilter.ORDER + 15;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (!properties.isEnabled() || request.getMethod() == HttpMethod.HEAD
+                || StreamFanOutFilter.acceptsEventStream(request.getHeaders())) {
+            return chain.filter(exchange);
+        }
+        String routeId = GatewayRoutes.routeId(exchange);
+        CompressionProperties.Route route = properties.routeFor(routeId);
+        if (route == null || !acceptsGzip(request.getHeaders())) {
+            return chain.filter(exchange);
+        }
+
+        CompressingResponse response = new CompressingResponse(exchange.getResponse(), properties, metrics,
+                routeId, properties.minResponseSizeFor(route));
+        ServerWebExchange.Builder builder = exchange.mutate().response(response);
+        if (properties.getUpstreamEncoding() == CompressionProperties.UpstreamEncoding.IDENTITY) {
+            builder.request(request.mutate()
+                    .headers(headers -> headers.remove(HttpHeaders.ACCEPT_ENCODING))
+                    .build());
+        }
+        return chain.filter(builder.build());
+    }
+
+    /**
+     * Accept-Encoding에 gzip(또는 *)이 q=0이 아닌 값으로 포함되어 있는지 확인
+     * 예: "gzip, deflate, br" -> true, "gzip;q=0, br" -> false
+     */
+    static boolean acceptsGzip(HttpHeaders headers) {
+        List<String> values = headers.get(HttpHeaders.ACCEPT_ENCODING);
+        if (values == null) {
+            return false;
+        }
+        for (String value : values) {
+            for (String coding : value.split(",")) {
+                int semicolon = coding.indexOf(';');
+                String name = (semicolon >= 0 ? coding.substring(0, semicolon) : coding).trim();
+                if (!name.equalsIgnoreCase("gzip") && !name.equals("*")) {
+                    continue;
+                }
+                if (semicolon < 0 || quality(coding.substring(semicolon + 1)) > 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static double quality(String parameters) {
+        for (String parameter : parameters.split(";")) {
+            String trimmed = parameter.trim();
+            if (trimmed.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(trimmed.substring(2));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
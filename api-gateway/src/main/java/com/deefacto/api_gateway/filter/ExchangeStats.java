@@ -0,0 +1,63 @@
+package com.deefacto.api_gateway.filter;
+
+import org.springframework.web.server.ServerWebExchange;
+
+/**
+ * 요청 하나에 대한 측정값 모음
+ *
+ * AccessLogFilter가 요청 시작 시 생성하여 exchange 속성에 보관하고,
+ * 이후 필터(메트릭 등)가 같은 객체를 읽어 중복 측정을 피함
+ *
+ * 하나의 요청은 한 번에 하나의 스레드에서만 처리되므로 별도 동기화는 하지 않음
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+public final class ExchangeStats {
+
+    /**
+     * exchange 속성 이름
+     */
+    public static final String ATTR = ExchangeStats.class.getName();
+
+    private final long startNanos;
+    private long responseBytes;
+
+    ExchangeStats(long startNanos) {
+        this.startNanos = startNanos;
+    }
+
+    /**
+     * exchange에 보관된 측정값 조회
+     *
+     * @return 측정값, AccessLogFilter를 거치지 않은 요청이면 null
+     */
+    public static ExchangeStats from(ServerWebExchange exchange) {
+        return exchange.getAttribute(ATTR);
+    }
+
+    /**
+     * 요청 수신 시각 (System.nanoTime 기준)
+     */
+    public long getStartNanos() {
+        return startNanos;
+    }
+
+    /**
+     * 요청 수신 이후 경과 시간 (나노초)
+     */
+    public long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    /**
+     * 클라이언트로 전송한 응답 바이트 수
+     */
+    public long getResponseBytes() {
+        return responseBytes;
+    }
+
+    void addResponseBytes(int bytes) {
+        this.responseBytes += bytes;
+    }
+}
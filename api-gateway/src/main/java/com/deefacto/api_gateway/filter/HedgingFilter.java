@@ -0,0 +1,326 @@
+package com.deefacto.api_gateway.filter;
+
+import com.deefacto.api_gateway.config.HedgingProperties;
+import com.deefacto.api_gateway.hedge.LatencyTracker;
+import com.deefacto.api_gateway.hedge.RetryBudget;
+import com.deefacto.api_gateway.metrics.RouteMetrics;
+import com.deefacto.api_gateway.trace.RequestTrace;
+import com.deefacto.api_gateway.util.GatewayRoutes;
+import com.deefacto.api_gateway.util.GatewayWebClients;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.RouteToRequestUrlFilter;
+import org.springframework.cloud.gateway.filter.headers.HttpHeadersFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 헤지 요청(hedged request) 필터
+ *
+ * gateway.hedging.routes에 등록된 라우트의 GET/HEAD 요청에서
+ * 첫 요청이 최근 처리 시간의 백분위수(예: p95)만큼 지나도 응답이 없으면 같은 요청을 한 번 더 보내고,
+ * 먼저 도착한 응답을 사용하며 나머지 요청은 취소함 -> 느린 인스턴스 하나로 인한 꼬리 지연 감소
+ *
+ * - 멱등 메서드(GET, HEAD)에만 적용
+ * - 추가 요청은 전체 공유 예산(RetryBudget) 안에서만 전송 (예: 원래 요청의 10%)
+ *   -> 하위 서비스 전체가 느려지는 장애 상황에서 부하를 키우지 않음
+ * - 응답 본문은 버퍼에 모두 받은 뒤 전달 (라우트별 max-body-size까지)
+ *   -> 더 큰 응답은 버리고 일반 라우팅(NettyRoutingFilter)으로 다시 요청해 스트리밍으로 전달
+ *
+ * 라우트 필터 적용 후 최종 URL이 정해진 뒤, NettyRoutingFilter 대신 직접 호출함
+ * 호출에는 Gateway의 HttpClient와 라우트 metadata의 connect-timeout을 그대로 사용 (GatewayWebClients)
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+@Component
+@Slf4j
+public class HedgingFilter implements GlobalFilter, Ordered {
+
+    private final HedgingProperties properties;
+    private final RetryBudget budget;
+    private final GatewayWebClients webClients;
+    private final ObjectProvider<List<HttpHeadersFilter>> headersFilters;
+    private final MeterRegistry registry;
+    private final RouteMetrics routeMetrics;
+
+    private final Map<String, RouteHedgeState> byRoute = new ConcurrentHashMap<>();
+
+    public HedgingFilter(HedgingProperties properties, RetryBudget budget, GatewayWebClients webClients,
+                         ObjectProvider<List<HttpHeadersFilter>> headersFilters, MeterRegistry registry,
+                         RouteMetrics routeMetrics) {
+        this.properties = properties;
+        this.budget = budget;
+        this.webClients = webClients;
+        this.headersFilters = headersFilters;
+        this.registry = registry;
+        this.routeMetrics = routeMetrics;
+    }
+
+    /**
+     * StreamFanOutFilter 다음, NettyRoutingFilter 이전에 실행
+     */
+    @Override
+    public int getOrder() {
+        return RouteToRequestUrlFilter.ROUTE_TO_URL_FILTER_ORDER + 2;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        HttpMethod method = exchange.getRequest().getMethod();
+        if (!properties.isEnabled()
+                || (method != HttpMethod.GET && method != HttpMethod.HEAD)
+                || ServerWebExchangeUtils.isAlreadyRouted(exchange)
+                || StreamFanOutFilter.acceptsEventStream(exchange.getRequest().getHeaders())) {
+            return chain.filter(exchange);
+        }
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        HedgingProperties.Route config = properties.routeFor(route != null ? route.getId() : null);
+        URI uri = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR);
+        if (config == null || uri == null
+                || !("http".equals(uri.getScheme()) || "https".equals(uri.getScheme()))) {
+            return chain.filter(exchange);
+        }
+
+        // 하위 서비스 호출은 이 필터가 담당하므로 NettyRoutingFilter는 건너뜀
+        ServerWebExchangeUtils.setAlreadyRouted(exchange);
+        RequestTrace trace = RequestTrace.from(exchange);
+        if (trace != null) {
+            trace.upstreamStarted();
+        }
+
+        RouteHedgeState state = state(route.getId(), config);
+        budget.deposit();
+
+        HttpHeaders headers = requestHeaders(exchange);
+        Duration timeout = GatewayRoutes.responseTimeout(route);
+        WebClient webClient = webClients.forRoute(route);
+        Duration delay = hedgeDelay(state, config);
+        long maxBodySize = config.getMaxBodySize().toBytes();
+
+        RouteMetrics.RouteMeters meters = routeMetrics.meters(route.getId());
+        Mono<Attempt> primary = attempt(webClient, method, uri, headers, timeout, maxBodySize, state, meters, false);
+        Mono<Attempt> hedge = Mono.delay(delay)
+                .filter(tick -> {
+                    if (budget.tryWithdraw()) {
+                        state.fired.increment();
+                        return true;
+                    }
+                    state.budgetExhausted.increment();
+                    return false;
+                })
+                .flatMap(tick -> attempt(webClient, method, uri, headers, timeout, maxBodySize, state, meters, true));
+
+        return Mono.firstWithValue(primary, hedge)
+                .onErrorMap(NoSuchElementException.class, HedgingFilter::firstError)
+                .flatMap(winner -> {
+                    if (winner.tooLarge()) {
+                        // 응답이 max-body-size를 넘음 -> 일반 라우팅으로 다시 요청 (GET/HEAD만 대상이라 안전)
+                        state.tooLarge.increment();
+                        log.debug("HedgingFilter - 응답이 커서 일반 라우팅으로 전달: route={}, maxBodySize={}",
+                                route.getId(), config.getMaxBodySize());
+                        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ALREADY_ROUTED_ATTR, false);
+                        return chain.filter(exchange);
+                    }
+                    if (winner.hedged()) {
+                        state.won.increment();
+                    }
+                    return write(exchange, winner.entity());
+                });
+    }
+
+    /**
+     * 하위 서비스 요청 한 번 (응답 본문까지 모두 받음)
+     *
+     * 본문이 maxBodySize를 넘으면 본문을 버리고 tooLarge 결과를 반환 (오류가 아닌 값이므로 다른 요청도 취소됨)
+     * 처리 시간은 완료된 요청과, 헤지 요청에 져서 취소된 첫 요청(최소 그만큼은 느렸음)만 기록
+     * 하위 서비스 응답 시간 메트릭(gateway.route.upstream.latency)은 요청마다 기록 (진 요청은 취소로 기록)
+     */
+    private Mono<Attempt> attempt(WebClient webClient, HttpMethod method, URI uri, HttpHeaders headers,
+                                  Duration timeout, long maxBodySize,
+                                  RouteHedgeState state, RouteMetrics.RouteMeters meters, boolean hedged) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            Mono<Attempt> call = webClient.method(method)
+                    .uri(uri)
+                    .headers(target -> target.addAll(headers))
+                    .exchangeToMono(response -> read(response, method, maxBodySize, hedged));
+            if (timeout != null) {
+                call = call.timeout(timeout, Mono.error(() ->
+                        new ResponseStatusException(HttpStatus.GATEWAY_TIMEOUT, "Response took longer than timeout: " + timeout)));
+            }
+            return call
+                    .doOnSuccess(attempt -> {
+                        state.tracker.record(System.nanoTime() - start);
+                        meters.upstream(attempt.entity().getStatusCode().value(), true, System.nanoTime() - start);
+                    })
+                    .doOnError(e -> meters.upstream(0, false, System.nanoTime() - start))
+                    .doOnCancel(() -> {
+                        if (!hedged) {
+                            state.tracker.record(System.nanoTime() - start);
+                        }
+                        meters.upstream(0, false, System.nanoTime() - start);
+                    });
+        });
+    }
+
+    /**
+     * 응답 본문을 maxBodySize까지 버퍼에 받음
+     * (Content-Length가 이미 크거나 받는 중에 넘으면 본문을 버리고 tooLarge 결과)
+     */
+    private static Mono<Attempt> read(ClientResponse response, HttpMethod method, long maxBodySize, boolean hedged) {
+        Attempt tooLarge = new Attempt(ResponseEntity.status(response.statusCode()).build(), hedged, true);
+        if (method != HttpMethod.HEAD && response.headers().contentLength().orElse(0) > maxBodySize) {
+            return response.releaseBody().thenReturn(tooLarge);
+        }
+        HttpHeaders headers = response.headers().asHttpHeaders();
+        return DataBufferUtils.join(response.bodyToFlux(DataBuffer.class), (int) Math.min(maxBodySize, Integer.MAX_VALUE))
+                .map(buffer -> {
+                    byte[] body = new byte[buffer.readableByteCount()];
+                    buffer.read(body);
+                    DataBufferUtils.release(buffer);
+                    return ResponseEntity.status(response.statusCode()).headers(headers).body(body);
+                })
+                .switchIfEmpty(Mono.fromSupplier(() -> ResponseEntity.status(response.statusCode()).headers(headers).<byte[]>build()))
+                .map(entity -> new Attempt(entity, hedged, false))
+                .onErrorReturn(DataBufferLimitException.class, tooLarge);  // 읽던 본문은 join이 해제하고 연결은 취소됨
+    }
+
+    /**
+     * 먼저 도착한 응답을 클라이언트에 전달
+     */
+    private Mono<Void> write(ServerWebExchange exchange, ResponseEntity<byte[]> entity) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(entity.getStatusCode());
+
+        List<HttpHeadersFilter> filters = headersFilters.getIfAvailable();
+        HttpHeaders responseHeaders = filters != null
+                ? HttpHeadersFilter.filter(filters, entity.getHeaders(), exchange, HttpHeadersFilter.Type.RESPONSE)
+                : entity.getHeaders();
+        response.getHeaders().putAll(responseHeaders);
+        response.getHeaders().remove(HttpHeaders.TRANSFER_ENCODING);
+
+        byte[] body = entity.getBody();
+        if (body == null) {
+            return response.setComplete();
+        }
+        response.getHeaders().setContentLength(body.length);
+        return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(body)));
+    }
+
+    /**
+     * 하위 서비스로 보낼 요청 헤더 (Gateway의 HttpHeadersFilter 적용, NettyRoutingFilter와 동일)
+     */
+    private HttpHeaders requestHeaders(ServerWebExchange exchange) {
+        List<HttpHeadersFilter> filters = headersFilters.getIfAvailable();
+        HttpHeaders filtered = filters != null
+                ? HttpHeadersFilter.filterRequest(filters, exchange)
+                : exchange.getRequest().getHeaders();
+        HttpHeaders headers = new HttpHeaders();
+        headers.addAll(filtered);
+        if (!Boolean.TRUE.equals(exchange.getAttribute(ServerWebExchangeUtils.PRESERVE_HOST_HEADER_ATTRIBUTE))) {
+            headers.remove(HttpHeaders.HOST);
+        }
+        return headers;
+    }
+
+    /**
+     * 헤지 지연 시간 (최근 처리 시간 백분위수, min-delay ~ max-delay 범위)
+     */
+    private static Duration hedgeDelay(RouteHedgeState state, HedgingProperties.Route config) {
+        long percentile = state.tracker.percentileNanos(config.getMinSamples());
+        long min = config.getMinDelay().toNanos();
+        long max = config.getMaxDelay().toNanos();
+        long delay = percentile < 0 ? max : Math.min(max, Math.max(min, percentile));
+        state.delayNanos = delay;
+        return Duration.ofNanos(delay);
+    }
+
+    /**
+     * 두 요청이 모두 실패한 경우 첫 번째 실제 오류를 전달
+     */
+    private static Throwable firstError(NoSuchElementException e) {
+        Throwable cause = e.getCause();
+        if (cause != null) {
+            List<Throwable> errors = Exceptions.unwrapMultiple(cause);
+            return errors.isEmpty() ? cause : errors.get(0);
+        }
+        return e.getSuppressed().length > 0 ? e.getSuppressed()[0] : e;
+    }
+
+    private RouteHedgeState state(String routeId, HedgingProperties.Route config) {
+        RouteHedgeState state = byRoute.get(routeId);
+        if (state == null) {
+            state = byRoute.computeIfAbsent(routeId, id -> new RouteHedgeState(id, config.getPercentile()));
+        }
+        return state;
+    }
+
+    /**
+     * 요청 결과 (hedged: 헤지 요청의 응답인지 여부, tooLarge: 본문이 max-body-size를 넘어 버림)
+     */
+    private record Attempt(ResponseEntity<byte[]> entity, boolean hedged, boolean tooLarge) {
+    }
+
+    /**
+     * 라우트 하나의 처리 시간 기록과 헤지 메트릭
+     */
+    private final class RouteHedgeState {
+
+        private final LatencyTracker tracker;
+        private final Counter fired;
+        private final Counter won;
+        private final Counter budgetExhausted;
+        private final Counter tooLarge;
+        private volatile long delayNanos;
+
+        private RouteHedgeState(String routeId, double percentile) {
+            this.tracker = new LatencyTracker(percentile);
+            this.fired = counter(routeId, "fired");
+            this.won = counter(routeId, "won");
+            this.budgetExhausted = counter(routeId, "budget_exhausted");
+            this.tooLarge = counter(routeId, "too_large");
+            Gauge.builder("gateway.hedge.delay", this, state -> state.delayNanos / 1_000_000_000.0)
+                    .description("현재 헤지 지연 시간 (초)")
+                    .tag("route", routeId)
+                    .baseUnit("seconds")
+                    .register(registry);
+        }
+
+        private Counter counter(String routeId, String result) {
+            return Counter.builder("gateway.hedge.requests")
+                    .description("헤지 요청 결과별 횟수 (fired: 전송, won: 먼저 응답, budget_exhausted: 예산 부족으로 생략, too_large: 응답이 커서 일반 라우팅으로 다시 요청)")
+                    .tag("route", routeId)
+                    .tag("result", result)
+                    .register(registry);
+        }
+    }
+}
@@ -1,12 +1,20 @@
 package com.deefacto.api_gateway.filter;
 
+import com.deefacto.api_gateway.metrics.AuthMetrics;
+import com.deefacto.api_gateway.metrics.AuthOutcome;
+import com.deefacto.api_gateway.policy.AuthPolicy;
+import com.deefacto.api_gateway.policy.AuthPolicyMatcher;
+import com.deefacto.api_gateway.trace.RequestTrace;
+import com.deefacto.api_gateway.util.ErrorResponseWriter;
+import com.deefacto.api_gateway.util.GatewayRoutes;
+import com.deefacto.api_gateway.util.JwtPrincipal;
 import com.deefacto.api_gateway.util.JwtProvider;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import org.springframework.cloud.gateway.filter.GlobalFilter;
 import org.springframework.core.Ordered;
-import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.server.reactive.ServerHttpRequest;
@@ -14,7 +22,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
-import java.nio.charset.StandardCharsets;
+import java.util.Map;
 
 /**
  * JWT 인증 필터
@@ -24,42 +32,69 @@ import java.nio.charset.StandardCharsets;
  * 
  * 주요 기능:
  * - JWT 토큰 검증
- * - 인증 제외 경로 처리 (로그인, 회원가입)
- * - 사용자 정보 헤더 추가 (직원ID, 역할)
+ * - 경로/라우트별 인증 정책 적용 (gateway.auth.policies: 공개, 인증, 역할 필요)
+ * - 사용자 정보 헤더 추가 (직원ID, 유저ID, jwt.headers 매핑)
  * - 인증 실패 시 JSON 형식 에러 응답
  * 
  * @author API Gateway Team
- * @version 1.0
+ * @version 1.1
  */
 @Component
 @RequiredArgsConstructor  // final 필드들을 매개변수로 받는 생성자 자동 생성
 @Slf4j
 public class JwtAuthFilter implements GlobalFilter, Ordered {
 
+    /**
+     * 필터 실행 순서 (인증 이후 단계의 필터들은 이 값을 기준으로 순서를 정함)
+     */
+    public static final int ORDER = -100;
+
+    /**
+     * 검증된 JwtPrincipal을 다음 필터에 전달하기 위한 exchange 속성 이름
+     * 인증 제외 경로에서는 값이 없음
+     */
+    public static final String PRINCIPAL_ATTR = JwtAuthFilter.class.getName() + ".principal";
+
+    /**
+     * Authorization 헤더의 토큰 접두사
+     */
+    static final String BEARER_PREFIX = "Bearer ";
+
     /**
      * JWT 토큰 처리를 담당하는 유틸리티 클래스
      * 토큰 검증, 파싱 등의 기능 제공
      */
     private final JwtProvider jwtProvider;
 
+    /**
+     * 인증 결과/검증 시간 메트릭
+     */
+    private final AuthMetrics authMetrics;
+
+    /**
+     * 경로/라우트별 인증 정책 매처
+     */
+    private final AuthPolicyMatcher policyMatcher;
+
     /**
      * 필터 실행 순서를 정의
      * 낮은 숫자가 먼저 실행됨 (다른 필터보다 우선 실행)
      */
     @Override
     public int getOrder() {
-        return -100; // 다른 필터보다 먼저 실행
+        return ORDER; // 다른 필터보다 먼저 실행
     }
 
     /**
      * 모든 API 요청에 대해 실행되는 필터 메서드
      * 
      * 처리 순서:
-     * 1. 인증 제외 경로 확인
+     * 1. 인증 정책 조회 (공개 경로면 바로 통과)
      * 2. Authorization 헤더 확인
      * 3. JWT 토큰 검증
-     * 4. 사용자 정보 추출 및 헤더 추가
-     * 5. 하위 서비스로 요청 전달
+     * 4. 역할 확인 (정책이 역할을 요구하는 경우)
+     * 5. 사용자 정보 추출 및 헤더 추가
+     * 6. 하위 서비스로 요청 전달
      * 
      * @param exchange HTTP 요청/응답 정보를 담고 있는 객체
      * @param chain 다음 필터 또는 서비스로 요청을 전달하는 체인
@@ -73,50 +108,138 @@ public class JwtAuthFilter implements GlobalFilter, Ordered {
 
         // 요청 경로 추출 (인증 제외 경로 확인용)
         String path = exchange.getRequest().getURI().getPath();
+
+        // 라우트 ID (정책 조회 및 메트릭 태그용)
+        String routeId = GatewayRoutes.routeId(exchange);
+        String routeTag = routeId != null ? routeId : GatewayRoutes.UNKNOWN;
+
+        // 경로/라우트에 적용할 인증 정책 (시작 시 컴파일된 트라이에서 조회)
+        AuthPolicy policy = policyMatcher.match(routeId, path);
         
-        // 디버깅을 위한 로그 추가
-        log.info("JwtAuthFilter - 요청 경로: {}, Authorization 헤더: {}", path, authHeader);
+        // 요청별 기록은 AccessLogFilter가 담당 (토큰/Authorization 헤더는 로그에 남기지 않음)
 
-        // 인증이 필요하지 않은 경로들 (로그인, 회원가입)
+        // 인증이 필요하지 않은 경로들 (로그인, 토큰 재발급 등 - gateway.auth.policies의 public 정책)
         // 이 경로들은 JWT 토큰 없이도 접근 가능
-        if (path.startsWith("/auth/login") || path.startsWith("/auth/refresh")) {
-            log.info("JwtAuthFilter - 인증 제외 경로: {}", path);
-            // 인증 없이 바로 다음 필터/서비스로 요청 전달
-            return chain.filter(exchange);
+        if (policy.isPublic()) {
+            log.debug("JwtAuthFilter - 인증 제외 경로: {}", path);
+            authMetrics.recordOutcome(routeTag, AuthOutcome.BYPASSED);
+            // 인증 없이 다음 필터/서비스로 요청 전달 (클라이언트가 보낸 사용자 헤더는 제거)
+            return chain.filter(stripManagedHeaders(exchange));
         }
 
         // Authorization 헤더가 없거나 "Bearer "로 시작하지 않는 경우
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            log.warn("JwtAuthFilter - 인증 헤더 없음 또는 잘못된 형식: {}", authHeader);
+        if (authHeader == null || !authHeader.startsWith(BEARER_PREFIX)) {
+            log.debug("JwtAuthFilter - 인증 헤더 없음 또는 잘못된 형식: path={}", path);
+            authMetrics.recordOutcome(routeTag, authHeader == null ? AuthOutcome.MISSING_HEADER : AuthOutcome.BAD_FORMAT);
             return onError(exchange, "인증 헤더가 없거나 잘못된 형식입니다", HttpStatus.UNAUTHORIZED);
         }
         
         // "Bearer " 접두사를 제거하여 순수 JWT 토큰만 추출
-        String token = authHeader.replace("Bearer ", "");
+        String token = authHeader.substring(BEARER_PREFIX.length());
         
-        // JWT 토큰 유효성 검증 (서명, 만료시간 등)
-        if (!jwtProvider.validateToken(token)) {
-            log.warn("JwtAuthFilter - 유효하지 않은 토큰: {}", token);
+        // JWT 토큰을 한 번만 검증하고 사용자 정보를 함께 추출 (서명, 만료시간 등)
+        JwtPrincipal principal;
+        long verifyStart = System.nanoTime();
+        try {
+            principal = jwtProvider.verify(token);
+        } catch (JwtException e) {
+            recordVerification(exchange, routeTag, System.nanoTime() - verifyStart);
+            authMetrics.recordOutcome(routeTag, AuthMetrics.outcomeOf(e));
+            log.debug("JwtAuthFilter - 유효하지 않은 토큰: path={}, reason={}", path, e.getMessage());
             return onError(exchange, "유효하지 않은 토큰입니다", HttpStatus.UNAUTHORIZED);
         }
+        recordVerification(exchange, routeTag, System.nanoTime() - verifyStart);
+
+        // 역할이 필요한 정책인 경우 role claim 확인
+        if (!policy.permits(principal)) {
+            authMetrics.recordOutcome(routeTag, AuthOutcome.FORBIDDEN);
+            log.debug("JwtAuthFilter - 권한 부족: path={}, userId={}", path, principal.getUserId());
+            return onError(exchange, "접근 권한이 없습니다", HttpStatus.FORBIDDEN);
+        }
+        // 성공(SUCCESS)은 여기서 기록하지 않음 -> 폐기 확인까지 끝난 뒤 TokenRevocationFilter가 최종 결과로 한 번만 기록
+        // (폐기된 토큰이 success와 revoked로 두 번 집계되지 않도록)
 
-        // JWT 토큰에서 사용자 정보 추출
-        Long userId = jwtProvider.getUserIdFromToken(token);            // 유저 ID (불변)
-        String employeeId = jwtProvider.getEmployeeIdFromToken(token);  // 직원 ID
+        // 이후 필터(토큰 폐기 확인 등)에서 다시 검증하지 않도록 exchange 속성에 보관
+        exchange.getAttributes().put(PRINCIPAL_ATTR, principal);
+
+        Long userId = principal.getUserId();            // 유저 ID (불변)
+        String employeeId = principal.getEmployeeId();  // 직원 ID
         
-        log.info("JwtAuthFilter - 토큰 검증 성공: employeeId={}, userId={}", employeeId, userId);
+        log.debug("JwtAuthFilter - 토큰 검증 성공: employeeId={}, userId={}", employeeId, userId);
 
-        // 원본 요청에 사용자 정보를 헤더로 추가하여 새로운 요청 생성
+        // 원본 요청에 사용자 정보를 헤더로 설정하여 새로운 요청 생성 (클라이언트가 보낸 값은 덮어씀)
         // 하위 서비스에서는 이 헤더를 통해 사용자 정보를 확인할 수 있음
         ServerHttpRequest modifiedRequest = exchange.getRequest().mutate()
-                                            .header("X-Employee-Id", employeeId)  // 직원 ID 헤더
-                                            .header("X-User-Id", String.valueOf(userId)) // 유저 ID 헤더
-                                            .build();
+                .headers(headers -> putUserHeaders(headers, principal, policy))
+                .build();
 
         // 수정된 요청을 다음 필터/서비스로 전달
         return chain.filter(exchange.mutate().request(modifiedRequest).build());
     }
 
+    /**
+     * 검증 시간을 메트릭과 요청 trace(auth 단계)에 기록
+     */
+    private void recordVerification(ServerWebExchange exchange, String routeTag, long nanos) {
+        authMetrics.recordVerification(routeTag, nanos);
+        RequestTrace trace = RequestTrace.from(exchange);
+        if (trace != null) {
+            trace.addAuthNanos(nanos);
+        }
+    }
+
+    /**
+     * 검증된 사용자 정보를 하위 서비스용 헤더로 설정 (클라이언트가 보낸 값은 덮어씀)
+     * 배치 요청의 하위 요청에도 같은 규칙으로 사용
+     *
+     * @param headers 하위 서비스로 보낼 요청 헤더
+     * @param principal 검증된 토큰 정보
+     * @param policy 요청 경로에 적용된 인증 정책 (정책별 헤더 매핑)
+     */
+    public static void putUserHeaders(HttpHeaders headers, JwtPrincipal principal, AuthPolicy policy) {
+        headers.set(AuthPolicyMatcher.EMPLOYEE_ID_HEADER, principal.getEmployeeId());          // 직원 ID 헤더
+        headers.set(AuthPolicyMatcher.USER_ID_HEADER, String.valueOf(principal.getUserId())); // 유저 ID 헤더
+        // jwt.headers / 정책별 headers 매핑 (claim 논리 이름 -> 헤더 이름)
+        for (Map.Entry<String, String> mapping : policy.getHeaderMappings()) {
+            String value = principal.getClaim(mapping.getKey());
+            if (value != null) {
+                headers.set(mapping.getValue(), value);
+            } else if (!isFixedHeader(mapping.getValue())) {
+                headers.remove(mapping.getValue());
+            }
+        }
+    }
+
+    /**
+     * 인증 제외 경로에서 클라이언트가 직접 보낸 사용자 헤더(X-User-Id 등)를 제거하는 메서드
+     * 해당 헤더가 없으면 요청을 그대로 사용 (요청 복사 없음)
+     */
+    private ServerWebExchange stripManagedHeaders(ServerWebExchange exchange) {
+        HttpHeaders requestHeaders = exchange.getRequest().getHeaders();
+        boolean spoofed = false;
+        for (String header : policyMatcher.managedHeaders()) {
+            if (requestHeaders.containsKey(header)) {
+                spoofed = true;
+                break;
+            }
+        }
+        if (!spoofed) {
+            return exchange;
+        }
+        ServerHttpRequest stripped = exchange.getRequest().mutate()
+                .headers(headers -> policyMatcher.managedHeaders().forEach(headers::remove))
+                .build();
+        return exchange.mutate().request(stripped).build();
+    }
+
+    /**
+     * 유저/직원 ID 헤더는 토큰의 기본 값으로 이미 설정되므로 매핑에서 제거하지 않음
+     */
+    private static boolean isFixedHeader(String header) {
+        return AuthPolicyMatcher.EMPLOYEE_ID_HEADER.equalsIgnoreCase(header)
+                || AuthPolicyMatcher.USER_ID_HEADER.equalsIgnoreCase(header);
+    }
+
     /**
      * 인증 실패 시 JSON 형식의 에러 응답을 생성하는 메서드
      * 
@@ -127,15 +250,6 @@ public class JwtAuthFilter implements GlobalFilter, Ordered {
      */
 
     private Mono<Void> onError(ServerWebExchange exchange, String err, HttpStatus httpStatus) {
-        String errMsg = "{\"error\": \"" + err + "\"}";
-        byte[] bytes = errMsg.getBytes(StandardCharsets.UTF_8);
-        DataBuffer buffer = exchange.getResponse().bufferFactory().wrap(bytes);
-
-        exchange.getResponse().setStatusCode(httpStatus);
-        exchange.getResponse().getHeaders().add("Content-Type", "application/json");
-        exchange.getResponse().getHeaders().add("Content-Length", String.valueOf(bytes.length));
-
-        // writeWith만 반환 -> 여기서 완료 처리까지 됨
-        return exchange.getResponse().writeWith(Mono.just(buffer));
+        return ErrorResponseWriter.write(exchange, err, httpStatus);
     }
 }
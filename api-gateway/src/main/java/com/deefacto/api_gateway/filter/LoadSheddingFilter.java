@@ -0,0 +1,90 @@
+package com.deefacto.api_gateway.filter;
+
+import com.deefacto.api_gateway.config.LoadSheddingProperties;
+import com.deefacto.api_gateway.shedding.LoadShedder;
+import com.deefacto.api_gateway.shedding.Priority;
+import com.deefacto.api_gateway.util.ErrorResponseWriter;
+import com.deefacto.api_gateway.util.GatewayRoutes;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 과부하 차단(load shedding) 필터
+ *
+ * 게이트웨이가 포화되면 모든 라우트가 함께 느려지므로,
+ * 라우트/경로별 등급(critical > high > normal > low)을 정해두고
+ * 부하 지수가 등급별 기준을 넘으면 낮은 등급의 요청부터 즉시 503 + Retry-After로 차단
+ * (알림/센서 알람 요청은 챗봇/리포트 내보내기보다 나중에 차단되거나 차단되지 않음)
+ *
+ * JWT 검증 등 CPU를 쓰는 단계보다 먼저 실행하여 차단할 요청에는 비용을 쓰지 않음
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LoadSheddingFilter implements GlobalFilter, Ordered {
+
+    private final LoadSheddingProperties properties;
+    private final LoadShedder loadShedder;
+    private final MeterRegistry registry;
+
+    private final Map<String, Counter> rejectedByKey = new ConcurrentHashMap<>();
+
+    /**
+     * 접근 로그/라우트 메트릭 이후, 인증 이전에 실행 (차단된 요청도 로그/메트릭에 남음)
+     */
+    @Override
+    public int getOrder() {
+        return JwtAuthFilter.ORDER - 50;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (!properties.isEnabled()) {
+            return chain.filter(exchange);
+        }
+
+        String routeId = GatewayRoutes.routeId(exchange);
+        Priority priority = loadShedder.priorityOf(routeId, exchange.getRequest().getPath().pathWithinApplication());
+        if (!loadShedder.admit(priority)) {
+            String routeTag = routeId != null ? routeId : GatewayRoutes.UNKNOWN;
+            rejected(routeTag, priority).increment();
+            log.debug("LoadSheddingFilter - 과부하로 차단: route={}, priority={}, pressure={}",
+                    routeTag, priority.tag(), loadShedder.pressure());
+            long retryAfter = Math.max(1, properties.getRetryAfter().toSeconds());
+            exchange.getResponse().getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+            return ErrorResponseWriter.write(exchange, "요청이 많아 잠시 후 다시 시도해 주세요", HttpStatus.SERVICE_UNAVAILABLE);
+        }
+
+        // SSE 구독은 오래 유지되는 연결이므로 처리 중 요청 수에 넣지 않음
+        if (StreamFanOutFilter.acceptsEventStream(exchange.getRequest().getHeaders())) {
+            return chain.filter(exchange);
+        }
+        loadShedder.enter();
+        return chain.filter(exchange)
+                .doFinally(signal -> loadShedder.exit());
+    }
+
+    private Counter rejected(String routeTag, Priority priority) {
+        return rejectedByKey.computeIfAbsent(routeTag + '\0' + priority.tag(), key -> Counter.builder("gateway.shedding.rejected")
+                .description("과부하로 차단된 요청 수")
+                .tag("route", routeTag)
+                .tag("priority", priority.tag())
+                .register(registry));
+    }
+}
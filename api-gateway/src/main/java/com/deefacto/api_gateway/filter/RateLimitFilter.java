@@ -0,0 +1,139 @@
+package com.deefacto.api_gateway.filter;
+
+import com.deefacto.api_gateway.config.RateLimitProperties;
+import com.deefacto.api_gateway.ratelimit.LocalRateLimiter;
+import com.deefacto.api_gateway.ratelimit.RateLimitStore;
+import com.deefacto.api_gateway.util.ErrorResponseWriter;
+import com.deefacto.api_gateway.util.GatewayRoutes;
+import com.deefacto.api_gateway.util.JwtPrincipal;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.support.ipresolver.RemoteAddressResolver;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 요청 제한(rate limiting) 필터
+ *
+ * 인증된 요청은 유저 ID, 인증 제외 경로는 클라이언트 IP 기준으로
+ * 라우트별 한도(gateway.rate-limit)를 넘는 요청을 429 Too Many Requests로 차단
+ *
+ * 클라이언트 IP는 RemoteAddressResolver로 결정 (gateway.rate-limit.trusted-proxies)
+ * - 0: 연결의 원격 주소
+ * - N: X-Forwarded-For의 뒤에서 N번째 값 (신뢰하는 프록시가 붙인 값, 헤더가 없으면 원격 주소)
+ *
+ * - local 모드: 인스턴스 내부의 lock-free GCRA 버킷 (요청당 할당/락 없음)
+ * - distributed 모드: RateLimitStore(Redis 등)로 인스턴스 간 한도 공유,
+ *   저장소 장애 시 local 버킷으로 대체하여 계속 제한
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RateLimitFilter implements GlobalFilter, Ordered {
+
+    /**
+     * 원격 주소를 알 수 없는 요청이 함께 사용하는 키
+     */
+    private static final String UNKNOWN_CLIENT = "unknown";
+
+    private final RateLimitProperties properties;
+    private final LocalRateLimiter localLimiter;
+    private final RateLimitStore store;
+    private final MeterRegistry registry;
+    private final RemoteAddressResolver addressResolver;
+
+    private final Map<String, Counter> rejectedByRoute = new ConcurrentHashMap<>();
+
+    /**
+     * 인증/토큰 폐기 확인 이후에 실행 (유저 ID가 확정된 뒤)
+     */
+    @Override
+    public int getOrder() {
+        return JwtAuthFilter.ORDER + 10;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (!properties.isEnabled()) {
+            return chain.filter(exchange);
+        }
+
+        String routeId = GatewayRoutes.routeId(exchange);
+        RateLimitProperties.Limit limit = properties.limitFor(routeId);
+        if (limit.isUnlimited()) {
+            return chain.filter(exchange);
+        }
+
+        String routeTag = routeId != null ? routeId : GatewayRoutes.UNKNOWN;
+        long interval = limit.intervalNanos();
+        long tolerance = limit.toleranceNanos();
+        Object key = clientKey(exchange);
+
+        if (properties.isDistributed()) {
+            return store.tryAcquire(storeKey(routeTag, key), interval, tolerance)
+                    .onErrorResume(e -> {
+                        log.warn("RateLimitFilter - 저장소 조회 실패, 로컬 버킷으로 대체: {}", e.getMessage());
+                        return Mono.just(localLimiter.tryAcquire(routeTag, key, interval, tolerance));
+                    })
+                    .flatMap(wait -> wait > 0 ? reject(exchange, routeTag, wait) : chain.filter(exchange));
+        }
+
+        long wait = localLimiter.tryAcquire(routeTag, key, interval, tolerance);
+        return wait > 0 ? reject(exchange, routeTag, wait) : chain.filter(exchange);
+    }
+
+    /**
+     * 제한 키 결정 (유저 ID > 클라이언트 IP)
+     * 요청에 이미 있는 객체를 그대로 사용하여 새 문자열을 만들지 않음
+     */
+    private Object clientKey(ServerWebExchange exchange) {
+        JwtPrincipal principal = exchange.getAttribute(JwtAuthFilter.PRINCIPAL_ATTR);
+        if (principal != null && principal.getUserId() != null) {
+            return principal.getUserId();
+        }
+        InetSocketAddress remoteAddress = addressResolver.resolve(exchange);
+        InetAddress address = remoteAddress != null ? remoteAddress.getAddress() : null;
+        return address != null ? address : UNKNOWN_CLIENT;
+    }
+
+    /**
+     * distributed 모드의 저장소 키 (라우트 ID:user:유저 ID 또는 라우트 ID:ip:IP)
+     */
+    private static String storeKey(String routeTag, Object key) {
+        if (key instanceof InetAddress address) {
+            return routeTag + ":ip:" + address.getHostAddress();
+        }
+        return routeTag + ":user:" + key;
+    }
+
+    private Mono<Void> reject(ServerWebExchange exchange, String routeTag, long waitNanos) {
+        long retryAfterSeconds = Math.max(1, (waitNanos + 999_999_999L) / 1_000_000_000L);
+        log.debug("RateLimitFilter - 요청 한도 초과: route={}, retryAfter={}s", routeTag, retryAfterSeconds);
+        rejectedCounter(routeTag).increment();
+        exchange.getResponse().getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        return ErrorResponseWriter.write(exchange, "요청이 너무 많습니다. 잠시 후 다시 시도해 주세요", HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    private Counter rejectedCounter(String routeTag) {
+        return rejectedByRoute.computeIfAbsent(routeTag, tag -> Counter.builder("gateway.ratelimit.rejected")
+                .description("요청 한도 초과로 차단된 요청 수")
+                .tag("route", tag)
+                .register(registry));
+    }
+}
@@ -0,0 +1,93 @@
+package com.deefacto.api_gateway.filter;
+
+import com.deefacto.api_gateway.config.ResilienceProperties;
+import com.deefacto.api_gateway.resilience.ResilienceRegistry;
+import com.deefacto.api_gateway.resilience.RouteResilience;
+import com.deefacto.api_gateway.resilience.UpstreamPermit;
+import com.deefacto.api_gateway.util.ErrorResponseWriter;
+import com.deefacto.api_gateway.util.GatewayRoutes;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * 하위 서비스 보호 필터 (서킷 브레이커 + 동시 요청 제한)
+ *
+ * 라우트(하위 서비스)마다 독립적으로 동작하여,
+ * 느리거나 장애가 난 서비스(chatbot-service 등)가 다른 서비스의 연결/메모리를 차지하지 않도록 함
+ *
+ * - 서킷 OPEN: 하위 서비스를 호출하지 않고 즉시 503 + Retry-After 응답
+ * - 동시 요청 수가 제한 값에 도달: 즉시 503 응답 (adaptive 모드는 처리 시간에 따라 제한 값 자동 조절)
+ * - 오류/5xx 응답/느린 호출은 서킷 브레이커 실패율에, 오류/5xx/처리 시간 기준 초과는 제한 값 감소에 반영
+ * - 처리 시간은 하위 서비스 응답 헤더를 받을 때까지 (UpstreamMetricsFilter와 같은 기준)
+ *   응답 헤더를 받으면(클라이언트 응답 시작 직전) 또는 그 전에 오류가 나면 바로 허가를 반납하며,
+ *   클라이언트 속도에 좌우되는 본문 전송 시간은 포함하지 않음
+ *
+ * SSE 구독 요청은 오래 유지되는 연결이므로 제외 (StreamFanOutFilter가 스트림당 연결 하나로 처리)
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ResilienceFilter implements GlobalFilter, Ordered {
+
+    private final ResilienceProperties properties;
+    private final ResilienceRegistry registry;
+
+    /**
+     * 인증/요청 제한/응답 캐시 이후에 실행 (캐시 hit은 하위 서비스 호출이 아니므로 제외)
+     */
+    @Override
+    public int getOrder() {
+        return JwtAuthFilter.ORDER + 30;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        String routeId = GatewayRoutes.routeId(exchange);
+        if (!properties.isEnabled() || routeId == null
+                || StreamFanOutFilter.acceptsEventStream(exchange.getRequest().getHeaders())) {
+            return chain.filter(exchange);
+        }
+
+        RouteResilience resilience = registry.forRoute(routeId);
+        UpstreamPermit permit = resilience.tryAcquire();
+        if (permit.rejection() == UpstreamPermit.Rejection.CIRCUIT_OPEN) {
+            log.debug("ResilienceFilter - 서킷 OPEN으로 즉시 실패: route={}", routeId);
+            long retryAfter = Math.max(1, resilience.openStateWait().toSeconds());
+            exchange.getResponse().getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+            return ErrorResponseWriter.write(exchange, "서비스를 일시적으로 사용할 수 없습니다", HttpStatus.SERVICE_UNAVAILABLE);
+        }
+        if (permit.rejection() == UpstreamPermit.Rejection.CONCURRENCY_LIMIT) {
+            log.debug("ResilienceFilter - 동시 요청 제한 초과: route={}, limit={}", routeId, resilience.limiter().getLimit());
+            exchange.getResponse().getHeaders().set(HttpHeaders.RETRY_AFTER, "1");
+            return ErrorResponseWriter.write(exchange, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요", HttpStatus.SERVICE_UNAVAILABLE);
+        }
+
+        // 하위 서비스 응답 헤더를 받아 클라이언트 응답을 시작하기 직전에 반납 (본문 전송 시간 제외)
+        exchange.getResponse().beforeCommit(() -> {
+            permit.release(isServerError(exchange));
+            return Mono.empty();
+        });
+        return chain.filter(exchange)
+                .doOnSuccess(done -> permit.release(isServerError(exchange)))
+                .doOnError(e -> permit.release(true))
+                // 응답 전 클라이언트 연결 종료 -> 하위 서비스 상태와 무관하므로 기록하지 않음
+                .doOnCancel(permit::cancel);
+    }
+
+    private static boolean isServerError(ServerWebExchange exchange) {
+        HttpStatusCode status = exchange.getResponse().getStatusCode();
+        return status != null && status.is5xxServerError();
+    }
+}
@@ -0,0 +1,186 @@
+package com.deefacto.api_gateway.filter;
+
+import com.deefacto.api_gateway.cache.CachedResponse;
+import com.deefacto.api_gateway.cache.CapturingResponse;
+import com.deefacto.api_gateway.cache.ResponseCache;
+import com.deefacto.api_gateway.cache.ResponseCacheKey;
+import com.deefacto.api_gateway.config.ResponseCacheProperties;
+import com.deefacto.api_gateway.metrics.CacheMetrics;
+import com.deefacto.api_gateway.metrics.CacheResult;
+import com.deefacto.api_gateway.util.GatewayRoutes;
+import com.deefacto.api_gateway.util.JwtPrincipal;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.core.publisher.Sinks;
+
+/**
+ * 응답 캐시 필터
+ *
+ * gateway.response-cache.routes에 등록된 라우트의 GET 응답을 라우트별 TTL 동안 캐시
+ * (대시보드/센서 조회처럼 여러 사용자가 같은 데이터를 동시에 요청하는 경우)
+ *
+ * 처리 순서:
+ * 1. 캐시 hit: If-None-Match가 ETag와 일치하면 304, 아니면 캐시 응답 반환 (하위 서비스 호출 없음)
+ * 2. 같은 키의 호출이 진행 중: leader의 응답을 기다려 함께 사용 (single-flight)
+ * 3. 캐시 miss: 하위 서비스 호출(leader), 응답을 그대로 전달하면서 복사해 캐시에 저장
+ *
+ * 인증/토큰 폐기/요청 제한 필터 이후에 실행되므로 캐시 응답도 인증된 요청에만 반환됨
+ * 라우트는 기본적으로 유저별로 캐시하며(per-user), 사용자 간 공유는 per-user: false로 명시한 라우트만
+ * 하위 서비스가 Vary로 캐시 키에 없는 요청 헤더를 지정한 응답은 캐시하지 않음 (CapturingResponse 참고)
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ResponseCacheFilter implements GlobalFilter, Ordered {
+
+    /**
+     * 캐시 처리 결과 표시 헤더 (HIT / MISS)
+     */
+    static final String X_CACHE = "X-Cache";
+
+    private final ResponseCacheProperties properties;
+    private final ResponseCache responseCache;
+    private final CacheMetrics cacheMetrics;
+
+    /**
+     * 인증/토큰 폐기 확인/요청 제한 이후에 실행
+     */
+    @Override
+    public int getOrder() {
+        return JwtAuthFilter.ORDER + 20;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (!properties.isEnabled() || request.getMethod() != HttpMethod.GET
+                || StreamFanOutFilter.acceptsEventStream(request.getHeaders())) {
+            // SSE 구독 요청은 응답이 끝나지 않으므로 캐시 대상이 아님 (StreamFanOutFilter 참고)
+            return chain.filter(exchange);
+        }
+        String routeId = GatewayRoutes.routeId(exchange);
+        ResponseCacheProperties.Route route = properties.routeFor(routeId);
+        if (route == null) {
+            return chain.filter(exchange);
+        }
+
+        Long userId = null;
+        String employeeId = null;
+        if (route.isPerUser()) {
+            JwtPrincipal principal = exchange.getAttribute(JwtAuthFilter.PRINCIPAL_ATTR);
+            if (principal == null || (principal.getUserId() == null && principal.getEmployeeId() == null)) {
+                // 유저별 캐시 라우트인데 사용자를 구분할 수 없는 경우 (인증 제외 경로 등) 캐시하지 않음
+                return chain.filter(exchange);
+            }
+            userId = principal.getUserId();
+            employeeId = principal.getEmployeeId();
+        }
+
+        HttpHeaders requestHeaders = request.getHeaders();
+        String rawQuery = request.getURI().getRawQuery();
+        ResponseCacheKey key = new ResponseCacheKey(routeId,
+                rawQuery != null ? request.getURI().getRawPath() + "?" + rawQuery : request.getURI().getRawPath(),
+                userId,
+                employeeId,
+                requestHeaders.getFirst(HttpHeaders.ACCEPT),
+                requestHeaders.getFirst(HttpHeaders.ACCEPT_ENCODING));
+
+        // 1. 캐시 hit
+        CachedResponse cached = responseCache.get(key);
+        if (cached != null) {
+            return writeCached(exchange, routeId, cached, CacheResult.HIT);
+        }
+
+        // 2. 같은 키의 하위 서비스 호출이 진행 중이면 결과를 기다려 함께 사용
+        Sinks.One<CachedResponse> sink = Sinks.one();
+        Sinks.One<CachedResponse> leader = responseCache.joinInflight(key, sink);
+        if (leader != null) {
+            return leader.asMono()
+                    .timeout(properties.getCoalesceTimeout(), Mono.empty())
+                    .flatMap(response -> writeCached(exchange, routeId, response, CacheResult.COALESCED)
+                            .thenReturn(Boolean.TRUE))
+                    // leader의 응답을 캐시할 수 없었거나 시간 초과 -> 직접 호출
+                    .switchIfEmpty(Mono.defer(() -> chain.filter(exchange).thenReturn(Boolean.TRUE)))
+                    .then();
+        }
+
+        // 3. 캐시 miss: 이 요청이 leader로서 하위 서비스 호출
+        cacheMetrics.record(routeId, CacheResult.MISS);
+        CapturingResponse capturing = new CapturingResponse(exchange.getResponse(),
+                (int) properties.getMaxBodySize().toBytes());
+        capturing.getHeaders().set(X_CACHE, "MISS");
+        // 캐시할 전체 응답(200)을 받기 위해 조건부 요청 헤더는 하위 서비스로 보내지 않음
+        ServerHttpRequest upstreamRequest = request.mutate()
+                .headers(headers -> {
+                    headers.remove(HttpHeaders.IF_NONE_MATCH);
+                    headers.remove(HttpHeaders.IF_MODIFIED_SINCE);
+                })
+                .build();
+
+        return chain.filter(exchange.mutate().request(upstreamRequest).response(capturing).build())
+                .doFinally(signal -> {
+                    CachedResponse response = signal == SignalType.ON_COMPLETE
+                            ? capturing.toCachedResponse(route.getTtl(), route.isPerUser())
+                            : null;
+                    responseCache.complete(key, sink, response);
+                    if (response == null) {
+                        log.debug("ResponseCacheFilter - 캐시하지 않는 응답: route={}, signal={}", routeId, signal);
+                    }
+                });
+    }
+
+    /**
+     * 캐시된 응답을 클라이언트에 반환 (If-None-Match가 일치하면 본문 없이 304)
+     */
+    private Mono<Void> writeCached(ServerWebExchange exchange, String routeId,
+                                   CachedResponse cached, CacheResult result) {
+        ServerHttpResponse response = exchange.getResponse();
+        HttpHeaders headers = response.getHeaders();
+        headers.putAll(cached.getHeaders());
+        if (cached.getEtag() != null) {
+            headers.setETag(cached.getEtag());
+        }
+        headers.set(HttpHeaders.AGE, String.valueOf(cached.ageSeconds()));
+        headers.set(X_CACHE, "HIT");
+
+        if (notModified(exchange.getRequest().getHeaders(), cached)) {
+            cacheMetrics.record(routeId, CacheResult.NOT_MODIFIED);
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            return response.setComplete();
+        }
+
+        cacheMetrics.record(routeId, result);
+        response.setStatusCode(cached.getStatus());
+        headers.setContentLength(cached.getBody().length);
+        return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(cached.getBody())));
+    }
+
+    /**
+     * If-None-Match가 캐시 응답의 ETag와 일치하는지 확인 (형식이 잘못된 헤더는 불일치로 처리)
+     */
+    private static boolean notModified(HttpHeaders requestHeaders, CachedResponse cached) {
+        if (!requestHeaders.containsKey(HttpHeaders.IF_NONE_MATCH)) {
+            return false;
+        }
+        try {
+            return cached.matches(requestHeaders.getIfNoneMatch());
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
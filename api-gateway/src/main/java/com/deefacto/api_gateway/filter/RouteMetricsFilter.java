@@ -0,0 +1,56 @@
+package com.deefacto.api_gateway.filter;
+
+import com.deefacto.api_gateway.metrics.RouteMetrics;
+import com.deefacto.api_gateway.util.GatewayRoutes;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+/**
+ * 라우트별 메트릭 필터
+ *
+ * 모든 요청에 대해 라우트별 처리 시간, 처리 중 요청 수, 송수신 바이트 수를 기록
+ * 처리 시간/응답 바이트 수는 AccessLogFilter가 만든 ExchangeStats를 재사용
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class RouteMetricsFilter implements GlobalFilter, Ordered {
+
+    private final RouteMetrics routeMetrics;
+
+    /**
+     * AccessLogFilter 바로 다음에 실행 (인증 실패 등으로 끝난 요청도 기록)
+     */
+    @Override
+    public int getOrder() {
+        return JwtAuthFilter.ORDER - 190;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        RouteMetrics.RouteMeters meters = routeMetrics.meters(GatewayRoutes.routeTag(exchange));
+        ExchangeStats stats = ExchangeStats.from(exchange);
+        long start = stats != null ? stats.getStartNanos() : System.nanoTime();
+
+        meters.start();
+        return chain.filter(exchange)
+                .doFinally(signal -> {
+                    HttpStatusCode status = exchange.getResponse().getStatusCode();
+                    meters.finish(
+                            status != null ? status.value() : 0,
+                            signal == SignalType.ON_COMPLETE,
+                            System.nanoTime() - start,
+                            exchange.getRequest().getHeaders().getContentLength(),
+                            stats != null ? stats.getResponseBytes() : 0);
+                });
+    }
+}
@@ -0,0 +1,235 @@
+package com.deefacto.api_gateway.filter;
+
+import com.deefacto.api_gateway.config.StreamingProperties;
+import com.deefacto.api_gateway.policy.AuthPolicyMatcher;
+import com.deefacto.api_gateway.streaming.SseFrames;
+import com.deefacto.api_gateway.streaming.StreamHub;
+import com.deefacto.api_gateway.util.GatewayRoutes;
+import com.deefacto.api_gateway.util.GatewayWebClients;
+import com.deefacto.api_gateway.util.JwtPrincipal;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.RouteToRequestUrlFilter;
+import org.springframework.cloud.gateway.filter.headers.HttpHeadersFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Signal;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 스트리밍(SSE) fan-out 필터
+ *
+ * gateway.streaming.routes에 등록된 라우트의 SSE 구독 요청(GET, Accept: text/event-stream)을
+ * 하위 서비스로 각각 전달하지 않고, StreamHub의 공유 스트림 하나에 연결
+ * -> 하위 서비스 연결 수가 시청자 수가 아닌 서로 다른 스트림 수에 비례
+ *
+ * - 클라이언트 응답(200 text/event-stream)은 하위 서비스가 2xx 응답 헤더를 보낸 뒤에 시작
+ *   -> 하위 서비스의 2xx 외 응답은 상태 코드/헤더/본문 그대로, 연결 실패는 일반 라우팅과 같이 오류로 전달
+ * - 하위 서비스 호출에는 Gateway HttpClient와 라우트 connect-timeout을 사용 (GatewayWebClients)
+ * - JWT 검증은 구독 요청 시 JwtAuthFilter에서 한 번만 수행 (이벤트마다 검증하지 않음)
+ * - 클라이언트마다 별도의 고정 크기 버퍼 (가득 차면 오래된 프레임부터 버림)
+ *   -> 느린 클라이언트가 다른 클라이언트를 멈추게 하지 않음
+ * - 하위 서비스 요청 헤더는 NettyRoutingFilter와 같이 Gateway의 HttpHeadersFilter를 적용해 전달
+ * - 스트림은 기본적으로 사용자(유저 ID/직원 ID)별로 공유 (같은 사용자의 여러 연결만 하나로 묶음)
+ *   -> 사용자별로 권한/필터링하는 하위 서비스도 그대로 동작
+ * - gateway.streaming.shared-routes에 등록한 라우트만 모든 사용자가 URL별 스트림 하나를 공유하며,
+ *   이때는 사용자 헤더(X-User-Id, X-Employee-Id 등)와 Authorization을 보내지 않음
+ *
+ * WebSocket 라우트는 기존 Gateway의 ws:// 프록시로 연결별로 전달됨 (fan-out 미적용)
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StreamFanOutFilter implements GlobalFilter, Ordered {
+
+    private final StreamingProperties properties;
+    private final StreamHub streamHub;
+    private final GatewayWebClients webClients;
+    private final MeterRegistry registry;
+    private final AuthPolicyMatcher authPolicyMatcher;
+    private final ObjectProvider<List<HttpHeadersFilter>> headersFilters;
+
+    private final Map<String, Counter> droppedByRoute = new ConcurrentHashMap<>();
+
+    /**
+     * 라우트 필터 적용 후 최종 하위 서비스 URL이 정해진 뒤에 실행
+     * (NettyRoutingFilter보다 먼저 실행되어 직접 응답)
+     */
+    @Override
+    public int getOrder() {
+        return RouteToRequestUrlFilter.ROUTE_TO_URL_FILTER_ORDER + 1;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        String routeId = GatewayRoutes.routeId(exchange);
+        if (!properties.isEnabled()
+                || !properties.isStreamingRoute(routeId)
+                || exchange.getRequest().getMethod() != HttpMethod.GET
+                || !acceptsEventStream(exchange.getRequest().getHeaders())) {
+            return chain.filter(exchange);
+        }
+        URI upstream = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR);
+        if (upstream == null) {
+            return chain.filter(exchange);
+        }
+
+        // 하위 서비스 호출은 StreamHub가 담당하므로 NettyRoutingFilter는 건너뜀
+        ServerWebExchangeUtils.setAlreadyRouted(exchange);
+
+        JwtPrincipal principal = exchange.getAttribute(JwtAuthFilter.PRINCIPAL_ATTR);
+        boolean sharedRoute = properties.isSharedRoute(routeId);
+        String key = sharedRoute ? upstream.toString() : upstream + "#" + userKey(principal);
+
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        Counter dropped = droppedCounter(routeId);
+        log.debug("StreamFanOutFilter - 스트림 구독: route={}, upstream={}, shared={}", routeId, upstream, sharedRoute);
+        return streamHub.subscribe(key, webClients.forRoute(route), upstream, upstreamHeaders(exchange, sharedRoute))
+                .onBackpressureBuffer(properties.getClientBuffer(),
+                        frame -> dropped.increment(), BufferOverflowStrategy.DROP_OLDEST)
+                .switchOnFirst((first, source) -> first.get() == StreamHub.CONNECTED
+                        ? stream(exchange, principal, source.skip(1))
+                        : upstreamFailed(exchange, first))
+                .then();
+    }
+
+    /**
+     * 하위 서비스가 2xx로 응답한 뒤 클라이언트에 200 text/event-stream으로 프레임 전달
+     */
+    private Mono<Void> stream(ServerWebExchange exchange, JwtPrincipal principal, Flux<byte[]> frames) {
+        Duration heartbeat = properties.getHeartbeatInterval();
+        if (!heartbeat.isZero() && !heartbeat.isNegative()) {
+            frames = frames.publish(shared -> Flux.merge(shared,
+                    Flux.interval(heartbeat).map(tick -> SseFrames.HEARTBEAT).takeUntilOther(shared.ignoreElements())));
+        }
+
+        if (properties.isCloseOnTokenExpiry() && principal != null && principal.getExpiresAt() != null) {
+            Duration remaining = Duration.between(Instant.now(), principal.getExpiresAt());
+            frames = frames.take(remaining.isNegative() ? Duration.ZERO : remaining);
+        }
+
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.OK);
+        response.getHeaders().setContentType(MediaType.TEXT_EVENT_STREAM);
+        response.getHeaders().setCacheControl("no-cache");
+        response.getHeaders().set("X-Accel-Buffering", "no");  // 프록시 버퍼링 방지
+        return response.writeAndFlushWith(frames.map(frame -> Mono.just(response.bufferFactory().wrap(frame))));
+    }
+
+    /**
+     * 하위 서비스가 2xx 응답 헤더를 보내기 전에 끝남
+     *
+     * - 2xx 외 응답: 상태 코드, 응답 헤더(HttpHeadersFilter 적용), 본문을 그대로 전달
+     * - 연결 실패 등: 일반 라우팅(NettyRoutingFilter)과 같이 오류로 전달 (Gateway 오류 처리기가 응답)
+     * - 응답 없이 끝남: 502
+     */
+    private Mono<Void> upstreamFailed(ServerWebExchange exchange, Signal<byte[]> first) {
+        ServerHttpResponse response = exchange.getResponse();
+        if (first.getThrowable() instanceof WebClientResponseException e) {
+            log.debug("StreamFanOutFilter - 하위 서비스 오류 응답 전달: status={}", e.getStatusCode());
+            response.setStatusCode(e.getStatusCode());
+            List<HttpHeadersFilter> filters = headersFilters.getIfAvailable();
+            HttpHeaders responseHeaders = filters != null
+                    ? HttpHeadersFilter.filter(filters, e.getHeaders(), exchange, HttpHeadersFilter.Type.RESPONSE)
+                    : e.getHeaders();
+            response.getHeaders().putAll(responseHeaders);
+            response.getHeaders().remove(HttpHeaders.TRANSFER_ENCODING);
+            byte[] body = e.getResponseBodyAsByteArray();
+            response.getHeaders().setContentLength(body.length);
+            return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(body)));
+        }
+        if (first.getThrowable() != null) {
+            return Mono.error(first.getThrowable());
+        }
+        response.setStatusCode(HttpStatus.BAD_GATEWAY);
+        return response.setComplete();
+    }
+
+    /**
+     * 사용자별 스트림 키 (인증 제외 경로는 anonymous)
+     */
+    private static String userKey(JwtPrincipal principal) {
+        if (principal == null) {
+            return "anonymous";
+        }
+        return principal.getUserId() + "/" + principal.getEmployeeId();
+    }
+
+    /**
+     * 하위 서비스로 보낼 요청 헤더 (Gateway의 HttpHeadersFilter 적용, NettyRoutingFilter와 동일)
+     *
+     * 클라이언트별 값(Last-Event-ID, Accept-Encoding)은 공유 스트림에 맞지 않으므로 제외하고,
+     * 공유 라우트는 사용자 헤더와 Authorization도 제외
+     */
+    private HttpHeaders upstreamHeaders(ServerWebExchange exchange, boolean sharedRoute) {
+        List<HttpHeadersFilter> filters = headersFilters.getIfAvailable();
+        HttpHeaders filtered = filters != null
+                ? HttpHeadersFilter.filterRequest(filters, exchange)
+                : exchange.getRequest().getHeaders();
+        HttpHeaders headers = new HttpHeaders();
+        headers.addAll(filtered);
+        if (!Boolean.TRUE.equals(exchange.getAttribute(ServerWebExchangeUtils.PRESERVE_HOST_HEADER_ATTRIBUTE))) {
+            headers.remove(HttpHeaders.HOST);
+        }
+        headers.remove("Last-Event-ID");
+        headers.remove(HttpHeaders.ACCEPT_ENCODING);
+        if (sharedRoute) {
+            headers.remove(HttpHeaders.AUTHORIZATION);
+            authPolicyMatcher.managedHeaders().forEach(headers::remove);
+        }
+        return headers;
+    }
+
+    /**
+     * SSE 구독 요청인지 확인 (Accept 헤더에 text/event-stream 포함)
+     */
+    static boolean acceptsEventStream(HttpHeaders requestHeaders) {
+        if (!requestHeaders.containsKey(HttpHeaders.ACCEPT)) {
+            return false;
+        }
+        try {
+            for (MediaType accept : requestHeaders.getAccept()) {
+                if (MediaType.TEXT_EVENT_STREAM.equalsTypeAndSubtype(accept)) {
+                    return true;
+                }
+            }
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+        return false;
+    }
+
+    private Counter droppedCounter(String routeId) {
+        return droppedByRoute.computeIfAbsent(routeId, tag -> Counter.builder("gateway.stream.dropped")
+                .description("느린 클라이언트 버퍼에서 버린 프레임 수")
+                .tag("route", tag)
+                .register(registry));
+    }
+}
@@ -0,0 +1,85 @@
+package com.deefacto.api_gateway.filter;
+
+import com.deefacto.api_gateway.config.RevocationProperties;
+import com.deefacto.api_gateway.metrics.AuthMetrics;
+import com.deefacto.api_gateway.metrics.AuthOutcome;
+import com.deefacto.api_gateway.revocation.TokenRevocationChecker;
+import com.deefacto.api_gateway.util.ErrorResponseWriter;
+import com.deefacto.api_gateway.util.GatewayRoutes;
+import com.deefacto.api_gateway.util.JwtPrincipal;
+import com.deefacto.api_gateway.util.TokenDigest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * 토큰 폐기(로그아웃) 확인 필터
+ *
+ * JwtAuthFilter에서 검증된 토큰이 로그아웃으로 폐기되었는지 확인
+ * 대부분의 요청은 로컬 블룸 필터에서 바로 통과하며,
+ * 블룸 필터가 "폐기되었을 수도 있음"으로 판단한 경우에만 원격 저장소를 논블로킹으로 조회
+ *
+ * 토큰 인증 요청의 최종 결과(success 또는 revoked)는 이 필터가 요청당 한 번만 기록
+ * (JwtAuthFilter는 검증 실패/권한 부족만 기록, 기능이 꺼져 있어도 success는 여기서 기록)
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TokenRevocationFilter implements GlobalFilter, Ordered {
+
+    private final TokenRevocationChecker revocationChecker;
+    private final RevocationProperties properties;
+    private final AuthMetrics authMetrics;
+
+    /**
+     * JWT 검증 직후에 실행
+     */
+    @Override
+    public int getOrder() {
+        return JwtAuthFilter.ORDER + 1;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        // 인증 제외 경로이거나 기능이 꺼져 있으면 바로 통과
+        JwtPrincipal principal = exchange.getAttribute(JwtAuthFilter.PRINCIPAL_ATTR);
+        if (principal == null) {
+            return chain.filter(exchange);
+        }
+        if (!properties.isEnabled()) {
+            return accept(exchange, chain);
+        }
+
+        TokenDigest digest = principal.getTokenDigest();
+        Boolean revoked = revocationChecker.checkLocally(digest);
+        if (revoked == null) {
+            // 블룸 필터 양성 + near-cache 없음 -> 원격 저장소 조회
+            String authHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+            String token = authHeader.substring(JwtAuthFilter.BEARER_PREFIX.length());
+            return revocationChecker.checkRemotely(digest, token)
+                    .flatMap(remote -> remote ? reject(exchange, principal) : accept(exchange, chain));
+        }
+        return revoked ? reject(exchange, principal) : accept(exchange, chain);
+    }
+
+    private Mono<Void> accept(ServerWebExchange exchange, GatewayFilterChain chain) {
+        authMetrics.recordOutcome(GatewayRoutes.routeTag(exchange), AuthOutcome.SUCCESS);
+        return chain.filter(exchange);
+    }
+
+    private Mono<Void> reject(ServerWebExchange exchange, JwtPrincipal principal) {
+        log.warn("TokenRevocationFilter - 폐기된 토큰 사용: userId={}", principal.getUserId());
+        authMetrics.recordOutcome(GatewayRoutes.routeTag(exchange), AuthOutcome.REVOKED);
+        return ErrorResponseWriter.write(exchange, "로그아웃된 토큰입니다", HttpStatus.UNAUTHORIZED);
+    }
+}
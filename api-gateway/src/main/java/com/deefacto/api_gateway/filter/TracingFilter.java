@@ -0,0 +1,105 @@
+package com.deefacto.api_gateway.filter;
+
+import com.deefacto.api_gateway.config.TracingProperties;
+import com.deefacto.api_gateway.trace.RequestTrace;
+import com.deefacto.api_gateway.trace.SlowRequest;
+import com.deefacto.api_gateway.trace.SlowRequestBuffer;
+import com.deefacto.api_gateway.trace.TraceContext;
+import com.deefacto.api_gateway.util.GatewayRoutes;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+/**
+ * 요청 추적 필터
+ *
+ * - W3C traceparent 전달: 클라이언트의 traceparent를 이어받거나 새 trace를 시작하고 (head sampling),
+ *   게이트웨이 span ID를 parent-id로 하여 하위 서비스에 전달
+ * - 단계별 처리 시간 측정 (항상 동작): 인증, 연결 획득, 요청 전송, 첫 바이트까지, 응답 전송
+ * - 느린 요청(라우트별 기준 초과)과 하위 서비스 호출 중 실패한 요청(오류/5xx)은
+ *   고정 크기 링 버퍼에 기록 -> /actuator/slowrequests로 조회
+ *
+ * DEBUG 로그 없이도 운영 환경의 지연 원인을 나중에 확인하기 위한 용도
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class TracingFilter implements GlobalFilter, Ordered {
+
+    private final TracingProperties properties;
+    private final SlowRequestBuffer buffer;
+
+    /**
+     * 접근 로그 바로 다음에 실행 (이후 모든 필터의 시간이 포함되도록)
+     */
+    @Override
+    public int getOrder() {
+        return JwtAuthFilter.ORDER - 195;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (!properties.isEnabled()) {
+            return chain.filter(exchange);
+        }
+
+        ServerHttpRequest request = exchange.getRequest();
+        TraceContext context = TraceContext.continueOrStart(
+                request.getHeaders().getFirst(TraceContext.TRACEPARENT), properties.getSampleRate());
+        ExchangeStats stats = ExchangeStats.from(exchange);
+        RequestTrace trace = new RequestTrace(context, stats != null ? stats.getStartNanos() : System.nanoTime());
+        exchange.getAttributes().put(RequestTrace.ATTR, trace);
+
+        ServerHttpRequest traced = request.mutate()
+                .headers(headers -> headers.set(TraceContext.TRACEPARENT, context.traceparent()))
+                .build();
+        long startMillis = System.currentTimeMillis();
+
+        return chain.filter(exchange.mutate().request(traced).build())
+                .contextWrite(ctx -> ctx.put(RequestTrace.ATTR, trace))
+                .doFinally(signal -> record(exchange, trace, signal, startMillis));
+    }
+
+    /**
+     * 느린 요청 또는 하위 서비스 호출 중 실패한 요청이면 버퍼에 기록
+     * (인증 실패/요청 제한/과부하 차단처럼 게이트웨이가 바로 응답한 요청은 빠르므로 제외됨)
+     */
+    private void record(ServerWebExchange exchange, RequestTrace trace, SignalType signal, long startMillis) {
+        long endNanos = System.nanoTime();
+        long elapsed = endNanos - trace.getStartNanos();
+        String routeId = GatewayRoutes.routeId(exchange);
+        HttpStatusCode status = exchange.getResponse().getStatusCode();
+
+        boolean failed = trace.reachedUpstream()
+                && (signal == SignalType.ON_ERROR || (status != null && status.is5xxServerError()));
+        if (!failed && elapsed < properties.slowThresholdNanos(routeId)) {
+            return;
+        }
+
+        String path = exchange.getRequest().getPath().value();
+        if (path.length() > properties.getMaxPathLength()) {
+            path = path.substring(0, properties.getMaxPathLength());
+        }
+        buffer.add(new SlowRequest(
+                startMillis,
+                trace.getContext().traceId(),
+                trace.getContext().sampled(),
+                routeId != null ? routeId : GatewayRoutes.UNKNOWN,
+                exchange.getRequest().getMethod().name(),
+                path,
+                status != null ? status.value() : 0,
+                signal == SignalType.ON_COMPLETE ? "complete" : signal == SignalType.ON_ERROR ? "error" : "cancel",
+                elapsed / 1_000,
+                trace.isNewConnection(),
+                trace.phasesMicros(endNanos)));
+    }
+}
@@ -0,0 +1,57 @@
+package com.deefacto.api_gateway.filter;
+
+import com.deefacto.api_gateway.metrics.RouteMetrics;
+import com.deefacto.api_gateway.util.GatewayRoutes;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+/**
+ * 하위 서비스 응답 시간 메트릭 필터 (gateway.route.upstream.latency)
+ *
+ * NettyRoutingFilter 바로 앞에서 실행되어, 연결 획득부터 하위 서비스 응답 헤더를 받을 때까지의 시간만 기록
+ * (NettyRoutingFilter는 응답 헤더를 받으면 끝나고, 본문은 이후 클라이언트로 스트리밍됨)
+ * 응답 본문 전송 시간은 클라이언트 속도에 좌우되므로 포함하지 않음
+ *
+ * 다른 필터가 이미 응답한 요청(캐시 hit, 배치, SSE fan-out, 헤지)은 기록하지 않음
+ * (헤지 요청은 HedgingFilter가 직접 기록)
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class UpstreamMetricsFilter implements GlobalFilter, Ordered {
+
+    private final RouteMetrics routeMetrics;
+
+    /**
+     * NettyRoutingFilter(LOWEST_PRECEDENCE) 직전에 실행
+     */
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE - 1;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (ServerWebExchangeUtils.isAlreadyRouted(exchange)) {
+            return chain.filter(exchange);
+        }
+        RouteMetrics.RouteMeters meters = routeMetrics.meters(GatewayRoutes.routeTag(exchange));
+        long start = System.nanoTime();
+        return chain.filter(exchange)
+                .doFinally(signal -> {
+                    HttpStatusCode status = exchange.getResponse().getStatusCode();
+                    meters.upstream(status != null ? status.value() : 0,
+                            signal == SignalType.ON_COMPLETE, System.nanoTime() - start);
+                });
+    }
+}
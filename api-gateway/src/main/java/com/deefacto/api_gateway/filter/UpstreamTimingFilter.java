@@ -0,0 +1,39 @@
+package com.deefacto.api_gateway.filter;
+
+import com.deefacto.api_gateway.trace.RequestTrace;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * 하위 서비스 호출 시작 시각 기록 필터
+ *
+ * NettyRoutingFilter 바로 앞에서 실행되어 연결 획득(acquire) 단계의 시작 시각을 남김
+ * (이후 시각은 UpstreamTimingCustomizer가 HttpClient 콜백에서 기록)
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+@Component
+public class UpstreamTimingFilter implements GlobalFilter, Ordered {
+
+    /**
+     * NettyRoutingFilter(LOWEST_PRECEDENCE) 직전에 실행
+     */
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE - 1;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        RequestTrace trace = RequestTrace.from(exchange);
+        if (trace != null) {
+            trace.upstreamStarted();
+        }
+        return chain.filter(exchange);
+    }
+}
@@ -0,0 +1,64 @@
+package com.deefacto.api_gateway.hedge;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 최근 처리 시간 링 버퍼 (라우트 하나)
+ *
+ * 최근 CAPACITY개의 처리 시간을 보관하고, RECOMPUTE_EVERY개 표본마다 한 번씩만
+ * 백분위수를 다시 계산하여 volatile 필드에 보관 (요청마다 정렬하지 않음)
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+public class LatencyTracker {
+
+    private static final int CAPACITY = 1024;
+    private static final int RECOMPUTE_EVERY = 128;
+
+    private final AtomicLongArray samples = new AtomicLongArray(CAPACITY);
+    private final AtomicLong count = new AtomicLong();
+    private final double percentile;
+
+    /**
+     * 마지막으로 계산한 백분위수 (나노초, 표본이 부족하면 -1)
+     */
+    private volatile long percentileNanos = -1;
+
+    public LatencyTracker(double percentile) {
+        this.percentile = percentile;
+    }
+
+    /**
+     * 처리 시간 기록
+     */
+    public void record(long nanos) {
+        long n = count.getAndIncrement();
+        samples.set((int) (n % CAPACITY), nanos);
+        if ((n + 1) % RECOMPUTE_EVERY == 0) {
+            recompute(Math.min(n + 1, CAPACITY));
+        }
+    }
+
+    /**
+     * 현재 백분위수
+     *
+     * @param minSamples 최소 표본 수
+     * @return 나노초, 표본이 부족하면 -1
+     */
+    public long percentileNanos(int minSamples) {
+        return count.get() >= minSamples ? percentileNanos : -1;
+    }
+
+    private void recompute(long size) {
+        long[] copy = new long[(int) size];
+        for (int i = 0; i < copy.length; i++) {
+            copy[i] = samples.get(i);
+        }
+        Arrays.sort(copy);
+        int index = (int) Math.min(copy.length - 1, Math.ceil(percentile * copy.length) - 1);
+        percentileNanos = copy[Math.max(0, index)];
+    }
+}
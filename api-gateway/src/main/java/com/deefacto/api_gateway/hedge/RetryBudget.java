@@ -0,0 +1,70 @@
+package com.deefacto.api_gateway.hedge;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 추가 요청(헤지) 예산
+ *
+ * 원래 요청마다 ratio만큼 적립하고, 헤지 요청 하나에 1을 사용하는 토큰 버킷
+ * -> 헤지 요청은 원래 요청 수의 ratio 비율을 넘을 수 없으므로
+ *    하위 서비스 장애로 모든 요청이 느려져도 부하가 그 이상 늘지 않음
+ *
+ * 토큰은 1/1000 단위 정수로 보관하며 CAS로만 갱신
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+public class RetryBudget {
+
+    private static final long SCALE = 1_000;
+
+    private final long depositPerRequest;
+    private final long maxBalance;
+    private final AtomicLong balance = new AtomicLong();
+
+    /**
+     * @param ratio 원래 요청 하나당 적립되는 헤지 요청 수
+     * @param maxTokens 최대 적립 헤지 요청 수
+     */
+    public RetryBudget(double ratio, int maxTokens) {
+        this.depositPerRequest = Math.round(ratio * SCALE);
+        this.maxBalance = (long) maxTokens * SCALE;
+    }
+
+    /**
+     * 원래 요청 하나에 대한 적립
+     */
+    public void deposit() {
+        while (true) {
+            long current = balance.get();
+            long next = Math.min(maxBalance, current + depositPerRequest);
+            if (next == current || balance.compareAndSet(current, next)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 헤지 요청 하나에 대한 사용
+     *
+     * @return false: 예산 부족 (헤지 요청을 보내지 않음)
+     */
+    public boolean tryWithdraw() {
+        while (true) {
+            long current = balance.get();
+            if (current < SCALE) {
+                return false;
+            }
+            if (balance.compareAndSet(current, current - SCALE)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 현재 사용 가능한 헤지 요청 수
+     */
+    public double available() {
+        return (double) balance.get() / SCALE;
+    }
+}
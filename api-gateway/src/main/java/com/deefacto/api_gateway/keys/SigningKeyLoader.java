@@ -0,0 +1,142 @@
+package com.deefacto.api_gateway.keys;
+
+import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.Keys;
+
+import javax.crypto.SecretKey;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.cert.CertificateFactory;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 서명 검증 키 파일 로더
+ *
+ * jwt.keys.location에 파일 또는 디렉터리를 지정하며, 디렉터리면 안의 파일을 모두 읽음
+ * (숨김 파일과 하위 디렉터리는 제외 - Kubernetes Secret 마운트의 ..data 등)
+ *
+ * 파일 형식 (확장자로 구분, kid는 JWK의 kid 또는 파일 이름):
+ * - .json: JWK Set({"keys":[...]}) 또는 JWK 하나 (oct / RSA / EC 공개 키, kid 필수)
+ * - .pem: RSA/EC 공개 키(BEGIN PUBLIC KEY) 또는 X.509 인증서(BEGIN CERTIFICATE), kid = 파일 이름
+ * - .key: Base64 HMAC 시크릿 (jwt.secret-key와 같은 형식, 256비트 이상), kid = 파일 이름
+ *
+ * 파일 하나라도 읽지 못하면 전체를 실패로 처리 (일부 키만 바뀐 상태로 교체되지 않도록)
+ * 개인 키는 받지 않음 (게이트웨이는 검증만 함)
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+public final class SigningKeyLoader {
+
+    private SigningKeyLoader() {
+    }
+
+    /**
+     * 파일 또는 디렉터리에서 키를 읽음
+     *
+     * @param location 키 파일 또는 디렉터리
+     * @return kid -> 검증 키
+     * @throws IOException 파일을 읽을 수 없는 경우
+     * @throws IllegalArgumentException 키 형식 오류, kid 누락/중복, 개인 키 등
+     */
+    public static Map<String, Key> load(Path location) throws IOException {
+        Map<String, Key> keys = new LinkedHashMap<>();
+        if (Files.isDirectory(location)) {
+            List<Path> files;
+            try (Stream<Path> entries = Files.list(location)) {
+                files = entries
+                        .filter(file -> !file.getFileName().toString().startsWith("."))
+                        .filter(Files::isRegularFile)
+                        .sorted()
+                        .toList();
+            }
+            for (Path file : files) {
+                loadFile(file, keys);
+            }
+        } else {
+            loadFile(location, keys);
+        }
+        return keys;
+    }
+
+    private static void loadFile(Path file, Map<String, Key> keys) throws IOException {
+        String name = file.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        if (dot <= 0) {
+            return;
+        }
+        String kid = name.substring(0, dot);
+        String content = Files.readString(file, StandardCharsets.UTF_8).trim();
+        switch (name.substring(dot + 1).toLowerCase()) {
+            case "json" -> {
+                for (Jwk<?> jwk : parseJwks(content)) {
+                    if (jwk.getId() == null) {
+                        throw new IllegalArgumentException("kid가 없는 JWK입니다: " + file);
+                    }
+                    put(keys, jwk.getId(), verificationKey(jwk.toKey(), file), file);
+                }
+            }
+            case "pem" -> put(keys, kid, parsePem(content, file), file);
+            case "key" -> put(keys, kid, Keys.hmacShaKeyFor(Base64.getDecoder().decode(content)), file);
+            default -> {
+                // 키 파일이 아님 (README 등)
+            }
+        }
+    }
+
+    private static Collection<? extends Jwk<?>> parseJwks(String content) {
+        if (content.contains("\"keys\"")) {
+            return Jwks.setParser().build().parse(content).getKeys();
+        }
+        return List.of(Jwks.parser().build().parse(content));
+    }
+
+    private static Key parsePem(String content, Path file) {
+        try {
+            if (content.contains("BEGIN CERTIFICATE")) {
+                return CertificateFactory.getInstance("X.509")
+                        .generateCertificate(new ByteArrayInputStream(content.getBytes(StandardCharsets.US_ASCII)))
+                        .getPublicKey();
+            }
+            if (!content.contains("BEGIN PUBLIC KEY")) {
+                throw new IllegalArgumentException("공개 키(BEGIN PUBLIC KEY) 또는 인증서만 사용할 수 있습니다: " + file);
+            }
+            byte[] der = Base64.getMimeDecoder().decode(content.replaceAll("-----[A-Z ]+-----", ""));
+            X509EncodedKeySpec spec = new X509EncodedKeySpec(der);
+            try {
+                return KeyFactory.getInstance("RSA").generatePublic(spec);
+            } catch (GeneralSecurityException e) {
+                return KeyFactory.getInstance("EC").generatePublic(spec);
+            }
+        } catch (GeneralSecurityException e) {
+            throw new IllegalArgumentException("공개 키를 읽을 수 없습니다: " + file, e);
+        }
+    }
+
+    private static Key verificationKey(Key key, Path file) {
+        if (key instanceof PublicKey || key instanceof SecretKey) {
+            return key;
+        }
+        throw new IllegalArgumentException("검증용 공개 키 또는 HMAC 키만 사용할 수 있습니다: " + file);
+    }
+
+    private static void put(Map<String, Key> keys, String kid, Key key, Path file) {
+        if (keys.putIfAbsent(kid, key) != null) {
+            throw new IllegalArgumentException("kid가 중복되었습니다: " + kid + " (" + file + ")");
+        }
+    }
+}
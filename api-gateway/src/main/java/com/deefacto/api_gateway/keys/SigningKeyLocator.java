@@ -0,0 +1,70 @@
+package com.deefacto.api_gateway.keys;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Locator;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.security.SignatureException;
+
+import java.security.Key;
+
+/**
+ * JWT 파서에 연결하는 서명 키 locator
+ *
+ * 토큰 헤더의 kid로 현재 키 목록(SigningKeyRing)에서 검증 키를 한 번에 조회
+ * 키 목록은 swap()으로 통째로 교체되며, 파서는 다시 만들 필요 없음
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+public class SigningKeyLocator extends LocatorAdapter<Key> {
+
+    private volatile SigningKeyRing ring = SigningKeyRing.empty();
+
+    /**
+     * 현재 키 목록
+     */
+    public SigningKeyRing ring() {
+        return ring;
+    }
+
+    /**
+     * 키 목록 교체 (진행 중인 검증은 이전 목록으로 끝남)
+     */
+    public void swap(SigningKeyRing next) {
+        this.ring = next;
+    }
+
+    /**
+     * kid에 해당하는 검증 키 조회
+     *
+     * @throws SignatureException 등록되지 않았거나 교체 허용 시간이 지난 kid인 경우 (서명 불일치로 처리)
+     */
+    @Override
+    protected Key locate(JwsHeader header) {
+        String kid = header.getKeyId();
+        Key key = ring.find(kid);
+        if (key == null) {
+            throw new SignatureException(kid == null
+                    ? "kid가 없는 토큰을 검증할 기본 서명 키(jwt.secret-key)가 없습니다"
+                    : "등록되지 않은 서명 키(kid)입니다");
+        }
+        return key;
+    }
+
+    /**
+     * kid가 없는 토큰을 교체 중인 이전 기본 키로 찾는 locator
+     * (기본 키로 서명 검증에 실패한 토큰을 다시 검증할 때 사용, kid가 있는 토큰은 항상 실패)
+     */
+    public Locator<Key> retiringDefault() {
+        return new LocatorAdapter<>() {
+            @Override
+            protected Key locate(JwsHeader header) {
+                Key key = header.getKeyId() == null ? ring.findRetiringDefault() : null;
+                if (key == null) {
+                    throw new SignatureException("교체 중인 이전 기본 서명 키가 없습니다");
+                }
+                return key;
+            }
+        };
+    }
+}
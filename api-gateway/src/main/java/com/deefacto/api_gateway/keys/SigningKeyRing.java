@@ -0,0 +1,253 @@
+package com.deefacto.api_gateway.keys;
+
+import java.security.Key;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * kid로 찾는 서명 키 목록 (불변 스냅샷)
+ *
+ * 토큰 하나를 검증할 때 키를 하나씩 시도하지 않고 kid 헤더로 한 번에 조회 (HashMap, O(1))
+ * 키 파일이 바뀌면 rotate()로 새 스냅샷을 만들어 통째로 교체
+ *
+ * 키 상태:
+ * - 활성: 현재 키 파일에 있는 키
+ * - 교체 중: 키 파일에서 빠진 키, overlap 시간 동안은 계속 허용 (이미 발급된 토큰이 만료될 때까지)
+ *
+ * 기본 키(kid가 없는 토큰용, jwt.secret-key)가 바뀌면 이전 기본 키도 overlap 동안 교체 중 상태로 유지
+ * (kid가 없는 토큰은 기본 키로 먼저 검증하고, 서명이 맞지 않으면 이전 기본 키로 다시 검증)
+ * 이전 기본 키는 하나만 유지하므로, overlap 안에 기본 키를 두 번 바꾸면 가장 오래된 키는 바로 거부됨
+ *
+ * 같은 kid의 키 내용이 바뀐 경우에는 새 키로 바로 교체됨 (kid 하나에 키 하나)
+ * 내용이 같은 키는 다시 읽어도 이전 Key 객체를 그대로 유지
+ * -> find() 결과의 동일성(==)으로 검증 당시의 키가 아직 유효한지 확인 가능 (JwtProvider 검증 캐시)
+ *
+ * 교체 허용 시간은 empty(clock)로 정한 Clock 기준이며, rotate()로 만든 스냅샷도 같은 Clock을 사용
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+public final class SigningKeyRing {
+
+    /**
+     * 활성 키의 교체 시각 (교체 예정 없음)
+     */
+    private static final long ACTIVE = Long.MAX_VALUE;
+
+    private static final SigningKeyRing EMPTY = new SigningKeyRing(Clock.systemUTC(), null, null, Map.of());
+
+    /**
+     * @param key 서명 검증 키 (HMAC SecretKey 또는 RSA/EC PublicKey)
+     * @param retireAtMillis 이 시각(epoch ms) 이후 허용하지 않음 (ACTIVE: 활성 키)
+     */
+    private record Entry(Key key, long retireAtMillis) {
+
+        boolean isActive() {
+            return retireAtMillis == ACTIVE;
+        }
+    }
+
+    /**
+     * kid가 없는 토큰을 검증할 키 (jwt.secret-key, 없으면 null)
+     */
+    private final Clock clock;
+
+    private final Key defaultKey;
+
+    /**
+     * 교체 중인 이전 기본 키 (없으면 null)
+     */
+    private final Entry retiringDefault;
+
+    private final Map<String, Entry> keys;
+
+    private SigningKeyRing(Clock clock, Key defaultKey, Entry retiringDefault, Map<String, Entry> keys) {
+        this.clock = clock;
+        this.defaultKey = defaultKey;
+        this.retiringDefault = retiringDefault;
+        this.keys = keys;
+    }
+
+    /**
+     * 키가 하나도 없는 초기 상태
+     */
+    public static SigningKeyRing empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 키가 하나도 없는 초기 상태 (교체 허용 시간을 주어진 Clock으로 계산)
+     */
+    public static SigningKeyRing empty(Clock clock) {
+        return new SigningKeyRing(clock, null, null, Map.of());
+    }
+
+    /**
+     * kid에 해당하는 검증 키 조회
+     *
+     * @param kid 토큰 헤더의 kid (없으면 null)
+     * @return 검증 키, 없거나 교체 허용 시간이 지난 경우 null
+     */
+    public Key find(String kid) {
+        if (kid == null) {
+            return defaultKey;
+        }
+        Entry entry = keys.get(kid);
+        if (entry == null || (!entry.isActive() && clock.millis() >= entry.retireAtMillis())) {
+            return null;
+        }
+        return entry.key();
+    }
+
+    /**
+     * kid가 없는 토큰을 다시 검증할 이전 기본 키 (기본 키로 서명 검증에 실패한 경우)
+     *
+     * @return 교체 중인 이전 기본 키, 없거나 교체 허용 시간이 지난 경우 null
+     */
+    public Key findRetiringDefault() {
+        Entry entry = retiringDefault;
+        if (entry == null || clock.millis() >= entry.retireAtMillis()) {
+            return null;
+        }
+        return entry.key();
+    }
+
+    /**
+     * 검증 당시의 키가 지금도 이 kid의 키인지 확인 (캐시된 검증 결과 재사용 전 확인용)
+     *
+     * @param kid 토큰 헤더의 kid (없으면 null)
+     * @param verifiedWith 검증에 사용한 키 (kid가 없으면 기본 키 또는 이전 기본 키)
+     * @return 같은 키가 아직 허용되면 true, 교체 허용 시간이 지났거나 같은 kid의 키 내용이 바뀌었으면 false
+     */
+    public boolean accepts(String kid, Key verifiedWith) {
+        if (verifiedWith == null) {
+            return false;
+        }
+        return find(kid) == verifiedWith || (kid == null && findRetiringDefault() == verifiedWith);
+    }
+
+    /**
+     * 새로 읽은 키 목록으로 다음 스냅샷 생성
+     *
+     * 새 목록에 없는 기존 키는 overlap 동안 교체 중 상태로 유지하고, 허용 시간이 지난 키는 제거
+     * 기본 키가 바뀌면 기존 기본 키를 overlap 동안 이전 기본 키로 유지
+     * 내용이 같은 키는 이전 Key 객체를 재사용 (내용이 바뀐 kid만 새 객체)
+     *
+     * @param defaultKey kid가 없는 토큰을 검증할 키 (없으면 null)
+     * @param loaded 키 파일에서 읽은 키 (kid -> 키)
+     * @param overlap 빠진 키를 계속 허용하는 시간
+     */
+    public SigningKeyRing rotate(Key defaultKey, Map<String, Key> loaded, Duration overlap) {
+        long now = clock.millis();
+        Map<String, Entry> next = new HashMap<>();
+        loaded.forEach((kid, key) -> {
+            Entry before = keys.get(kid);
+            next.put(kid, new Entry(before != null && sameKey(key, before.key()) ? before.key() : key, ACTIVE));
+        });
+        keys.forEach((kid, entry) -> {
+            if (next.containsKey(kid)) {
+                return;
+            }
+            long retireAt = entry.isActive() ? now + overlap.toMillis() : entry.retireAtMillis();
+            if (retireAt > now) {
+                next.put(kid, new Entry(entry.key(), retireAt));
+            }
+        });
+        return new SigningKeyRing(clock, nextDefault(defaultKey), nextRetiringDefault(defaultKey, now, overlap),
+                Collections.unmodifiableMap(next));
+    }
+
+    /**
+     * 다음 기본 키 (내용이 같으면 기존 Key 객체, 이전 기본 키로 되돌린 경우 그 Key 객체)
+     */
+    private Key nextDefault(Key loaded) {
+        if (sameKey(loaded, defaultKey)) {
+            return defaultKey;
+        }
+        if (retiringDefault != null && sameKey(loaded, retiringDefault.key())) {
+            return retiringDefault.key();
+        }
+        return loaded;
+    }
+
+    /**
+     * 다음 이전 기본 키
+     * - 기본 키가 그대로면 기존 이전 기본 키를 원래 허용 시간까지 유지
+     * - 기본 키가 바뀌면 지금의 기본 키를 overlap 동안 유지
+     */
+    private Entry nextRetiringDefault(Key loaded, long now, Duration overlap) {
+        Entry candidate;
+        if (sameKey(loaded, defaultKey)) {
+            candidate = retiringDefault;
+        } else {
+            candidate = defaultKey != null ? new Entry(defaultKey, now + overlap.toMillis()) : null;
+        }
+        if (candidate == null || candidate.retireAtMillis() <= now || sameKey(loaded, candidate.key())) {
+            return null;
+        }
+        return candidate;
+    }
+
+    /**
+     * 이전 스냅샷에 없던 키(새 kid 또는 내용이 바뀐 키)가 있는지 확인
+     * (있으면 "알 수 없는 kid"로 캐시된 검증 실패를 지워야 함)
+     */
+    public boolean hasNewKeys(SigningKeyRing previous) {
+        if (defaultKey != null && !sameKey(defaultKey, previous.defaultKey)) {
+            return true;
+        }
+        for (Map.Entry<String, Entry> entry : keys.entrySet()) {
+            Entry before = previous.keys.get(entry.getKey());
+            if (before == null || !sameKey(entry.getValue().key(), before.key())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * kid가 없는 토큰을 검증할 키 (없으면 null)
+     */
+    public Key defaultKey() {
+        return defaultKey;
+    }
+
+    /**
+     * 활성 키 수 (기본 키 제외)
+     */
+    public int activeCount() {
+        return (int) keys.values().stream().filter(Entry::isActive).count();
+    }
+
+    /**
+     * 교체 중(overlap 허용 시간 안) 키 수 (이전 기본 키 포함)
+     */
+    public int retiringCount() {
+        long now = clock.millis();
+        int retiring = (int) keys.values().stream()
+                .filter(entry -> !entry.isActive() && entry.retireAtMillis() > now)
+                .count();
+        return retiringDefault != null && retiringDefault.retireAtMillis() > now ? retiring + 1 : retiring;
+    }
+
+    /**
+     * 키가 하나도 없는지 확인 (기본 키 포함)
+     */
+    public boolean isEmpty() {
+        return defaultKey == null && keys.isEmpty();
+    }
+
+    private static boolean sameKey(Key a, Key b) {
+        if (a == b) {
+            return true;
+        }
+        if (a == null || b == null || !a.getAlgorithm().equals(b.getAlgorithm())) {
+            return false;
+        }
+        return MessageDigest.isEqual(a.getEncoded(), b.getEncoded());
+    }
+}
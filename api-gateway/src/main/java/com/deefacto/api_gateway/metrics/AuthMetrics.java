@@ -0,0 +1,102 @@
+package com.deefacto.api_gateway.metrics;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 관련 메트릭
+ *
+ * - gateway.auth.verification (Timer): 토큰 검증 시간 (캐시 hit 포함)
+ * - gateway.auth.outcome (Counter): 인증 결과별 요청 수 (reason 태그)
+ *
+ * 모든 메트릭은 route 태그(라우트 ID)를 가지며,
+ * 라우트별 미터는 처음 사용할 때 한 번만 등록하고 이후에는 조회만 함 (요청당 할당 없음)
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+@Component
+public class AuthMetrics {
+
+    private final MeterRegistry registry;
+
+    private final Map<String, RouteMeters> byRoute = new ConcurrentHashMap<>();
+
+    public AuthMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * 인증 결과 기록
+     *
+     * @param routeTag 라우트 ID 태그
+     * @param outcome 인증 결과
+     */
+    public void recordOutcome(String routeTag, AuthOutcome outcome) {
+        meters(routeTag).outcomes.get(outcome).increment();
+    }
+
+    /**
+     * 토큰 검증 시간 기록
+     *
+     * @param routeTag 라우트 ID 태그
+     * @param nanos 검증 소요 시간 (나노초)
+     */
+    public void recordVerification(String routeTag, long nanos) {
+        meters(routeTag).verification.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 검증 실패 예외를 인증 결과로 변환
+     */
+    public static AuthOutcome outcomeOf(JwtException e) {
+        if (e instanceof ExpiredJwtException) {
+            return AuthOutcome.EXPIRED;
+        }
+        if (e instanceof SignatureException) {
+            return AuthOutcome.BAD_SIGNATURE;
+        }
+        return AuthOutcome.INVALID;
+    }
+
+    private RouteMeters meters(String routeTag) {
+        RouteMeters meters = byRoute.get(routeTag);
+        if (meters == null) {
+            meters = byRoute.computeIfAbsent(routeTag, RouteMeters::new);
+        }
+        return meters;
+    }
+
+    /**
+     * 라우트 하나에 대한 미터 묶음
+     */
+    private final class RouteMeters {
+
+        private final Timer verification;
+        private final Map<AuthOutcome, Counter> outcomes = new EnumMap<>(AuthOutcome.class);
+
+        private RouteMeters(String routeTag) {
+            this.verification = Timer.builder("gateway.auth.verification")
+                    .description("JWT 토큰 검증 시간")
+                    .tag("route", routeTag)
+                    .register(registry);
+            for (AuthOutcome outcome : AuthOutcome.values()) {
+                outcomes.put(outcome, Counter.builder("gateway.auth.outcome")
+                        .description("인증 결과별 요청 수")
+                        .tag("route", routeTag)
+                        .tag("reason", outcome.tag())
+                        .register(registry));
+            }
+        }
+    }
+}
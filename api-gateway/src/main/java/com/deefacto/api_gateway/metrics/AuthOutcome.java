@@ -0,0 +1,50 @@
+package com.deefacto.api_gateway.metrics;
+
+/**
+ * 인증 처리 결과 (gateway.auth.outcome 메트릭의 reason 태그)
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+public enum AuthOutcome {
+
+    /** 인증 성공 */
+    SUCCESS("success"),
+
+    /** 인증 제외 경로 (로그인 등) */
+    BYPASSED("bypassed"),
+
+    /** Authorization 헤더 없음 */
+    MISSING_HEADER("missing_header"),
+
+    /** Authorization 헤더가 "Bearer "로 시작하지 않음 */
+    BAD_FORMAT("bad_format"),
+
+    /** 만료된 토큰 */
+    EXPIRED("expired"),
+
+    /** 서명 불일치 */
+    BAD_SIGNATURE("bad_signature"),
+
+    /** 그 외 형식 오류 등 */
+    INVALID("invalid"),
+
+    /** 로그아웃으로 폐기된 토큰 */
+    REVOKED("revoked"),
+
+    /** 역할 부족 (정책이 역할을 요구하는 경우) */
+    FORBIDDEN("forbidden");
+
+    private final String tag;
+
+    AuthOutcome(String tag) {
+        this.tag = tag;
+    }
+
+    /**
+     * 메트릭 태그 값
+     */
+    public String tag() {
+        return tag;
+    }
+}
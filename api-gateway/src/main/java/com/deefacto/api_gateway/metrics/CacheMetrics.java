@@ -0,0 +1,57 @@
+package com.deefacto.api_gateway.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 응답 캐시 메트릭
+ *
+ * - gateway.cache.requests (Counter): 캐시 처리 결과별 요청 수 (result 태그)
+ *
+ * 라우트별 미터는 처음 사용할 때 한 번만 등록하고 이후에는 조회만 함
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+@Component
+public class CacheMetrics {
+
+    private final MeterRegistry registry;
+
+    private final Map<String, Map<CacheResult, Counter>> byRoute = new ConcurrentHashMap<>();
+
+    public CacheMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * 캐시 처리 결과 기록
+     *
+     * @param routeTag 라우트 ID 태그
+     * @param result 캐시 처리 결과
+     */
+    public void record(String routeTag, CacheResult result) {
+        Map<CacheResult, Counter> counters = byRoute.get(routeTag);
+        if (counters == null) {
+            counters = byRoute.computeIfAbsent(routeTag, this::register);
+        }
+        counters.get(result).increment();
+    }
+
+    private Map<CacheResult, Counter> register(String routeTag) {
+        Map<CacheResult, Counter> counters = new EnumMap<>(CacheResult.class);
+        for (CacheResult result : CacheResult.values()) {
+            counters.put(result, Counter.builder("gateway.cache.requests")
+                    .description("응답 캐시 처리 결과별 요청 수")
+                    .tag("route", routeTag)
+                    .tag("result", result.tag())
+                    .register(registry));
+        }
+        return counters;
+    }
+}
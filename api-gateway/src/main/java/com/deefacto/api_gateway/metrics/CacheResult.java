@@ -0,0 +1,35 @@
+package com.deefacto.api_gateway.metrics;
+
+/**
+ * 응답 캐시 처리 결과 (gateway.cache.requests 메트릭의 result 태그)
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+public enum CacheResult {
+
+    /** 캐시 응답 반환 */
+    HIT("hit"),
+
+    /** If-None-Match 일치로 304 반환 */
+    NOT_MODIFIED("not_modified"),
+
+    /** 하위 서비스 호출 (leader) */
+    MISS("miss"),
+
+    /** 진행 중인 leader 호출의 결과를 함께 사용 */
+    COALESCED("coalesced");
+
+    private final String tag;
+
+    CacheResult(String tag) {
+        this.tag = tag;
+    }
+
+    /**
+     * 메트릭 태그 값
+     */
+    public String tag() {
+        return tag;
+    }
+}
@@ -0,0 +1,71 @@
+package com.deefacto.api_gateway.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 응답 압축 메트릭
+ *
+ * - gateway.compression.bytes (Counter): 압축 전/후 바이트 수 (stage=in|out 태그)
+ * - gateway.compression.skipped (Counter): 압축하지 않은 응답 수 (reason 태그)
+ *
+ * 라우트별 미터는 처음 사용할 때 한 번만 등록하고 이후에는 조회만 함
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+@Component
+public class CompressionMetrics {
+
+    private final MeterRegistry registry;
+
+    private final Map<String, Counter[]> bytesByRoute = new ConcurrentHashMap<>();
+    private final Map<String, Counter> skippedByKey = new ConcurrentHashMap<>();
+
+    public CompressionMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * 압축한 응답의 압축 전/후 크기 기록
+     */
+    public void recordCompressed(String routeTag, long inputBytes, long outputBytes) {
+        Counter[] counters = bytesByRoute.get(routeTag);
+        if (counters == null) {
+            counters = bytesByRoute.computeIfAbsent(routeTag, this::registerBytes);
+        }
+        counters[0].increment(inputBytes);
+        counters[1].increment(outputBytes);
+    }
+
+    /**
+     * 압축하지 않은 응답 기록
+     *
+     * @param routeTag 라우트 ID 태그
+     * @param reason 건너뛴 이유 (too_small, content_type, encoded 등)
+     */
+    public void recordSkipped(String routeTag, String reason) {
+        skippedByKey.computeIfAbsent(routeTag + '\0' + reason, key -> Counter.builder("gateway.compression.skipped")
+                .description("압축하지 않은 응답 수")
+                .tag("route", routeTag)
+                .tag("reason", reason)
+                .register(registry)).increment();
+    }
+
+    private Counter[] registerBytes(String routeTag) {
+        return new Counter[]{bytes(routeTag, "in"), bytes(routeTag, "out")};
+    }
+
+    private Counter bytes(String routeTag, String stage) {
+        return Counter.builder("gateway.compression.bytes")
+                .description("응답 압축 전(in)/후(out) 바이트 수")
+                .baseUnit("bytes")
+                .tag("route", routeTag)
+                .tag("stage", stage)
+                .register(registry);
+    }
+}
@@ -0,0 +1,154 @@
+package com.deefacto.api_gateway.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 라우트별 요청 메트릭
+ *
+ * - gateway.route.latency (Timer): 게이트웨이 전체 처리 시간 (route, status, outcome 태그)
+ * - gateway.route.upstream.latency (Timer): 하위 서비스 응답 시간 (연결 획득 ~ 응답 헤더 수신)
+ *   두 값의 차이로 게이트웨이 자체 지연과 하위 서비스 지연을 구분
+ *   SLO 버킷은 management.metrics.distribution.slo 설정으로 지정
+ * - gateway.route.inflight (Gauge): 처리 중인 요청 수
+ * - gateway.route.request.bytes / gateway.route.response.bytes (Counter): 송수신 바이트 수
+ *
+ * 라우트/상태 코드별 미터는 처음 사용할 때 한 번만 등록하고 이후에는 배열/맵 조회만 함
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+@Component
+public class RouteMetrics {
+
+    /**
+     * 상태 코드 없이 끝난 요청(취소/오류)의 배열 인덱스
+     */
+    private static final int NO_STATUS = 0;
+
+    private final MeterRegistry registry;
+
+    private final Map<String, RouteMeters> byRoute = new ConcurrentHashMap<>();
+
+    public RouteMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * 라우트의 미터 묶음 조회 (없으면 등록)
+     *
+     * @param routeTag 라우트 ID 태그
+     */
+    public RouteMeters meters(String routeTag) {
+        RouteMeters meters = byRoute.get(routeTag);
+        if (meters == null) {
+            meters = byRoute.computeIfAbsent(routeTag, RouteMeters::new);
+        }
+        return meters;
+    }
+
+    /**
+     * 라우트 하나에 대한 미터 묶음
+     */
+    public final class RouteMeters {
+
+        private final String routeTag;
+        private final AtomicInteger inflight = new AtomicInteger();
+        private final Counter requestBytes;
+        private final Counter responseBytes;
+
+        /**
+         * 상태 코드(100~599)별 Timer, 인덱스 0은 상태 코드 없음
+         * outcome 태그가 다른 경우(취소/오류)를 위해 2벌 보관
+         */
+        private final AtomicReferenceArray<Timer> completed = new AtomicReferenceArray<>(600);
+        private final AtomicReferenceArray<Timer> failed = new AtomicReferenceArray<>(600);
+        private final AtomicReferenceArray<Timer> upstreamCompleted = new AtomicReferenceArray<>(600);
+        private final AtomicReferenceArray<Timer> upstreamFailed = new AtomicReferenceArray<>(600);
+
+        private RouteMeters(String routeTag) {
+            this.routeTag = routeTag;
+            Gauge.builder("gateway.route.inflight", inflight, AtomicInteger::get)
+                    .description("처리 중인 요청 수")
+                    .tag("route", routeTag)
+                    .register(registry);
+            this.requestBytes = Counter.builder("gateway.route.request.bytes")
+                    .description("수신한 요청 바이트 수")
+                    .baseUnit("bytes")
+                    .tag("route", routeTag)
+                    .register(registry);
+            this.responseBytes = Counter.builder("gateway.route.response.bytes")
+                    .description("전송한 응답 바이트 수")
+                    .baseUnit("bytes")
+                    .tag("route", routeTag)
+                    .register(registry);
+        }
+
+        /**
+         * 요청 시작 (처리 중 요청 수 증가)
+         */
+        public void start() {
+            inflight.incrementAndGet();
+        }
+
+        /**
+         * 요청 종료 기록
+         *
+         * @param status HTTP 상태 코드 (없으면 0)
+         * @param success 정상 완료 여부 (false: 취소/오류)
+         * @param nanos 처리 시간 (나노초)
+         * @param requestBytes 요청 바이트 수
+         * @param responseBytes 응답 바이트 수
+         */
+        public void finish(int status, boolean success, long nanos, long requestBytes, long responseBytes) {
+            inflight.decrementAndGet();
+            int index = status >= 100 && status < 600 ? status : NO_STATUS;
+            timer(success ? completed : failed, "gateway.route.latency", "라우트별 요청 처리 시간", index, success)
+                    .record(nanos, TimeUnit.NANOSECONDS);
+            if (requestBytes > 0) {
+                this.requestBytes.increment(requestBytes);
+            }
+            if (responseBytes > 0) {
+                this.responseBytes.increment(responseBytes);
+            }
+        }
+
+        /**
+         * 하위 서비스 호출 한 번의 응답 시간 기록 (캐시 hit, 배치, SSE fan-out 등 호출이 없던 요청은 기록하지 않음)
+         *
+         * @param status 하위 서비스 응답 상태 코드 (없으면 0)
+         * @param success 응답을 받았는지 여부 (false: 연결 실패, 타임아웃, 취소)
+         * @param nanos 연결 획득부터 응답 헤더 수신까지의 시간 (나노초)
+         */
+        public void upstream(int status, boolean success, long nanos) {
+            int index = status >= 100 && status < 600 ? status : NO_STATUS;
+            timer(success ? upstreamCompleted : upstreamFailed, "gateway.route.upstream.latency",
+                    "라우트별 하위 서비스 응답 시간", index, success)
+                    .record(nanos, TimeUnit.NANOSECONDS);
+        }
+
+        private Timer timer(AtomicReferenceArray<Timer> timers, String name, String description,
+                            int index, boolean success) {
+            Timer timer = timers.get(index);
+            if (timer == null) {
+                timer = Timer.builder(name)
+                        .description(description)
+                        .tag("route", routeTag)
+                        .tag("status", index == NO_STATUS ? "NONE" : String.valueOf(index))
+                        .tag("outcome", success ? "complete" : "error")
+                        .register(registry);
+                timers.compareAndSet(index, null, timer);
+            }
+            return timer;
+        }
+    }
+}
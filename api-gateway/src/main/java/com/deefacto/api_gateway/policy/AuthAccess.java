@@ -0,0 +1,19 @@
+package com.deefacto.api_gateway.policy;
+
+/**
+ * 경로/라우트별 접근 수준
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+public enum AuthAccess {
+
+    /** 인증 없이 접근 가능 (로그인, 토큰 재발급 등) */
+    PUBLIC,
+
+    /** 유효한 JWT 토큰 필요 */
+    AUTHENTICATED,
+
+    /** 유효한 JWT 토큰 + 지정된 역할(role claim) 필요 */
+    ROLE
+}
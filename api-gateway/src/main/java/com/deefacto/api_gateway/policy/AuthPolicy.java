@@ -0,0 +1,67 @@
+package com.deefacto.api_gateway.policy;
+
+import com.deefacto.api_gateway.util.JwtPrincipal;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 컴파일된 인증 정책 (불변)
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+public final class AuthPolicy {
+
+    private final AuthAccess access;
+    private final Set<String> roles;
+    private final String roleClaim;
+    private final List<Map.Entry<String, String>> headerMappings;
+
+    /**
+     * @param access 접근 수준
+     * @param roles 허용 역할 (access=ROLE 인 경우)
+     * @param roleClaim 역할 claim의 논리 이름
+     * @param headerMappings (claim 논리 이름, 헤더 이름) 목록
+     */
+    public AuthPolicy(AuthAccess access, Set<String> roles, String roleClaim,
+                      List<Map.Entry<String, String>> headerMappings) {
+        this.access = access;
+        this.roles = Set.copyOf(roles);
+        this.roleClaim = roleClaim;
+        this.headerMappings = List.copyOf(headerMappings);
+    }
+
+    public AuthAccess getAccess() {
+        return access;
+    }
+
+    /**
+     * 인증 없이 통과하는 정책인지 여부
+     */
+    public boolean isPublic() {
+        return access == AuthAccess.PUBLIC;
+    }
+
+    /**
+     * 인증된 사용자가 이 정책을 만족하는지 확인
+     *
+     * @param principal 검증된 인증 주체
+     * @return true: 허용, false: 역할 부족
+     */
+    public boolean permits(JwtPrincipal principal) {
+        if (access != AuthAccess.ROLE) {
+            return true;
+        }
+        String role = principal.getClaim(roleClaim);
+        return role != null && roles.contains(role);
+    }
+
+    /**
+     * 하위 서비스로 전달할 (claim 논리 이름, 헤더 이름) 목록
+     */
+    public List<Map.Entry<String, String>> getHeaderMappings() {
+        return headerMappings;
+    }
+}
@@ -0,0 +1,151 @@
+package com.deefacto.api_gateway.policy;
+
+import com.deefacto.api_gateway.config.AuthPolicyProperties;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 인증 정책 매처
+ *
+ * gateway.auth.policies 설정을 시작 시 한 번 컴파일하여
+ * - 경로 패턴: 세그먼트 트라이 (조회 비용이 정책 수와 무관)
+ * - 라우트 ID: 해시 맵
+ * 으로 보관하고, 요청마다 해당 요청에 적용할 정책을 찾음
+ *
+ * 설정 변경(EnvironmentChangeEvent) 시 재시작 없이 다시 컴파일하여 통째로 교체하며,
+ * 새 설정이 잘못된 경우 기존 정책을 유지함
+ * (이벤트는 gateway.reload.location 파일 변경 시 ReloadableConfigWatcher가 발행,
+ *  /actuator/refresh를 노출한 환경에서는 refresh 호출로도 발행됨)
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AuthPolicyMatcher {
+
+    /**
+     * 게이트웨이가 항상 직접 설정하는 사용자 헤더 (클라이언트가 보낸 값은 무시)
+     */
+    public static final String EMPLOYEE_ID_HEADER = "X-Employee-Id";
+    public static final String USER_ID_HEADER = "X-User-Id";
+
+    private final Environment environment;
+
+    private volatile CompiledPolicies compiled;
+
+    /**
+     * 시작 시 정책 컴파일 (설정 오류는 기동 실패로 처리)
+     */
+    @PostConstruct
+    public void init() {
+        this.compiled = compile();
+    }
+
+    /**
+     * 정책 관련 설정이 바뀐 경우에만 다시 컴파일
+     */
+    @EventListener
+    public void onEnvironmentChange(EnvironmentChangeEvent event) {
+        boolean changed = event.getKeys().stream().anyMatch(key ->
+                key.startsWith("gateway.auth.") || key.startsWith("jwt.headers.") || key.startsWith("jwt.claims."));
+        if (!changed) {
+            return;
+        }
+        try {
+            this.compiled = compile();
+            log.info("인증 정책 다시 로드 완료");
+        } catch (RuntimeException e) {
+            log.error("인증 정책 다시 로드 실패 - 기존 정책 유지: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 요청에 적용할 정책 조회
+     *
+     * @param routeId 매칭된 라우트 ID (없으면 null)
+     * @param path 요청 경로
+     * @return 적용할 정책 (경로 > 라우트 > 기본값 순)
+     */
+    public AuthPolicy match(String routeId, String path) {
+        CompiledPolicies current = this.compiled;
+        AuthPolicy policy = current.paths.match(path);
+        if (policy == null && routeId != null) {
+            policy = current.routes.get(routeId);
+        }
+        return policy != null ? policy : current.defaultPolicy;
+    }
+
+    /**
+     * 게이트웨이가 관리하는 모든 사용자 헤더 이름
+     * (인증 제외 경로에서는 클라이언트가 보낸 값을 제거하기 위해 사용)
+     */
+    public Set<String> managedHeaders() {
+        return compiled.managedHeaders;
+    }
+
+    /**
+     * 설정을 읽어 매처로 컴파일
+     */
+    private CompiledPolicies compile() {
+        Binder binder = Binder.get(environment);
+        AuthPolicyProperties properties = binder.bind("gateway.auth", AuthPolicyProperties.class)
+                .orElseGet(AuthPolicyProperties::new);
+        Map<String, String> baseHeaders = binder
+                .bind("jwt.headers", Bindable.mapOf(String.class, String.class))
+                .orElse(Map.of());
+
+        Set<String> managedHeaders = new LinkedHashSet<>(List.of(EMPLOYEE_ID_HEADER, USER_ID_HEADER));
+        managedHeaders.addAll(baseHeaders.values());
+
+        PathPatternTrie<AuthPolicy> paths = new PathPatternTrie<>();
+        Map<String, AuthPolicy> routes = new HashMap<>();
+        for (AuthPolicyProperties.Rule rule : properties.getPolicies()) {
+            Map<String, String> headers = new LinkedHashMap<>(baseHeaders);
+            headers.putAll(rule.getHeaders());
+            managedHeaders.addAll(headers.values());
+
+            AuthPolicy policy = new AuthPolicy(rule.getAccess(), new LinkedHashSet<>(rule.getRoles()),
+                    properties.getRoleClaim(), new ArrayList<>(headers.entrySet()));
+            if (StringUtils.hasText(rule.getPath())) {
+                paths.insert(rule.getPath(), policy);
+            } else if (StringUtils.hasText(rule.getRoute())) {
+                routes.putIfAbsent(rule.getRoute(), policy);
+            } else {
+                throw new IllegalArgumentException("인증 정책에는 path 또는 route가 필요합니다");
+            }
+        }
+
+        AuthPolicy defaultPolicy = new AuthPolicy(properties.getDefaultAccess(), Set.of(),
+                properties.getRoleClaim(), new ArrayList<>(baseHeaders.entrySet()));
+        log.info("인증 정책 컴파일 완료: 정책 {}건, 기본 접근 수준 {}",
+                properties.getPolicies().size(), properties.getDefaultAccess());
+        return new CompiledPolicies(paths, Map.copyOf(routes), defaultPolicy, Set.copyOf(managedHeaders));
+    }
+
+    /**
+     * 컴파일된 정책 묶음 (불변, 설정 변경 시 통째로 교체)
+     */
+    private record CompiledPolicies(PathPatternTrie<AuthPolicy> paths,
+                                    Map<String, AuthPolicy> routes,
+                                    AuthPolicy defaultPolicy,
+                                    Set<String> managedHeaders) {
+    }
+}
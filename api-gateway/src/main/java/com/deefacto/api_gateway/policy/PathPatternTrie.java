@@ -0,0 +1,113 @@
+package com.deefacto.api_gateway.policy;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 경로 세그먼트 단위 트라이 매처
+ *
+ * 지원 패턴:
+ * - 리터럴 세그먼트 (예: /auth/login)
+ * - "*": 세그먼트 하나
+ * - "**": 남은 경로 전체 (0개 이상, 패턴 마지막에만 사용)
+ *
+ * 조회 비용은 등록된 패턴 수와 무관하게 경로 깊이에만 비례함
+ * 우선순위: 리터럴 > "*" > "**", 더 깊이 일치하는 패턴 우선
+ *
+ * 생성 후에는 읽기 전용으로만 사용 (여러 스레드에서 동시 조회 가능)
+ *
+ * @param <T> 패턴에 연결된 값
+ * @author API Gateway Team
+ * @version 1.0
+ */
+final class PathPatternTrie<T> {
+
+    private final Node<T> root = new Node<>();
+
+    /**
+     * 패턴 등록 (이미 같은 패턴이 있으면 무시 - 먼저 등록된 값 우선)
+     *
+     * @param pattern 경로 패턴
+     * @param value 연결할 값
+     */
+    void insert(String pattern, T value) {
+        Node<T> node = root;
+        String[] segments = pattern.split("/");
+        for (int i = 0; i < segments.length; i++) {
+            String segment = segments[i];
+            if (segment.isEmpty()) {
+                continue;
+            }
+            if ("**".equals(segment)) {
+                if (i != segments.length - 1) {
+                    throw new IllegalArgumentException("\"**\"는 패턴의 마지막에만 사용할 수 있습니다: " + pattern);
+                }
+                if (node.rest == null) {
+                    node.rest = value;
+                }
+                return;
+            }
+            if ("*".equals(segment)) {
+                if (node.single == null) {
+                    node.single = new Node<>();
+                }
+                node = node.single;
+            } else {
+                node = node.literals.computeIfAbsent(segment, key -> new Node<>());
+            }
+        }
+        if (node.exact == null) {
+            node.exact = value;
+        }
+    }
+
+    /**
+     * 경로와 가장 구체적으로 일치하는 값 조회
+     *
+     * @param path 요청 경로 (예: /sensors/1/data)
+     * @return 일치하는 값, 없으면 null
+     */
+    T match(String path) {
+        return match(root, path, 0);
+    }
+
+    private T match(Node<T> node, String path, int from) {
+        // 연속된 "/" 건너뛰기
+        int start = from;
+        while (start < path.length() && path.charAt(start) == '/') {
+            start++;
+        }
+        if (start >= path.length()) {
+            return node.exact != null ? node.exact : node.rest;
+        }
+
+        int end = path.indexOf('/', start);
+        if (end < 0) {
+            end = path.length();
+        }
+
+        if (!node.literals.isEmpty()) {
+            Node<T> literal = node.literals.get(path.substring(start, end));
+            if (literal != null) {
+                T value = match(literal, path, end);
+                if (value != null) {
+                    return value;
+                }
+            }
+        }
+        if (node.single != null) {
+            T value = match(node.single, path, end);
+            if (value != null) {
+                return value;
+            }
+        }
+        return node.rest;
+    }
+
+    private static final class Node<T> {
+        private final Map<String, Node<T>> literals = new HashMap<>();
+        private Node<T> single;
+        private T exact;
+        private T rest;
+    }
+}
@@ -0,0 +1,50 @@
+package com.deefacto.api_gateway.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * GCRA(Generic Cell Rate Algorithm) 방식의 lock-free 토큰 버킷
+ *
+ * 남은 토큰 수 대신 "다음 요청이 이론상 도착해야 하는 시각(TAT)" 하나만 보관하며,
+ * 요청마다 CAS 한 번으로 갱신하므로 락과 요청당 할당이 없음
+ *
+ * - interval: 토큰 하나가 채워지는 간격 (1초 / 초당 허용 요청 수)
+ * - tolerance: 한 번에 허용하는 버스트 크기만큼의 시간 (interval * burst)
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+public final class GcraBucket {
+
+    /**
+     * 이론상 다음 도착 시각 (System.nanoTime 기준)
+     */
+    private final AtomicLong tat;
+
+    public GcraBucket() {
+        this.tat = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * 요청 하나를 허용할 수 있는지 확인하고, 허용되면 토큰을 소비
+     *
+     * @param now 현재 시각 (System.nanoTime)
+     * @param interval 토큰 하나가 채워지는 간격 (나노초)
+     * @param tolerance 버스트 허용 시간 (나노초)
+     * @return 0: 허용, 0보다 크면 다시 시도할 수 있을 때까지 남은 시간 (나노초)
+     */
+    public long tryAcquire(long now, long interval, long tolerance) {
+        while (true) {
+            long current = tat.get();
+            long base = current - now < 0 ? now : current;
+            long next = base + interval;
+            long wait = next - now - tolerance;
+            if (wait > 0) {
+                return wait;
+            }
+            if (tat.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+}
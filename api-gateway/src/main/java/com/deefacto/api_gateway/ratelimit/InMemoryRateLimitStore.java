@@ -0,0 +1,26 @@
+package com.deefacto.api_gateway.ratelimit;
+
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메모리 기반 요청 한도 저장소
+ *
+ * Redis 없이 distributed 모드를 실행하는 로컬/테스트 환경용 구현
+ * (인스턴스 간 공유는 되지 않으며, 키는 만료되지 않음)
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+public class InMemoryRateLimitStore implements RateLimitStore {
+
+    private final Map<String, GcraBucket> buckets = new ConcurrentHashMap<>();
+
+    @Override
+    public Mono<Long> tryAcquire(String key, long interval, long tolerance) {
+        GcraBucket bucket = buckets.computeIfAbsent(key, k -> new GcraBucket());
+        return Mono.just(bucket.tryAcquire(System.nanoTime(), interval, tolerance));
+    }
+}
@@ -0,0 +1,68 @@
+package com.deefacto.api_gateway.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 게이트웨이 인스턴스 내부의 요청 제한기
+ *
+ * 라우트별로 키(유저 ID 또는 클라이언트 IP) -> GcraBucket 캐시를 두고,
+ * 일정 시간 요청이 없는 키는 캐시에서 자동으로 제거함
+ *
+ * 키는 요청에 이미 있는 객체(JwtPrincipal의 유저 ID, 원격 주소의 InetAddress)를 그대로 사용하고
+ * 버킷은 키가 처음 나타날 때만 생성하므로, 이미 알려진 키의 요청에는 할당이 없음
+ * 서로 다른 키의 요청은 서로 다른 버킷을 사용하므로 이벤트 루프 스레드 간 경합도 없음
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+public class LocalRateLimiter {
+
+    /**
+     * 키가 처음 나타났을 때 버킷 생성 (요청마다 람다를 만들지 않도록 상수로 보관)
+     */
+    private static final Function<Object, GcraBucket> NEW_BUCKET = key -> new GcraBucket();
+
+    private final long maxKeys;
+    private final Duration idleTimeout;
+
+    private final Map<String, Cache<Object, GcraBucket>> byRoute = new ConcurrentHashMap<>();
+
+    /**
+     * @param maxKeys 라우트별 최대 키 수 (초과 시 오래 사용하지 않은 키부터 제거)
+     * @param idleTimeout 요청이 없는 키를 제거하기까지의 시간
+     */
+    public LocalRateLimiter(long maxKeys, Duration idleTimeout) {
+        this.maxKeys = maxKeys;
+        this.idleTimeout = idleTimeout;
+    }
+
+    /**
+     * 요청 하나를 허용할 수 있는지 확인
+     *
+     * @param routeTag 라우트 ID 태그
+     * @param key 제한 키 (유저 ID 또는 클라이언트 주소, equals/hashCode 구현 필요)
+     * @param interval 토큰 하나가 채워지는 간격 (나노초)
+     * @param tolerance 버스트 허용 시간 (나노초)
+     * @return 0: 허용, 0보다 크면 다시 시도할 수 있을 때까지 남은 시간 (나노초)
+     */
+    public long tryAcquire(String routeTag, Object key, long interval, long tolerance) {
+        return buckets(routeTag).get(key, NEW_BUCKET).tryAcquire(System.nanoTime(), interval, tolerance);
+    }
+
+    private Cache<Object, GcraBucket> buckets(String routeTag) {
+        Cache<Object, GcraBucket> buckets = byRoute.get(routeTag);
+        if (buckets == null) {
+            buckets = byRoute.computeIfAbsent(routeTag, tag -> Caffeine.newBuilder()
+                    .maximumSize(maxKeys)
+                    .expireAfterAccess(idleTimeout)
+                    .build());
+        }
+        return buckets;
+    }
+}
@@ -0,0 +1,25 @@
+package com.deefacto.api_gateway.ratelimit;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * 게이트웨이 인스턴스 간에 요청 한도를 공유하기 위한 저장소
+ *
+ * gateway.rate-limit.mode=distributed 인 경우 사용하며,
+ * 모든 인스턴스가 같은 키에 대해 하나의 GCRA 상태를 공유함
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+public interface RateLimitStore {
+
+    /**
+     * 요청 하나를 허용할 수 있는지 확인하고, 허용되면 토큰을 소비
+     *
+     * @param key 제한 키 (라우트 ID + 유저 ID/클라이언트 IP)
+     * @param interval 토큰 하나가 채워지는 간격 (나노초)
+     * @param tolerance 버스트 허용 시간 (나노초)
+     * @return 0: 허용, 0보다 크면 다시 시도할 수 있을 때까지 남은 시간 (나노초)
+     */
+    Mono<Long> tryAcquire(String key, long interval, long tolerance);
+}
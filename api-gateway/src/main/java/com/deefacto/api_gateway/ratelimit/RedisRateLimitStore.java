@@ -0,0 +1,60 @@
+package com.deefacto.api_gateway.ratelimit;
+
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Redis 기반 요청 한도 저장소
+ *
+ * GCRA 계산을 Lua 스크립트로 Redis에서 원자적으로 수행하며,
+ * 인스턴스 간 시계 차이를 없애기 위해 Redis 서버 시각(TIME)을 사용
+ * 키에는 TAT(마이크로초)만 저장하고, 버킷이 가득 차는 시점에 만료되도록 PX를 설정
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+public class RedisRateLimitStore implements RateLimitStore {
+
+    /**
+     * GCRA 스크립트 (KEYS[1]: 제한 키, ARGV[1]: interval(us), ARGV[2]: tolerance(us))
+     * 반환값: 0이면 허용, 아니면 다시 시도할 수 있을 때까지 남은 시간(us)
+     */
+    private static final RedisScript<Long> GCRA_SCRIPT = RedisScript.of("""
+            local interval = tonumber(ARGV[1])
+            local tolerance = tonumber(ARGV[2])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000000 + tonumber(time[2])
+            local tat = tonumber(redis.call('GET', KEYS[1]) or now)
+            if tat < now then
+              tat = now
+            end
+            local next = tat + interval
+            local wait = next - now - tolerance
+            if wait > 0 then
+              return wait
+            end
+            redis.call('SET', KEYS[1], next, 'PX', math.ceil((next - now) / 1000))
+            return 0
+            """, Long.class);
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final String keyPrefix;
+
+    public RedisRateLimitStore(ReactiveStringRedisTemplate redisTemplate, String keyPrefix) {
+        this.redisTemplate = redisTemplate;
+        this.keyPrefix = keyPrefix;
+    }
+
+    @Override
+    public Mono<Long> tryAcquire(String key, long interval, long tolerance) {
+        List<String> args = List.of(
+                String.valueOf(Math.max(1, interval / 1_000)),
+                String.valueOf(tolerance / 1_000));
+        return redisTemplate.execute(GCRA_SCRIPT, List.of(keyPrefix + key), args)
+                .next()
+                .map(waitMicros -> waitMicros * 1_000);
+    }
+}
@@ -0,0 +1,112 @@
+package com.deefacto.api_gateway.resilience;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 하위 서비스 하나의 동시 요청 제한기 (bulkhead)
+ *
+ * - fixed: 고정된 최대 동시 요청 수
+ * - adaptive: AIMD 방식으로 제한 값을 조절
+ *   - 오류/5xx/처리 시간 기준 초과 -> 제한 값 * backoffRatio (multiplicative decrease)
+ *   - 정상 응답이면서 제한 값의 절반 이상을 사용 중 -> 제한 값 + 1 (additive increase)
+ *
+ * 처리 중 요청 수와 제한 값은 CAS로만 갱신하므로 락이 없음
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+public class ConcurrencyLimiter {
+
+    private final boolean adaptive;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+
+    /**
+     * 현재 제한 값 (double을 비트로 보관)
+     */
+    private final AtomicLong limitBits;
+
+    public ConcurrencyLimiter(boolean adaptive, int initialLimit, int minLimit, int maxLimit,
+                              long latencyThresholdNanos, double backoffRatio) {
+        this.adaptive = adaptive;
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.latencyThresholdNanos = latencyThresholdNanos;
+        this.backoffRatio = backoffRatio;
+        double initial = adaptive
+                ? Math.min(this.maxLimit, Math.max(this.minLimit, initialLimit))
+                : Math.max(1, initialLimit);
+        this.limitBits = new AtomicLong(Double.doubleToLongBits(initial));
+    }
+
+    /**
+     * 요청 하나를 처리할 수 있으면 처리 중 요청 수를 늘림
+     *
+     * @return false: 제한 값에 도달 (즉시 실패 처리)
+     */
+    public boolean tryAcquire() {
+        int limit = getLimit();
+        while (true) {
+            int current = inflight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 요청 처리가 끝났을 때 호출
+     *
+     * @param latencyNanos 처리 시간 (나노초)
+     * @param dropped 오류/5xx 등 과부하 신호 여부
+     */
+    public void release(long latencyNanos, boolean dropped) {
+        int inflightAtFinish = inflight.getAndDecrement();
+        if (!adaptive) {
+            return;
+        }
+        boolean overloaded = dropped || latencyNanos > latencyThresholdNanos;
+        while (true) {
+            long currentBits = limitBits.get();
+            double current = Double.longBitsToDouble(currentBits);
+            double next;
+            if (overloaded) {
+                next = Math.max(minLimit, current * backoffRatio);
+            } else if (inflightAtFinish * 2 >= current) {
+                next = Math.min(maxLimit, current + 1);
+            } else {
+                return;
+            }
+            if (next == current || limitBits.compareAndSet(currentBits, Double.doubleToLongBits(next))) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 요청이 시작되지 않고 취소된 경우 (제한 값 조절 없이 처리 중 요청 수만 되돌림)
+     */
+    public void cancel() {
+        inflight.decrementAndGet();
+    }
+
+    public boolean isAdaptive() {
+        return adaptive;
+    }
+
+    public int getLimit() {
+        return (int) Double.longBitsToDouble(limitBits.get());
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+}
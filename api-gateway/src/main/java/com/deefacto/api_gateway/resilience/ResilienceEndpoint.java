@@ -0,0 +1,57 @@
+package com.deefacto.api_gateway.resilience;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 하위 서비스 보호 상태 Actuator 엔드포인트
+ *
+ * GET /actuator/resilience
+ * 라우트별 서킷 브레이커 상태/실패율과 동시 요청 제한 값/처리 중 요청 수를 반환
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+@Component
+@Endpoint(id = "resilience")
+@RequiredArgsConstructor
+public class ResilienceEndpoint {
+
+    private final ResilienceRegistry registry;
+
+    @ReadOperation
+    public Map<String, Object> resilience() {
+        Map<String, Object> routes = new TreeMap<>();
+        registry.all().forEach((routeId, resilience) -> {
+            Map<String, Object> route = new LinkedHashMap<>();
+            CircuitBreaker circuitBreaker = resilience.circuitBreaker();
+            if (circuitBreaker != null) {
+                CircuitBreaker.Metrics metrics = circuitBreaker.getMetrics();
+                Map<String, Object> breaker = new LinkedHashMap<>();
+                breaker.put("state", circuitBreaker.getState().name());
+                breaker.put("failureRate", metrics.getFailureRate());
+                breaker.put("slowCallRate", metrics.getSlowCallRate());
+                breaker.put("bufferedCalls", metrics.getNumberOfBufferedCalls());
+                breaker.put("notPermittedCalls", metrics.getNumberOfNotPermittedCalls());
+                route.put("circuitBreaker", breaker);
+            }
+            ConcurrencyLimiter limiter = resilience.limiter();
+            if (limiter != null) {
+                Map<String, Object> concurrency = new LinkedHashMap<>();
+                concurrency.put("mode", limiter.isAdaptive() ? "adaptive" : "fixed");
+                concurrency.put("limit", limiter.getLimit());
+                concurrency.put("inflight", limiter.getInflight());
+                route.put("concurrency", concurrency);
+            }
+            routes.put(routeId, route);
+        });
+        return Map.of("routes", routes);
+    }
+}
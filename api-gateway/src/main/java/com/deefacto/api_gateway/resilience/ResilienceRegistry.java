@@ -0,0 +1,103 @@
+package com.deefacto.api_gateway.resilience;
+
+import com.deefacto.api_gateway.config.ResilienceProperties;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 라우트별 보호 장치(서킷 브레이커, 동시 요청 제한기) 저장소
+ *
+ * 라우트의 첫 요청에서 gateway.resilience 설정으로 생성하여 이후 계속 재사용
+ * 제한기 상태는 gateway.concurrency.limit / gateway.concurrency.inflight 게이지로,
+ * 서킷 브레이커 상태는 resilience4j.circuitbreaker.* 메트릭으로 노출
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+@Slf4j
+public class ResilienceRegistry {
+
+    private final ResilienceProperties properties;
+    private final CircuitBreakerRegistry circuitBreakers;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, RouteResilience> byRoute = new ConcurrentHashMap<>();
+
+    public ResilienceRegistry(ResilienceProperties properties, CircuitBreakerRegistry circuitBreakers,
+                              MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.circuitBreakers = circuitBreakers;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 라우트의 보호 장치 조회 (없으면 생성)
+     */
+    public RouteResilience forRoute(String routeId) {
+        RouteResilience resilience = byRoute.get(routeId);
+        if (resilience == null) {
+            resilience = byRoute.computeIfAbsent(routeId, this::create);
+        }
+        return resilience;
+    }
+
+    /**
+     * 지금까지 생성된 모든 라우트의 보호 장치 (Actuator 조회용)
+     */
+    public Map<String, RouteResilience> all() {
+        return Map.copyOf(byRoute);
+    }
+
+    private RouteResilience create(String routeId) {
+        ResilienceProperties.Route route = properties.routeFor(routeId);
+
+        CircuitBreaker circuitBreaker = null;
+        ResilienceProperties.CircuitBreaker breakerProperties = route.getCircuitBreaker();
+        if (breakerProperties.isEnabled()) {
+            CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+                    .failureRateThreshold(breakerProperties.getFailureRateThreshold())
+                    .slowCallDurationThreshold(breakerProperties.getSlowCallDuration())
+                    .slowCallRateThreshold(breakerProperties.getSlowCallRateThreshold())
+                    .slidingWindowSize(breakerProperties.getSlidingWindowSize())
+                    .minimumNumberOfCalls(breakerProperties.getMinimumCalls())
+                    .waitDurationInOpenState(breakerProperties.getOpenStateWait())
+                    .permittedNumberOfCallsInHalfOpenState(breakerProperties.getHalfOpenCalls())
+                    .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                    .build();
+            circuitBreaker = circuitBreakers.circuitBreaker(routeId, config);
+            circuitBreaker.getEventPublisher().onStateTransition(event ->
+                    log.warn("서킷 브레이커 상태 변경: route={}, {}", routeId, event.getStateTransition()));
+        }
+
+        ConcurrencyLimiter limiter = null;
+        ResilienceProperties.Concurrency concurrency = route.getConcurrency();
+        if (!"none".equalsIgnoreCase(concurrency.getMode())) {
+            limiter = new ConcurrencyLimiter(
+                    "adaptive".equalsIgnoreCase(concurrency.getMode()),
+                    concurrency.getLimit(),
+                    concurrency.getMinLimit(),
+                    concurrency.getMaxLimit(),
+                    concurrency.getLatencyThreshold().toNanos(),
+                    concurrency.getBackoffRatio());
+            Gauge.builder("gateway.concurrency.limit", limiter, ConcurrencyLimiter::getLimit)
+                    .description("하위 서비스별 최대 동시 요청 수")
+                    .tag("route", routeId)
+                    .register(meterRegistry);
+            Gauge.builder("gateway.concurrency.inflight", limiter, ConcurrencyLimiter::getInflight)
+                    .description("하위 서비스별 처리 중인 요청 수 (동시 요청 제한 대상)")
+                    .tag("route", routeId)
+                    .register(meterRegistry);
+        }
+
+        log.info("하위 서비스 보호 설정: route={}, circuitBreaker={}, concurrency={}",
+                routeId, breakerProperties.isEnabled(), concurrency.getMode());
+        return new RouteResilience(routeId, circuitBreaker, limiter, breakerProperties.getOpenStateWait());
+    }
+}
@@ -0,0 +1,29 @@
+package com.deefacto.api_gateway.resilience;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+
+import java.time.Duration;
+
+/**
+ * 라우트 하나의 보호 장치 묶음
+ *
+ * @param routeId 라우트 ID
+ * @param circuitBreaker 서킷 브레이커 (사용하지 않으면 null)
+ * @param limiter 동시 요청 제한기 (사용하지 않으면 null)
+ * @param openStateWait 서킷 OPEN 상태 유지 시간 (Retry-After 계산용)
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+public record RouteResilience(String routeId,
+                              CircuitBreaker circuitBreaker,
+                              ConcurrencyLimiter limiter,
+                              Duration openStateWait) {
+
+    /**
+     * 하위 서비스 호출 한 번의 허가 요청
+     */
+    public UpstreamPermit tryAcquire() {
+        return UpstreamPermit.acquire(circuitBreaker, limiter);
+    }
+}
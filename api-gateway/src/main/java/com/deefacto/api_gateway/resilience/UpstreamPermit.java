@@ -0,0 +1,117 @@
+package com.deefacto.api_gateway.resilience;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 하위 서비스 호출 한 번의 보호 장치 허가 (서킷 브레이커 + 동시 요청 제한기)
+ *
+ * ResilienceFilter(일반 라우팅)와 BatchDispatcher(배치 하위 요청)가 같은 방식으로 허가를 받고 반납하도록 함
+ * 허가는 release/cancel 중 처음 호출된 것 한 번만 반영됨
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+public final class UpstreamPermit {
+
+    /**
+     * 허가 거부 이유
+     */
+    public enum Rejection {
+        /** 서킷 OPEN */
+        CIRCUIT_OPEN,
+        /** 동시 요청 수가 제한 값에 도달 */
+        CONCURRENCY_LIMIT
+    }
+
+    /**
+     * 5xx 응답을 서킷 브레이커에 실패로 기록할 때 사용하는 예외 (스택 트레이스 없음)
+     */
+    private static final Exception UPSTREAM_FAILURE = new Exception("하위 서비스 5xx 응답 또는 오류", null, false, false) {
+    };
+
+    private final CircuitBreaker circuitBreaker;
+    private final ConcurrencyLimiter limiter;
+    private final Rejection rejection;
+    private final long start = System.nanoTime();
+    private final AtomicBoolean done = new AtomicBoolean();
+
+    private UpstreamPermit(CircuitBreaker circuitBreaker, ConcurrencyLimiter limiter, Rejection rejection) {
+        this.circuitBreaker = circuitBreaker;
+        this.limiter = limiter;
+        this.rejection = rejection;
+    }
+
+    /**
+     * 서킷 브레이커 -> 동시 요청 제한기 순으로 허가 요청 (제한기에서 거부되면 서킷 브레이커 허가는 되돌림)
+     */
+    static UpstreamPermit acquire(CircuitBreaker circuitBreaker, ConcurrencyLimiter limiter) {
+        if (circuitBreaker != null && !circuitBreaker.tryAcquirePermission()) {
+            return new UpstreamPermit(null, null, Rejection.CIRCUIT_OPEN);
+        }
+        if (limiter != null && !limiter.tryAcquire()) {
+            if (circuitBreaker != null) {
+                circuitBreaker.releasePermission();
+            }
+            return new UpstreamPermit(null, null, Rejection.CONCURRENCY_LIMIT);
+        }
+        return new UpstreamPermit(circuitBreaker, limiter, null);
+    }
+
+    /**
+     * 보호 장치를 사용하지 않을 때의 허가 (release/cancel은 아무 일도 하지 않음)
+     */
+    public static UpstreamPermit unrestricted() {
+        return new UpstreamPermit(null, null, null);
+    }
+
+    public boolean isGranted() {
+        return rejection == null;
+    }
+
+    /**
+     * 거부 이유 (허가되었으면 null)
+     */
+    public Rejection rejection() {
+        return rejection;
+    }
+
+    /**
+     * 하위 서비스 호출 결과 반영 (허가 이후 걸린 시간을 처리 시간으로 사용)
+     *
+     * @param failed 오류/5xx 응답 여부 (서킷 브레이커 실패율과 제한 값 감소에 반영)
+     */
+    public void release(boolean failed) {
+        if (!isGranted() || !done.compareAndSet(false, true)) {
+            return;
+        }
+        long elapsed = System.nanoTime() - start;
+        if (limiter != null) {
+            limiter.release(elapsed, failed);
+        }
+        if (circuitBreaker != null) {
+            if (failed) {
+                circuitBreaker.onError(elapsed, TimeUnit.NANOSECONDS, UPSTREAM_FAILURE);
+            } else {
+                circuitBreaker.onSuccess(elapsed, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    /**
+     * 결과 없이 반납 (클라이언트 연결 종료 등 하위 서비스 상태와 무관한 취소)
+     */
+    public void cancel() {
+        if (!isGranted() || !done.compareAndSet(false, true)) {
+            return;
+        }
+        if (limiter != null) {
+            limiter.cancel();
+        }
+        if (circuitBreaker != null) {
+            circuitBreaker.releasePermission();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.deefacto.api_gateway.revocation;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메모리 기반 토큰 폐기 저장소
+ *
+ * Redis 없이 실행하는 로컬/테스트 환경용 구현
+ * revoke()로 폐기한 토큰은 revocations() 구독자에게 즉시 전파됨
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+public class InMemoryTokenRevocationStore implements TokenRevocationStore {
+
+    private final Set<String> revoked = ConcurrentHashMap.newKeySet();
+
+    private final Sinks.Many<String> events = Sinks.many().multicast().directBestEffort();
+
+    /**
+     * 토큰을 폐기 처리 (로그아웃)
+     *
+     * @param token JWT 토큰 원문
+     */
+    public void revoke(String token) {
+        if (revoked.add(token)) {
+            events.emitNext(token, Sinks.EmitFailureHandler.busyLooping(Duration.ofMillis(100)));
+        }
+    }
+
+    @Override
+    public Mono<Boolean> isRevoked(String token) {
+        return Mono.just(revoked.contains(token));
+    }
+
+    @Override
+    public Flux<String> revokedTokens() {
+        return Flux.fromIterable(revoked);
+    }
+
+    @Override
+    public Flux<String> revocations() {
+        return events.asFlux();
+    }
+}
@@ -0,0 +1,47 @@
+package com.deefacto.api_gateway.revocation;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.ReactiveSubscription;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Redis 블랙리스트 기반 토큰 폐기 저장소
+ *
+ * 로그아웃 시 인증 서비스가 다음 두 가지를 수행한다고 가정:
+ * - SET {keyPrefix}{token} 1 EX {남은 유효시간}  (블랙리스트 등록)
+ * - PUBLISH {channel} {token}                 (게이트웨이 인스턴스에 전파)
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+@RequiredArgsConstructor
+public class RedisTokenRevocationStore implements TokenRevocationStore {
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final String keyPrefix;
+    private final String channel;
+
+    @Override
+    public Mono<Boolean> isRevoked(String token) {
+        return redisTemplate.hasKey(keyPrefix + token);
+    }
+
+    @Override
+    public Flux<String> revokedTokens() {
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(keyPrefix + "*")
+                .count(1000)
+                .build();
+        return redisTemplate.scan(options)
+                .map(key -> key.substring(keyPrefix.length()));
+    }
+
+    @Override
+    public Flux<String> revocations() {
+        return redisTemplate.listenToChannel(channel)
+                .map(ReactiveSubscription.Message::getMessage);
+    }
+}
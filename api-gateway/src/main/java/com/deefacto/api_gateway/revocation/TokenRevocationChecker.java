@@ -0,0 +1,242 @@
+package com.deefacto.api_gateway.revocation;
+
+import com.deefacto.api_gateway.config.RevocationProperties;
+import com.deefacto.api_gateway.util.BloomFilter;
+import com.deefacto.api_gateway.util.TokenDigest;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 토큰 폐기 여부 확인기
+ *
+ * 확인 순서:
+ * 1. 로컬 블룸 필터 - "확실히 폐기되지 않음"이면 즉시 통과 (대부분의 요청, 네트워크 호출 없음)
+ * 2. near-cache - 이전 원격 조회 결과 또는 pub/sub로 전달받은 폐기 정보
+ * 3. 원격 저장소 - 블룸 필터가 "있을 수도 있음"으로 판단한 경우에만 논블로킹 조회
+ *
+ * 블룸 필터는 시작 시 저장소의 전체 폐기 목록으로 채우고,
+ * 이후 pub/sub 이벤트로 갱신하며, 만료된 항목 정리를 위해 주기적으로 재생성함
+ * 첫 재생성이 끝나기 전에는 블룸 필터가 비어 있으므로 near-cache에 없는 토큰은 모두 원격 조회
+ * -> 첫 생성이 실패하면 재생성 주기를 기다리지 않고 점점 늘어나는 간격(상한 있음)으로 성공할 때까지 재시도
+ *
+ * pub/sub 구독이 끊겼다가 다시 연결되면 끊긴 동안의 이벤트는 받지 못하므로 바로 재생성하여 보충
+ * 재생성(시작, 주기, 재연결)은 한 번에 하나씩만 실행 (실행 중 요청이 여러 번 오면 한 번으로 합침)
+ *
+ * 폐기 이벤트 반영과 필터 교체는 같은 잠금 안에서 처리
+ * (교체 직전에 들어온 이벤트가 새 필터에서 빠지면 다음 재생성까지 폐기된 토큰이 통과함)
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+@Slf4j
+public class TokenRevocationChecker {
+
+    private final TokenRevocationStore store;
+    private final RevocationProperties properties;
+
+    /**
+     * 원격 조회 결과 캐시 (true: 폐기됨, false: 블룸 필터 오탐)
+     */
+    private final Cache<TokenDigest, Boolean> nearCache;
+
+    /**
+     * 현재 사용 중인 블룸 필터 (재생성 시 통째로 교체)
+     */
+    private volatile BloomFilter bloomFilter;
+
+    /**
+     * 재생성 중인 블룸 필터 (재생성 도중 들어온 이벤트도 반영하기 위함)
+     */
+    private BloomFilter rebuilding;
+
+    /**
+     * 폐기 이벤트 반영 / 필터 교체 잠금 (bloomFilter 교체, rebuilding 접근)
+     */
+    private final Object filterLock = new Object();
+
+    /**
+     * 저장소의 폐기 목록으로 블룸 필터를 한 번이라도 채웠는지 여부
+     * (false인 동안 블룸 필터 음성은 "폐기되지 않음"을 보장하지 않음)
+     */
+    private volatile boolean ready;
+
+    /**
+     * 원격 저장소 조회 횟수 (블룸 필터 양성 판정 횟수)
+     */
+    private final AtomicLong remoteLookups = new AtomicLong();
+
+    /**
+     * 주기 외 재생성 요청 (pub/sub 재연결 시)
+     */
+    private final Sinks.Many<Boolean> rebuildRequests = Sinks.many().multicast().onBackpressureBuffer();
+
+    /**
+     * 폐기 이벤트 구독 횟수 (두 번째부터는 재연결)
+     */
+    private final AtomicInteger eventSubscriptions = new AtomicInteger();
+
+    private Disposable subscriptions = Disposables.disposed();
+
+    public TokenRevocationChecker(TokenRevocationStore store, RevocationProperties properties) {
+        this.store = store;
+        this.properties = properties;
+        this.nearCache = Caffeine.newBuilder()
+                .maximumSize(properties.getNearCacheSize())
+                .expireAfterWrite(properties.getNearCacheTtl())
+                .build();
+        this.bloomFilter = newBloomFilter();
+    }
+
+    /**
+     * 폐기 이벤트 구독과 블룸 필터 주기적 재생성을 시작
+     */
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        Disposable events = Flux.defer(store::revocations)
+                .doOnSubscribe(subscription -> {
+                    if (eventSubscriptions.getAndIncrement() > 0) {
+                        log.info("토큰 폐기 이벤트 재구독 - 끊긴 동안의 폐기를 반영하기 위해 블룸 필터를 재생성합니다");
+                        requestRebuild();
+                    }
+                })
+                .doOnNext(this::onRevoked)
+                .doOnError(e -> log.warn("토큰 폐기 이벤트 구독 오류 - 재연결합니다: {}", e.getMessage()))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofSeconds(30)))
+                .subscribe();
+
+        // 첫 생성: 성공할 때까지 재시도 -> 이후 주기/재연결 재생성 (실패하면 기존 필터 유지)
+        Duration interval = properties.getRebuildInterval();
+        Disposable rebuild = Mono.defer(this::rebuild)
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, properties.getRebuildRetryMinBackoff())
+                        .maxBackoff(properties.getRebuildRetryMaxBackoff()))
+                .thenMany(Flux.merge(Flux.interval(interval, interval).map(tick -> Boolean.TRUE),
+                                rebuildRequests.asFlux())
+                        .onBackpressureLatest()
+                        .concatMap(request -> rebuild().onErrorResume(e -> Mono.empty()), 1))
+                .subscribe();
+
+        this.subscriptions = Disposables.composite(events, rebuild);
+    }
+
+    @PreDestroy
+    public void stop() {
+        subscriptions.dispose();
+    }
+
+    /**
+     * 로컬 정보(블룸 필터, near-cache)만으로 폐기 여부를 판단
+     *
+     * @param digest 토큰 다이제스트
+     * @return FALSE: 폐기되지 않음, TRUE: 폐기됨, null: 원격 조회 필요
+     */
+    public Boolean checkLocally(TokenDigest digest) {
+        if (ready && !bloomFilter.mightContain(digest.high(), digest.low())) {
+            return Boolean.FALSE;
+        }
+        return nearCache.getIfPresent(digest);
+    }
+
+    /**
+     * 원격 저장소에서 폐기 여부를 조회하고 결과를 near-cache에 보관
+     *
+     * @param digest 토큰 다이제스트
+     * @param token JWT 토큰 원문
+     * @return true: 폐기됨, false: 유효
+     */
+    public Mono<Boolean> checkRemotely(TokenDigest digest, String token) {
+        remoteLookups.incrementAndGet();
+        return store.isRevoked(token)
+                .defaultIfEmpty(Boolean.FALSE)
+                .doOnNext(revoked -> nearCache.put(digest, revoked))
+                .onErrorResume(e -> {
+                    log.warn("토큰 폐기 여부 원격 조회 실패 (fail-open={}): {}", properties.isFailOpen(), e.getMessage());
+                    return Mono.just(!properties.isFailOpen());
+                });
+    }
+
+    /**
+     * 원격 저장소 조회 횟수
+     */
+    public long remoteLookupCount() {
+        return remoteLookups.get();
+    }
+
+    /**
+     * 주기와 관계없이 블룸 필터 재생성을 요청 (실행 중이면 끝난 뒤 한 번 더 실행)
+     */
+    void requestRebuild() {
+        rebuildRequests.tryEmitNext(Boolean.TRUE);
+    }
+
+    /**
+     * 폐기 이벤트 반영 (블룸 필터 + near-cache)
+     */
+    private void onRevoked(String token) {
+        TokenDigest digest = TokenDigest.of(token);
+        nearCache.put(digest, Boolean.TRUE);
+        synchronized (filterLock) {
+            bloomFilter.put(digest.high(), digest.low());
+            if (rebuilding != null) {
+                rebuilding.put(digest.high(), digest.low());
+            }
+        }
+    }
+
+    /**
+     * 저장소의 현재 폐기 목록으로 블룸 필터를 새로 만들어 교체
+     * (만료되어 블랙리스트에서 사라진 토큰을 정리하기 위함)
+     *
+     * 실패하면 기존 필터를 유지하고 오류를 전달 (재시도 여부는 호출하는 쪽에서 결정)
+     */
+    private Mono<Void> rebuild() {
+        BloomFilter next = newBloomFilter();
+        synchronized (filterLock) {
+            this.rebuilding = next;
+        }
+        AtomicLong count = new AtomicLong();
+        return store.revokedTokens()
+                .doOnNext(token -> {
+                    TokenDigest digest = TokenDigest.of(token);
+                    next.put(digest.high(), digest.low());
+                    count.incrementAndGet();
+                })
+                .then(Mono.fromRunnable(() -> {
+                    synchronized (filterLock) {
+                        this.bloomFilter = next;
+                        this.rebuilding = null;
+                    }
+                    this.ready = true;
+                    log.info("토큰 폐기 블룸 필터 재생성 완료: {}건", count.get());
+                }))
+                .doOnError(e -> {
+                    synchronized (filterLock) {
+                        if (this.rebuilding == next) {
+                            this.rebuilding = null;
+                        }
+                    }
+                    log.warn("토큰 폐기 블룸 필터 재생성 실패 - 기존 필터 유지 (ready={}): {}", ready, e.getMessage());
+                })
+                .then();
+    }
+
+    private BloomFilter newBloomFilter() {
+        return BloomFilter.create(properties.getExpectedRevocations(), properties.getFalsePositiveRate());
+    }
+}
@@ -0,0 +1,36 @@
+package com.deefacto.api_gateway.revocation;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 폐기(로그아웃)된 토큰 저장소
+ *
+ * 운영 환경은 Redis 블랙리스트(RedisTokenRevocationStore),
+ * 테스트/로컬 환경은 메모리 구현(InMemoryTokenRevocationStore)을 사용
+ *
+ * 모든 메서드는 논블로킹(Reactor) 방식이어야 함
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+public interface TokenRevocationStore {
+
+    /**
+     * 토큰이 폐기되었는지 조회
+     *
+     * @param token JWT 토큰 원문
+     * @return true: 폐기됨, false: 유효
+     */
+    Mono<Boolean> isRevoked(String token);
+
+    /**
+     * 현재 폐기 상태인 모든 토큰 (블룸 필터 초기화/재생성용)
+     */
+    Flux<String> revokedTokens();
+
+    /**
+     * 새로 폐기되는 토큰 이벤트 스트림 (모든 게이트웨이 인스턴스에 전파)
+     */
+    Flux<String> revocations();
+}
@@ -0,0 +1,117 @@
+package com.deefacto.api_gateway.shedding;
+
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.EventExecutorGroup;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Netty 이벤트 루프 지연 측정기
+ *
+ * 주기마다 각 이벤트 루프에 빈 작업을 넣고, 실제로 실행되기까지 걸린 시간을 측정
+ * 이전 측정 작업이 아직 실행되지 않았으면(이벤트 루프가 막혀 있음) 그 대기 시간을 지연으로 사용
+ * 현재 지연 값은 모든 이벤트 루프 중 최대값
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+@Slf4j
+public class EventLoopLagMonitor {
+
+    private final EventExecutorGroup eventLoops;
+    private final Duration interval;
+    private final List<Probe> probes = new ArrayList<>();
+
+    private ScheduledExecutorService scheduler;
+    private volatile long lagNanos;
+
+    public EventLoopLagMonitor(EventExecutorGroup eventLoops, Duration interval) {
+        this.eventLoops = eventLoops;
+        this.interval = interval;
+    }
+
+    public void start() {
+        if (eventLoops == null) {
+            log.info("EventLoopLagMonitor - 이벤트 루프를 찾을 수 없어 지연 측정을 하지 않음");
+            return;
+        }
+        for (EventExecutor executor : eventLoops) {
+            probes.add(new Probe(executor));
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "event-loop-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = Math.max(1, interval.toMillis());
+        scheduler.scheduleAtFixedRate(this::tick, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * 현재 이벤트 루프 지연 (나노초, 가장 느린 이벤트 루프 기준)
+     */
+    public long lagNanos() {
+        return lagNanos;
+    }
+
+    private void tick() {
+        long now = System.nanoTime();
+        long max = 0;
+        for (Probe probe : probes) {
+            max = Math.max(max, probe.tick(now));
+        }
+        lagNanos = max;
+    }
+
+    /**
+     * 이벤트 루프 하나의 측정 상태
+     */
+    private static final class Probe {
+
+        private final EventExecutor executor;
+        private final AtomicLong pendingSince = new AtomicLong();
+        private volatile long lastLagNanos;
+
+        private Probe(EventExecutor executor) {
+            this.executor = executor;
+        }
+
+        /**
+         * 측정 작업을 넣고 최근 지연 값을 반환
+         */
+        private long tick(long now) {
+            long pending = pendingSince.get();
+            if (pending != 0) {
+                // 이전 측정 작업이 아직 실행되지 않음 -> 그만큼 막혀 있음
+                return Math.max(lastLagNanos, now - pending);
+            }
+            if (executor.isShuttingDown()) {
+                return 0;
+            }
+            pendingSince.set(now);
+            try {
+                executor.execute(() -> {
+                    lastLagNanos = System.nanoTime() - now;
+                    pendingSince.set(0);
+                });
+            } catch (RejectedExecutionException e) {
+                pendingSince.set(0);
+            }
+            return lastLagNanos;
+        }
+    }
+}
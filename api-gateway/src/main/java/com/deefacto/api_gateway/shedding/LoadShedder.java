@@ -0,0 +1,128 @@
+package com.deefacto.api_gateway.shedding;
+
+import com.deefacto.api_gateway.config.LoadSheddingProperties;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 과부하 판단기
+ *
+ * 이벤트 루프 지연, 처리 중 요청 수를 기준 값으로 나눠
+ * 가장 큰 값을 부하 지수로 사용하고, 요청 등급의 차단 시작 값과 비교하여 받을지 결정
+ *
+ * 요청 대기 시간은 사용하지 않음: 게이트웨이 필터에서 잴 수 있는 시간은 요청 처리가 시작된 뒤부터라
+ * 연결 수락/요청 수신 후 이벤트 루프에서 기다린 시간이 들어가지 않음 (그 지연은 이벤트 루프 지연으로 반영됨)
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+public class LoadShedder {
+
+    private final LoadSheddingProperties properties;
+    private final EventLoopLagMonitor lagMonitor;
+    private final List<CompiledRule> pathRules = new ArrayList<>();
+    private final AtomicInteger inflight = new AtomicInteger();
+
+    private volatile Double simulatedPressure;
+
+    public LoadShedder(LoadSheddingProperties properties, EventLoopLagMonitor lagMonitor) {
+        this.properties = properties;
+        this.lagMonitor = lagMonitor;
+        this.simulatedPressure = properties.getSimulatedPressure();
+        for (LoadSheddingProperties.PathRule rule : properties.getPaths()) {
+            pathRules.add(new CompiledRule(PathPatternParser.defaultInstance.parse(rule.getPattern()), rule.getPriority()));
+        }
+    }
+
+    /**
+     * 요청 등급 조회 (경로 패턴 -> 라우트 -> 기본 등급 순)
+     *
+     * @param routeId 라우트 ID (없으면 null)
+     * @param path 요청 경로
+     */
+    public Priority priorityOf(String routeId, PathContainer path) {
+        for (CompiledRule rule : pathRules) {
+            if (rule.pattern().matches(path)) {
+                return rule.priority();
+            }
+        }
+        Priority priority = routeId != null ? properties.getRoutes().get(routeId) : null;
+        return priority != null ? priority : properties.getDefaultPriority();
+    }
+
+    /**
+     * 요청을 받을지 판단
+     *
+     * @param priority 요청 등급
+     * @return true: 처리, false: 차단
+     */
+    public boolean admit(Priority priority) {
+        Double shedAt = properties.shedThreshold(priority);
+        return shedAt == null || pressure() < shedAt;
+    }
+
+    /**
+     * 처리 시작 (SSE처럼 오래 유지되는 연결은 제외하고 호출)
+     */
+    public void enter() {
+        inflight.incrementAndGet();
+    }
+
+    /**
+     * 처리 종료
+     */
+    public void exit() {
+        inflight.decrementAndGet();
+    }
+
+    /**
+     * 현재 부하 지수 (1.0 = 기준 값 도달, 테스트 값이 있으면 그 값)
+     */
+    public double pressure() {
+        Double simulated = simulatedPressure;
+        if (simulated != null) {
+            return simulated;
+        }
+        LoadSheddingProperties.Thresholds thresholds = properties.getThresholds();
+        double lag = (double) lagMonitor.lagNanos() / thresholds.getEventLoopLag().toNanos();
+        double load = (double) inflight.get() / thresholds.getInflight();
+        return Math.max(lag, load);
+    }
+
+    public long eventLoopLagNanos() {
+        return lagMonitor.lagNanos();
+    }
+
+    public int inflight() {
+        return inflight.get();
+    }
+
+    public Double getSimulatedPressure() {
+        return simulatedPressure;
+    }
+
+    /**
+     * 테스트용 고정 부하 지수 설정
+     *
+     * @param pressure 부하 지수, null이면 실제 측정값 사용
+     */
+    public void simulate(Double pressure) {
+        this.simulatedPressure = pressure;
+    }
+
+    /**
+     * 등급이 현재 차단 중인지 확인
+     */
+    public boolean isShedding(Priority priority) {
+        Double shedAt = properties.shedThreshold(priority);
+        return shedAt != null && pressure() >= shedAt;
+    }
+
+    private record CompiledRule(PathPattern pattern, Priority priority) {
+    }
+}
@@ -0,0 +1,49 @@
+package com.deefacto.api_gateway.shedding;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 과부하 차단 상태 Actuator 엔드포인트
+ *
+ * GET /actuator/loadshedding: 부하 지수, 측정값, 등급별 차단 여부
+ * POST /actuator/loadshedding {"pressure": 1.2}: 테스트용 고정 부하 지수 설정 (본문 {}이면 해제)
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+@Component
+@Endpoint(id = "loadshedding")
+@RequiredArgsConstructor
+public class LoadSheddingEndpoint {
+
+    private final LoadShedder loadShedder;
+
+    @ReadOperation
+    public Map<String, Object> loadShedding() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("pressure", loadShedder.pressure());
+        result.put("simulatedPressure", loadShedder.getSimulatedPressure());
+        result.put("eventLoopLagMs", loadShedder.eventLoopLagNanos() / 1_000_000.0);
+        result.put("inflight", loadShedder.inflight());
+        Map<String, Boolean> shedding = new LinkedHashMap<>();
+        for (Priority priority : Priority.values()) {
+            shedding.put(priority.tag(), loadShedder.isShedding(priority));
+        }
+        result.put("shedding", shedding);
+        return result;
+    }
+
+    @WriteOperation
+    public Map<String, Object> simulate(@Nullable Double pressure) {
+        loadShedder.simulate(pressure);
+        return loadShedding();
+    }
+}
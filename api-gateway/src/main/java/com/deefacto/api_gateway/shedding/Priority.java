@@ -0,0 +1,39 @@
+package com.deefacto.api_gateway.shedding;
+
+import java.util.Locale;
+
+/**
+ * 요청 우선순위 등급 (과부하 시 낮은 등급부터 차단)
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+public enum Priority {
+
+    /**
+     * 알림/센서 알람 등 과부하에서도 차단하지 않는 요청
+     */
+    CRITICAL,
+
+    /**
+     * 대시보드/인증 등 사용자 화면에 바로 보이는 요청
+     */
+    HIGH,
+
+    /**
+     * 기본 등급
+     */
+    NORMAL,
+
+    /**
+     * 챗봇, 리포트 내보내기처럼 늦어지거나 다시 시도해도 되는 요청
+     */
+    LOW;
+
+    /**
+     * 메트릭 태그 값
+     */
+    public String tag() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,122 @@
+package com.deefacto.api_gateway.streaming;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * 여러 클라이언트가 함께 구독하는 하위 서비스 스트림 하나
+ *
+ * 하위 서비스 구독은 하나만 유지하고, 받은 프레임을 multicast sink로 모든 구독자에게 전달
+ * sink는 directBestEffort 방식이라 요청(demand)이 없는 구독자에게는 해당 프레임을 건너뛰며,
+ * 느린 클라이언트가 다른 클라이언트나 하위 서비스 구독을 멈추게 하지 않음
+ *
+ * 하위 서비스가 2xx 응답 헤더를 보내면 ready가 완료되고, 그 전에 실패하면 ready로 오류가 전달됨
+ * (구독자는 ready를 기다린 뒤 클라이언트 응답을 시작)
+ *
+ * 구독자 수(refs)와 지연 종료 작업은 StreamHub의 락 안에서만 변경됨
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+final class SharedStream {
+
+    private final String key;
+    private final Sinks.Many<byte[]> sink = Sinks.many().multicast().directBestEffort();
+    private final Sinks.Empty<Void> ready = Sinks.empty();
+
+    private Disposable upstream;
+    private Disposable pendingClose;
+    private int refs;
+
+    SharedStream(String key) {
+        this.key = key;
+    }
+
+    String key() {
+        return key;
+    }
+
+    /**
+     * 하위 서비스 스트림 구독 시작
+     *
+     * @param source 인코딩된 SSE 프레임 스트림
+     * @param onTerminate 하위 서비스 스트림이 끝났을 때 (완료/오류) 실행할 작업
+     */
+    void connect(Flux<byte[]> source, Runnable onTerminate) {
+        this.upstream = source.subscribe(
+                sink::tryEmitNext,
+                error -> {
+                    onTerminate.run();
+                    ready.tryEmitError(error);
+                    sink.tryEmitError(error);
+                },
+                () -> {
+                    onTerminate.run();
+                    ready.tryEmitEmpty();
+                    sink.tryEmitComplete();
+                });
+    }
+
+    /**
+     * 하위 서비스가 2xx 응답 헤더를 보냄 (이후 프레임 전달 시작)
+     */
+    void markReady() {
+        ready.tryEmitEmpty();
+    }
+
+    /**
+     * 하위 서비스 응답 대기 (2xx 응답 헤더를 받으면 완료, 연결 실패나 2xx 외 응답이면 오류)
+     * 이미 응답을 받은 스트림은 바로 완료
+     */
+    Mono<Void> ready() {
+        return ready.asMono();
+    }
+
+    /**
+     * 구독자용 스트림 (구독 이후의 프레임만 전달)
+     */
+    Flux<byte[]> frames() {
+        return sink.asFlux();
+    }
+
+    /**
+     * 구독자 추가 (예약된 종료 작업이 있으면 취소)
+     */
+    void retain() {
+        refs++;
+        if (pendingClose != null) {
+            pendingClose.dispose();
+            pendingClose = null;
+        }
+    }
+
+    /**
+     * 구독자 제거
+     *
+     * @return 남은 구독자 수
+     */
+    int release() {
+        return --refs;
+    }
+
+    int refs() {
+        return refs;
+    }
+
+    void scheduleClose(Disposable task) {
+        this.pendingClose = task;
+    }
+
+    /**
+     * 하위 서비스 구독 종료 및 남은 구독자에게 완료 전달
+     */
+    void close() {
+        if (upstream != null) {
+            upstream.dispose();
+        }
+        ready.tryEmitEmpty();
+        sink.tryEmitComplete();
+    }
+}
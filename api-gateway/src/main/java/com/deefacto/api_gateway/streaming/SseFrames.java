@@ -0,0 +1,53 @@
+package com.deefacto.api_gateway.streaming;
+
+import org.springframework.http.codec.ServerSentEvent;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * SSE(Server-Sent Events) 프레임 인코딩 유틸리티
+ *
+ * 하위 서비스에서 받은 이벤트를 공유 스트림에서 한 번만 바이트로 인코딩하고,
+ * 구독 중인 모든 클라이언트는 같은 바이트 배열을 그대로 전송함 (클라이언트별 재인코딩 없음)
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+public final class SseFrames {
+
+    /**
+     * 연결 유지용 주석 프레임 (클라이언트/프록시의 유휴 연결 종료 방지)
+     */
+    public static final byte[] HEARTBEAT = ":\n\n".getBytes(StandardCharsets.UTF_8);
+
+    private SseFrames() {
+    }
+
+    /**
+     * 이벤트 하나를 "필드:값" 줄과 빈 줄로 이루어진 SSE 프레임으로 인코딩
+     */
+    public static byte[] encode(ServerSentEvent<String> event) {
+        StringBuilder frame = new StringBuilder(128);
+        if (event.id() != null) {
+            frame.append("id:").append(event.id()).append('\n');
+        }
+        if (event.event() != null) {
+            frame.append("event:").append(event.event()).append('\n');
+        }
+        if (event.retry() != null) {
+            frame.append("retry:").append(event.retry().toMillis()).append('\n');
+        }
+        if (event.comment() != null) {
+            for (String line : event.comment().split("\n", -1)) {
+                frame.append(':').append(line).append('\n');
+            }
+        }
+        if (event.data() != null) {
+            for (String line : event.data().split("\n", -1)) {
+                frame.append("data:").append(line).append('\n');
+            }
+        }
+        frame.append('\n');
+        return frame.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
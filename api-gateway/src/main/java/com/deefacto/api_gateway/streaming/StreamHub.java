@@ -0,0 +1,149 @@
+package com.deefacto.api_gateway.streaming;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 스트리밍 fan-out 허브
+ *
+ * 스트림 키(하위 서비스 URL + 공유 범위)마다 SharedStream 하나만 유지하여,
+ * 같은 스트림을 보는 클라이언트가 아무리 많아도 하위 서비스 연결은 스트림당 하나만 사용
+ * 공유 범위는 StreamFanOutFilter가 정함 (사용자별 또는 공유 라우트는 전체)
+ * 하위 서비스 요청 헤더는 스트림을 처음 연 구독자의 헤더를 사용 (같은 키의 구독자는 같은 사용자 헤더를 가짐)
+ *
+ * - 첫 구독자가 들어오면 하위 서비스 구독 시작
+ * - 마지막 구독자가 나가면 idleGrace 동안 기다렸다가 종료 (새로고침 등 짧은 재연결 대비)
+ * - 하위 서비스 스트림이 끝나면 구독자에게 완료/오류를 전달하고, 다음 구독자는 새로 연결
+ * - 하위 서비스가 2xx 외 응답을 보내면 WebClientResponseException(상태 코드, 헤더, 본문 포함)으로 전달
+ *
+ * 구독/해제는 이벤트 전달에 비해 드물기 때문에 스트림 목록은 하나의 락으로 관리하며,
+ * 이벤트 전달 경로에는 락이 없음
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+@Slf4j
+public class StreamHub {
+
+    private static final ParameterizedTypeReference<ServerSentEvent<String>> SSE_TYPE =
+            new ParameterizedTypeReference<>() {
+            };
+
+    /**
+     * 하위 서비스가 2xx 응답 헤더를 보냈음을 알리는 첫 항목 (프레임이 아님, 참조로 비교)
+     */
+    public static final byte[] CONNECTED = new byte[0];
+
+    private final Duration idleGrace;
+
+    /**
+     * 스트림 키 -> 공유 스트림 (this 락으로 보호)
+     */
+    private final Map<String, SharedStream> streams = new HashMap<>();
+
+    private final AtomicInteger subscribers = new AtomicInteger();
+
+    public StreamHub(Duration idleGrace, MeterRegistry registry) {
+        this.idleGrace = idleGrace;
+        Gauge.builder("gateway.stream.upstreams", this, StreamHub::activeStreams)
+                .description("유지 중인 하위 서비스 스트림 수")
+                .register(registry);
+        Gauge.builder("gateway.stream.subscribers", subscribers, AtomicInteger::get)
+                .description("스트림을 구독 중인 클라이언트 수")
+                .register(registry);
+    }
+
+    /**
+     * 하위 서비스 스트림 구독 (같은 키의 기존 스트림이 있으면 함께 사용)
+     *
+     * 첫 항목은 항상 CONNECTED (하위 서비스가 2xx 응답 헤더를 보낸 뒤, 이미 연결된 스트림이면 바로)이며,
+     * 그 전에 실패하면 CONNECTED 없이 오류로 끝남 -> 호출자는 첫 항목을 받은 뒤 클라이언트 응답을 시작
+     *
+     * @param key 스트림 키 (같은 키의 구독자끼리 하위 서비스 연결을 공유)
+     * @param webClient 하위 서비스 호출에 사용할 WebClient (새 스트림을 열 때만 사용)
+     * @param upstream 하위 서비스 URL
+     * @param headers 하위 서비스로 보낼 요청 헤더 (새 스트림을 열 때만 사용)
+     * @return CONNECTED 뒤에 인코딩된 SSE 프레임이 이어지는 스트림 (구독 취소 시 자동 해제)
+     */
+    public Flux<byte[]> subscribe(String key, WebClient webClient, URI upstream, HttpHeaders headers) {
+        return Flux.defer(() -> {
+            SharedStream stream = acquire(key, webClient, upstream, headers);
+            // frames를 함께 구독해 두어야 ready 직후의 프레임도 놓치지 않음
+            return Flux.merge(stream.ready().thenReturn(CONNECTED), stream.frames())
+                    .doFinally(signal -> release(stream));
+        });
+    }
+
+    public synchronized int activeStreams() {
+        return streams.size();
+    }
+
+    private synchronized SharedStream acquire(String key, WebClient webClient, URI upstream, HttpHeaders headers) {
+        SharedStream stream = streams.get(key);
+        if (stream == null) {
+            SharedStream created = new SharedStream(key);
+            streams.put(key, created);
+            created.connect(open(created, webClient, upstream, headers), () -> remove(created));
+            log.info("StreamHub - 하위 서비스 스트림 연결: {}", upstream);
+            stream = created;
+        }
+        stream.retain();
+        subscribers.incrementAndGet();
+        return stream;
+    }
+
+    private synchronized void release(SharedStream stream) {
+        subscribers.decrementAndGet();
+        if (stream.release() == 0) {
+            stream.scheduleClose(Mono.delay(idleGrace).subscribe(tick -> closeIfIdle(stream)));
+        }
+    }
+
+    private synchronized void closeIfIdle(SharedStream stream) {
+        if (stream.refs() == 0 && streams.remove(stream.key(), stream)) {
+            log.info("StreamHub - 구독자가 없어 하위 서비스 스트림 종료: {}", stream.key());
+            stream.close();
+        }
+    }
+
+    private synchronized void remove(SharedStream stream) {
+        if (streams.remove(stream.key(), stream)) {
+            log.info("StreamHub - 하위 서비스 스트림 종료됨: {}", stream.key());
+        }
+    }
+
+    /**
+     * 하위 서비스 SSE 스트림을 열고 이벤트를 프레임으로 한 번만 인코딩
+     * 2xx 응답이면 스트림을 ready로 표시하고, 그 외에는 응답 본문을 담은 WebClientResponseException으로 끝냄
+     */
+    private static Flux<byte[]> open(SharedStream stream, WebClient webClient, URI upstream, HttpHeaders headers) {
+        return webClient.get()
+                .uri(upstream)
+                .headers(target -> target.addAll(headers))
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .exchangeToFlux(response -> frames(stream, response));
+    }
+
+    private static Flux<byte[]> frames(SharedStream stream, ClientResponse response) {
+        if (!response.statusCode().is2xxSuccessful()) {
+            return response.createException().flatMapMany(Flux::error);
+        }
+        stream.markReady();
+        return response.bodyToFlux(SSE_TYPE).map(SseFrames::encode);
+    }
+}
@@ -0,0 +1,140 @@
+package com.deefacto.api_gateway.trace;
+
+import org.springframework.web.server.ServerWebExchange;
+import reactor.util.context.ContextView;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 요청 하나의 trace 정보와 단계별 시각
+ *
+ * TracingFilter가 요청마다 생성하여 exchange 속성과 Reactor Context에 함께 보관
+ * (하위 서비스 호출 콜백은 HttpClient 이벤트 루프에서 실행되므로 Context로 찾고, 필드는 volatile)
+ *
+ * 단계:
+ * - auth: JWT 검증 시간
+ * - acquire: 하위 서비스 연결 획득 (풀 대기 + 새 연결이면 연결 시간)
+ * - send: 요청 헤더/본문 전송
+ * - ttfb: 요청 전송 완료부터 응답 헤더 수신까지 (하위 서비스 처리 시간)
+ * - response: 응답 헤더 수신부터 클라이언트로 전송 완료까지 (응답 스트리밍)
+ * - gateway: 나머지 (게이트웨이 필터 처리 시간)
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+public final class RequestTrace {
+
+    /**
+     * exchange 속성 / Reactor Context 키
+     */
+    public static final String ATTR = RequestTrace.class.getName();
+
+    private final TraceContext context;
+    private final long startNanos;
+
+    private volatile long authNanos;
+    private volatile long upstreamStartNanos;
+    private volatile long requestStartNanos;
+    private volatile long requestSentNanos;
+    private volatile long responseStartNanos;
+    private volatile boolean newConnection;
+
+    public RequestTrace(TraceContext context, long startNanos) {
+        this.context = context;
+        this.startNanos = startNanos;
+    }
+
+    /**
+     * exchange에 보관된 trace 조회
+     *
+     * @return trace, TracingFilter를 거치지 않은 요청이면 null
+     */
+    public static RequestTrace from(ServerWebExchange exchange) {
+        return exchange.getAttribute(ATTR);
+    }
+
+    /**
+     * Reactor Context에 보관된 trace 조회 (하위 서비스 호출 콜백용)
+     */
+    public static RequestTrace from(ContextView context) {
+        return context.getOrDefault(ATTR, null);
+    }
+
+    public TraceContext getContext() {
+        return context;
+    }
+
+    public long getStartNanos() {
+        return startNanos;
+    }
+
+    public void addAuthNanos(long nanos) {
+        authNanos += nanos;
+    }
+
+    /**
+     * 하위 서비스 호출 시작 (NettyRoutingFilter 직전)
+     */
+    public void upstreamStarted() {
+        upstreamStartNanos = System.nanoTime();
+    }
+
+    /**
+     * 연결을 얻고 요청 전송 시작
+     *
+     * @param newConnection 새로 연결했는지 여부 (false: 풀에서 재사용)
+     */
+    public void requestStarted(boolean newConnection) {
+        this.newConnection = newConnection;
+        requestStartNanos = System.nanoTime();
+    }
+
+    public void requestSent() {
+        requestSentNanos = System.nanoTime();
+    }
+
+    public void responseStarted() {
+        responseStartNanos = System.nanoTime();
+    }
+
+    /**
+     * 하위 서비스 호출을 시작했는지 여부
+     */
+    public boolean reachedUpstream() {
+        return upstreamStartNanos != 0;
+    }
+
+    public boolean isNewConnection() {
+        return newConnection;
+    }
+
+    /**
+     * 단계별 처리 시간 (마이크로초, 측정되지 않은 단계는 제외)
+     *
+     * @param endNanos 요청 종료 시각
+     */
+    public Map<String, Long> phasesMicros(long endNanos) {
+        Map<String, Long> phases = new LinkedHashMap<>();
+        long measured = 0;
+        measured += put(phases, "auth", authNanos);
+        measured += put(phases, "acquire", span(upstreamStartNanos, requestStartNanos));
+        measured += put(phases, "send", span(requestStartNanos, requestSentNanos));
+        measured += put(phases, "ttfb", span(requestSentNanos, responseStartNanos));
+        measured += put(phases, "response", span(responseStartNanos, endNanos));
+        put(phases, "gateway", Math.max(0, endNanos - startNanos - measured));
+        return phases;
+    }
+
+    private static long span(long from, long to) {
+        return from != 0 && to != 0 && to >= from ? to - from : -1;
+    }
+
+    private static long put(Map<String, Long> phases, String name, long nanos) {
+        if (nanos < 0 || (nanos == 0 && !"gateway".equals(name))) {
+            return 0;
+        }
+        phases.put(name, nanos / 1_000);
+        return nanos;
+    }
+}
@@ -0,0 +1,25 @@
+package com.deefacto.api_gateway.trace;
+
+import java.util.Map;
+
+/**
+ * 느리거나 실패한 요청 하나의 기록 (/actuator/slowrequests 응답 항목)
+ *
+ * @param timestamp 요청 수신 시각 (epoch ms)
+ * @param traceId trace ID (하위 서비스 로그와 연결할 때 사용)
+ * @param sampled 샘플링 여부
+ * @param route 라우트 ID
+ * @param method HTTP 메서드
+ * @param path 요청 경로 (쿼리 제외, 길이 제한)
+ * @param status 응답 상태 코드 (없으면 0)
+ * @param outcome complete / error / cancel
+ * @param totalMicros 전체 처리 시간 (마이크로초)
+ * @param newConnection 하위 서비스에 새로 연결했는지 여부
+ * @param phasesMicros 단계별 처리 시간 (마이크로초)
+ * @author API Gateway Team
+ * @version 1.0
+ */
+public record SlowRequest(long timestamp, String traceId, boolean sampled, String route, String method,
+                          String path, int status, String outcome, long totalMicros, boolean newConnection,
+                          Map<String, Long> phasesMicros) {
+}
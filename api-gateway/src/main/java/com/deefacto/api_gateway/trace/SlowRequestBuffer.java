@@ -0,0 +1,60 @@
+package com.deefacto.api_gateway.trace;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 느리거나 실패한 요청을 보관하는 고정 크기 링 버퍼
+ *
+ * 크기를 넘으면 가장 오래된 기록을 덮어쓰므로 메모리 사용량이 일정함
+ * 기록은 락 없이 슬롯 번호만 원자적으로 증가시켜 저장 (조회 중 덮어쓴 슬롯은 최신 값으로 보일 수 있음)
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+public class SlowRequestBuffer {
+
+    private final AtomicReferenceArray<SlowRequest> slots;
+    private final AtomicLong next = new AtomicLong();
+
+    public SlowRequestBuffer(int capacity) {
+        this.slots = new AtomicReferenceArray<>(Math.max(1, capacity));
+    }
+
+    public void add(SlowRequest request) {
+        long index = next.getAndIncrement();
+        slots.set((int) (index % slots.length()), request);
+    }
+
+    /**
+     * 최근 기록부터 조회
+     *
+     * @param route 라우트 ID (null이면 전체)
+     * @param limit 최대 개수
+     */
+    public List<SlowRequest> recent(String route, int limit) {
+        List<SlowRequest> result = new ArrayList<>(Math.min(limit, slots.length()));
+        long last = next.get() - 1;
+        long first = Math.max(0, last - slots.length() + 1);
+        for (long index = last; index >= first && result.size() < limit; index--) {
+            SlowRequest request = slots.get((int) (index % slots.length()));
+            if (request != null && (route == null || route.equals(request.route()))) {
+                result.add(request);
+            }
+        }
+        return result;
+    }
+
+    public int capacity() {
+        return slots.length();
+    }
+
+    /**
+     * 지금까지 기록된 전체 수 (덮어쓴 기록 포함)
+     */
+    public long recorded() {
+        return next.get();
+    }
+}
@@ -0,0 +1,41 @@
+package com.deefacto.api_gateway.trace;
+
+import com.deefacto.api_gateway.config.TracingProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 느린/실패 요청 Actuator 엔드포인트
+ *
+ * GET /actuator/slowrequests?route=report-service&limit=20
+ * 최근 기록부터 반환 (단계별 처리 시간, trace ID 포함)
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+@Component
+@Endpoint(id = "slowrequests")
+@RequiredArgsConstructor
+public class SlowRequestsEndpoint {
+
+    private static final int DEFAULT_LIMIT = 50;
+
+    private final SlowRequestBuffer buffer;
+    private final TracingProperties properties;
+
+    @ReadOperation
+    public Map<String, Object> slowRequests(@Nullable String route, @Nullable Integer limit) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("capacity", buffer.capacity());
+        result.put("recorded", buffer.recorded());
+        result.put("slowThresholdMs", properties.getSlowThreshold().toMillis());
+        result.put("requests", buffer.recent(route, limit != null && limit > 0 ? limit : DEFAULT_LIMIT));
+        return result;
+    }
+}
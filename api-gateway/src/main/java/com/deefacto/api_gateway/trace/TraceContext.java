@@ -0,0 +1,91 @@
+package com.deefacto.api_gateway.trace;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * W3C Trace Context(traceparent) 값
+ *
+ * 형식: 00-{trace-id 32자리 hex}-{parent-id 16자리 hex}-{flags 2자리 hex}
+ * 예: 00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01 (01: sampled)
+ *
+ * @param traceId 요청 전체를 묶는 trace ID
+ * @param spanId 게이트웨이 구간(span) ID (하위 서비스에는 parent-id로 전달)
+ * @param parentSpanId 클라이언트가 보낸 parent-id (새 trace면 null)
+ * @param sampled 샘플링 여부 (하위 서비스도 같은 값으로 기록 여부 결정)
+ * @author API Gateway Team
+ * @version 1.0
+ */
+public record TraceContext(String traceId, String spanId, String parentSpanId, boolean sampled) {
+
+    /**
+     * traceparent 요청/응답 헤더 이름
+     */
+    public static final String TRACEPARENT = "traceparent";
+
+    private static final String VERSION = "00";
+    private static final String INVALID_TRACE_ID = "00000000000000000000000000000000";
+    private static final String INVALID_SPAN_ID = "0000000000000000";
+
+    /**
+     * 요청의 traceparent를 이어받거나, 없으면/잘못된 값이면 새 trace를 시작 (head sampling)
+     *
+     * @param traceparent 요청의 traceparent 헤더 값 (없으면 null)
+     * @param sampleRate 새 trace의 샘플링 비율 (0.0 ~ 1.0)
+     */
+    public static TraceContext continueOrStart(String traceparent, double sampleRate) {
+        String spanId = randomHex(1);
+        if (isValid(traceparent)) {
+            int flags = Integer.parseInt(traceparent.substring(53, 55), 16);
+            return new TraceContext(traceparent.substring(3, 35), spanId, traceparent.substring(36, 52),
+                    (flags & 0x01) != 0);
+        }
+        boolean sampled = sampleRate >= 1.0 || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+        return new TraceContext(randomHex(2), spanId, null, sampled);
+    }
+
+    /**
+     * 하위 서비스로 보낼 traceparent (parent-id = 게이트웨이 span ID)
+     */
+    public String traceparent() {
+        return VERSION + '-' + traceId + '-' + spanId + '-' + (sampled ? "01" : "00");
+    }
+
+    /**
+     * 형식 검사 (버전 00, 소문자 hex, 전부 0인 ID는 무효)
+     */
+    static boolean isValid(String traceparent) {
+        if (traceparent == null || traceparent.length() != 55
+                || !traceparent.startsWith(VERSION + "-")
+                || traceparent.charAt(35) != '-' || traceparent.charAt(52) != '-') {
+            return false;
+        }
+        for (int i = 3; i < 55; i++) {
+            if (i == 35 || i == 52) {
+                continue;
+            }
+            char c = traceparent.charAt(i);
+            if (!((c >= '0' && c <= '9') || (c >= 'a' && c <= 'f'))) {
+                return false;
+            }
+        }
+        return !traceparent.substring(3, 35).equals(INVALID_TRACE_ID)
+                && !traceparent.substring(36, 52).equals(INVALID_SPAN_ID);
+    }
+
+    /**
+     * 0이 아닌 임의의 64비트 값 words개를 hex 문자열로 생성
+     */
+    private static String randomHex(int words) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        StringBuilder hex = new StringBuilder(words * 16);
+        for (int i = 0; i < words; i++) {
+            long value;
+            do {
+                value = random.nextLong();
+            } while (value == 0);
+            String part = Long.toHexString(value);
+            hex.append("0".repeat(16 - part.length())).append(part);
+        }
+        return hex.toString();
+    }
+}
@@ -0,0 +1,50 @@
+package com.deefacto.api_gateway.trace;
+
+import io.netty.util.AttributeKey;
+import org.springframework.cloud.gateway.config.HttpClientCustomizer;
+import reactor.netty.ConnectionObserver;
+import reactor.netty.http.client.HttpClient;
+
+/**
+ * 하위 서비스 호출 단계별 시각 기록 (Gateway HttpClient 설정)
+ *
+ * HttpClient 콜백에서 Reactor Context의 RequestTrace를 찾아
+ * 연결 획득/요청 전송/응답 헤더 수신 시각을 기록
+ * 새 연결 여부는 CONNECTED 이벤트에서 채널 속성으로 표시하고 첫 요청에서 확인
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+public class UpstreamTimingCustomizer implements HttpClientCustomizer {
+
+    private static final AttributeKey<Boolean> NEW_CONNECTION =
+            AttributeKey.valueOf(UpstreamTimingCustomizer.class.getName() + ".newConnection");
+
+    @Override
+    public HttpClient customize(HttpClient httpClient) {
+        return httpClient
+                .observe((connection, state) -> {
+                    if (state == ConnectionObserver.State.CONNECTED) {
+                        connection.channel().attr(NEW_CONNECTION).set(Boolean.TRUE);
+                    }
+                })
+                .doOnRequest((request, connection) -> {
+                    RequestTrace trace = RequestTrace.from(request.currentContextView());
+                    if (trace != null) {
+                        trace.requestStarted(connection.channel().attr(NEW_CONNECTION).getAndSet(null) != null);
+                    }
+                })
+                .doAfterRequest((request, connection) -> {
+                    RequestTrace trace = RequestTrace.from(request.currentContextView());
+                    if (trace != null) {
+                        trace.requestSent();
+                    }
+                })
+                .doOnResponse((response, connection) -> {
+                    RequestTrace trace = RequestTrace.from(response.currentContextView());
+                    if (trace != null) {
+                        trace.responseStarted();
+                    }
+                });
+    }
+}
@@ -0,0 +1,81 @@
+package com.deefacto.api_gateway.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * lock-free 블룸 필터
+ *
+ * "확실히 없음" 또는 "있을 수도 있음"만 판단하는 확률적 집합
+ * 입력은 이미 균등 분포인 64비트 해시 2개(h1, h2)이며,
+ * k개의 비트 위치를 double hashing(h1 + i * h2)으로 계산
+ *
+ * 비트 설정은 CAS로 처리하므로 여러 스레드에서 동시에 put/조회 가능
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+public final class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    private BloomFilter(long bitCount, int hashCount) {
+        int wordCount = (int) Math.max(1, (bitCount + 63) >>> 6);
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = (long) wordCount << 6;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * 예상 항목 수와 목표 오탐률로 블룸 필터를 생성
+     *
+     * @param expectedInsertions 예상 항목 수
+     * @param falsePositiveRate 목표 오탐률 (0 < p < 1)
+     * @return 비어 있는 블룸 필터
+     */
+    public static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1, expectedInsertions);
+        double p = Math.min(Math.max(falsePositiveRate, Double.MIN_VALUE), 0.5);
+        long bits = (long) Math.ceil(-n * Math.log(p) / (Math.log(2) * Math.log(2)));
+        int hashes = (int) Math.max(1, Math.round((double) bits / n * Math.log(2)));
+        return new BloomFilter(bits, hashes);
+    }
+
+    /**
+     * 항목 추가
+     */
+    public void put(long h1, long h2) {
+        for (int i = 0; i < hashCount; i++) {
+            long bit = index(h1 + i * h2);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current;
+            do {
+                current = words.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!words.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    /**
+     * 항목이 있을 수도 있는지 확인
+     *
+     * @return false: 확실히 없음, true: 있을 수도 있음 (오탐 가능)
+     */
+    public boolean mightContain(long h1, long h2) {
+        for (int i = 0; i < hashCount; i++) {
+            long bit = index(h1 + i * h2);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long index(long hash) {
+        return (hash & Long.MAX_VALUE) % bitCount;
+    }
+}
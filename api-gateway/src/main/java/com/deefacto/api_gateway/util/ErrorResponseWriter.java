@@ -0,0 +1,48 @@
+package com.deefacto.api_gateway.util;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Gateway 필터 공통 JSON 에러 응답 작성 유틸리티
+ *
+ * 인증 실패, 토큰 폐기, 요청 제한 등 필터 단계에서 요청을 차단할 때
+ * 하위 서비스로 전달하지 않고 {"error": "..."} 형식으로 바로 응답
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+public final class ErrorResponseWriter {
+
+    private ErrorResponseWriter() {
+    }
+
+    /**
+     * JSON 형식의 에러 응답을 작성하는 메서드
+     *
+     * @param exchange HTTP 요청/응답 정보
+     * @param err 에러 메시지
+     * @param httpStatus HTTP 상태 코드 (예: 401 Unauthorized)
+     * @return Mono<Void> 비동기 처리 결과
+     */
+    public static Mono<Void> write(ServerWebExchange exchange, String err, HttpStatus httpStatus) {
+        String errMsg = "{\"error\": \"" + err + "\"}";
+        byte[] bytes = errMsg.getBytes(StandardCharsets.UTF_8);
+        ServerHttpResponse response = exchange.getResponse();
+        DataBuffer buffer = response.bufferFactory().wrap(bytes);
+
+        response.setStatusCode(httpStatus);
+        response.getHeaders().set(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+        response.getHeaders().setContentLength(bytes.length);
+
+        // writeWith만 반환 -> 여기서 완료 처리까지 됨
+        return response.writeWith(Mono.just(buffer));
+    }
+}
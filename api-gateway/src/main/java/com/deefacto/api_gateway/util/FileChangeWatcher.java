@@ -0,0 +1,97 @@
+package com.deefacto.api_gateway.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 설정/키 파일 변경 감지
+ *
+ * 디렉터리(파일이면 그 파일이 있는 디렉터리)를 WatchService로 감시하다가,
+ * 변경이 멈춘 뒤(debounce) 콜백을 한 번 호출 (여러 파일을 차례로 바꾸는 중간 상태는 읽지 않음)
+ *
+ * 별도 데몬 스레드 하나에서 실행되며, 요청 처리 스레드에는 영향 없음
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+@Slf4j
+public final class FileChangeWatcher implements Closeable {
+
+    private final String name;
+    private final Path directory;
+    private final Duration debounce;
+    private final Runnable onChange;
+    private final WatchService watchService;
+    private final Thread thread;
+
+    /**
+     * @param name 로그와 스레드 이름에 쓰는 감시 대상 이름 (예: jwt-keys)
+     * @param location 감시할 파일 또는 디렉터리
+     * @param debounce 마지막 변경 이후 콜백을 호출하기까지 기다리는 시간
+     * @param onChange 변경 시 호출할 콜백 (파일 다시 읽기)
+     */
+    public FileChangeWatcher(String name, Path location, Duration debounce, Runnable onChange) throws IOException {
+        this.name = name;
+        this.directory = Files.isDirectory(location) ? location : location.toAbsolutePath().getParent();
+        this.debounce = debounce;
+        this.onChange = onChange;
+        this.watchService = FileSystems.getDefault().newWatchService();
+        directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+        this.thread = new Thread(this::run, name + "-watcher");
+        this.thread.setDaemon(true);
+    }
+
+    public void start() {
+        thread.start();
+        log.info("파일 변경 감지 시작: name={}, directory={}", name, directory);
+    }
+
+    private void run() {
+        try {
+            while (true) {
+                drain(watchService.take());
+                // 변경이 debounce 동안 더 없을 때까지 대기
+                WatchKey next;
+                while ((next = watchService.poll(debounce.toMillis(), TimeUnit.MILLISECONDS)) != null) {
+                    drain(next);
+                }
+                try {
+                    onChange.run();
+                } catch (RuntimeException e) {
+                    log.error("변경된 파일 다시 읽기 실패: name={}, reason={}", name, e.getMessage());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // close() 호출
+        }
+    }
+
+    private static void drain(WatchKey key) {
+        key.pollEvents();
+        key.reset();
+    }
+
+    @Override
+    public void close() {
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            log.warn("파일 변경 감지 종료 중 오류: name={}, reason={}", name, e.getMessage());
+        }
+        thread.interrupt();
+    }
+}
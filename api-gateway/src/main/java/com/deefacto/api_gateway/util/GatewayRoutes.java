@@ -0,0 +1,73 @@
+package com.deefacto.api_gateway.util;
+
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.RouteMetadataUtils;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.time.Duration;
+
+/**
+ * Gateway 라우트 정보 조회 유틸리티
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+public final class GatewayRoutes {
+
+    /**
+     * 라우트가 없는 요청을 메트릭/로그에 표시할 때 사용하는 이름
+     */
+    public static final String UNKNOWN = "none";
+
+    private GatewayRoutes() {
+    }
+
+    /**
+     * 요청에 매칭된 라우트 ID 조회 (application-*.yml의 routes[].id)
+     *
+     * @param exchange HTTP 요청/응답 정보
+     * @return 라우트 ID, 매칭된 라우트가 없으면 null
+     */
+    public static String routeId(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        return route != null ? route.getId() : null;
+    }
+
+    /**
+     * 메트릭 태그용 라우트 ID 조회 (라우트가 없으면 "none")
+     */
+    public static String routeTag(ServerWebExchange exchange) {
+        String routeId = routeId(exchange);
+        return routeId != null ? routeId : UNKNOWN;
+    }
+
+    /**
+     * 라우트 metadata의 response-timeout (ms)
+     *
+     * @param route 라우트
+     * @return 응답 타임아웃, 설정이 없거나 음수면 null
+     */
+    public static Duration responseTimeout(Route route) {
+        Object value = route.getMetadata().get(RouteMetadataUtils.RESPONSE_TIMEOUT_ATTR);
+        if (value == null) {
+            return null;
+        }
+        long millis = value instanceof Number number ? number.longValue() : Long.parseLong(value.toString());
+        return millis >= 0 ? Duration.ofMillis(millis) : null;
+    }
+
+    /**
+     * 라우트 metadata의 connect-timeout (ms)
+     *
+     * @param route 라우트
+     * @return 연결 타임아웃(ms), 설정이 없으면 null
+     */
+    public static Integer connectTimeoutMillis(Route route) {
+        Object value = route.getMetadata().get(RouteMetadataUtils.CONNECT_TIMEOUT_ATTR);
+        if (value == null) {
+            return null;
+        }
+        return value instanceof Number number ? number.intValue() : Integer.parseInt(value.toString());
+    }
+}
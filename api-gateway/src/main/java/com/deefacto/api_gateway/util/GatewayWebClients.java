@@ -0,0 +1,58 @@
+package com.deefacto.api_gateway.util;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Gateway HttpClient 기반 WebClient 제공
+ *
+ * NettyRoutingFilter를 거치지 않고 하위 서비스를 직접 호출하는 기능(헤지 요청, 스트림 fan-out, 배치)이
+ * 일반 라우팅과 같은 HttpClient 설정을 쓰도록 함
+ * - spring.cloud.gateway.server.webflux.httpclient.* (연결 타임아웃, 풀 등)
+ * - HttpClientCustomizer (UpstreamTimingCustomizer의 하위 서비스 구간 시각 기록 등)
+ * - 라우트 metadata의 connect-timeout (NettyRoutingFilter와 같이 요청 라우트 기준)
+ *
+ * WebClient는 연결 타임아웃 값별로 하나씩 만들어 재사용
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+@Component
+public class GatewayWebClients {
+
+    private final WebClient.Builder webClientBuilder;
+    private final HttpClient httpClient;
+
+    /**
+     * 연결 타임아웃별 WebClient (key: 라우트 metadata의 connect-timeout, 없으면 -1)
+     */
+    private final Map<Integer, WebClient> webClients = new ConcurrentHashMap<>();
+
+    public GatewayWebClients(WebClient.Builder webClientBuilder, HttpClient gatewayHttpClient) {
+        this.webClientBuilder = webClientBuilder;
+        this.httpClient = gatewayHttpClient;
+    }
+
+    /**
+     * 라우트의 connect-timeout을 적용한 WebClient
+     *
+     * @param route 요청 라우트 (없으면 Gateway 기본 설정)
+     */
+    public WebClient forRoute(Route route) {
+        Integer connectTimeoutMillis = route != null ? GatewayRoutes.connectTimeoutMillis(route) : null;
+        int key = connectTimeoutMillis != null ? connectTimeoutMillis : -1;
+        return webClients.computeIfAbsent(key, millis -> {
+            HttpClient client = millis >= 0 ? httpClient.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, millis) : httpClient;
+            return webClientBuilder.clone()
+                    .clientConnector(new ReactorClientHttpConnector(client))
+                    .build();
+        });
+    }
+}
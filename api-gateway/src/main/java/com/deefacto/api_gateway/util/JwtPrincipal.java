@@ -0,0 +1,64 @@
+package com.deefacto.api_gateway.util;
+
+import lombok.Value;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * 검증이 끝난 JWT 토큰의 인증 주체 정보
+ *
+ * JwtProvider.verify() 한 번의 서명 검증 결과로 생성되며,
+ * 필터에서는 토큰을 다시 파싱하지 않고 이 객체에서 모든 사용자 정보를 읽음
+ *
+ * 불변 객체이므로 여러 요청/스레드에서 안전하게 공유 가능
+ *
+ * @author RAFA
+ * @version 1.0
+ */
+@Value
+public class JwtPrincipal {
+
+    /**
+     * 유저 ID ("UserId" claim)
+     */
+    Long userId;
+
+    /**
+     * 직원 ID ("EmployeeId" claim)
+     */
+    String employeeId;
+
+    /**
+     * 토큰 만료 시각 ("exp" claim)
+     */
+    Instant expiresAt;
+
+    /**
+     * jwt.claims 설정에 정의된 추가 claim 값
+     * key: 설정상의 논리 이름 (예: role), value: 토큰의 claim 값
+     * 토큰에 존재하는 claim만 포함됨
+     */
+    Map<String, String> claims;
+
+    /**
+     * 토큰 원문의 SHA-256 다이제스트 (캐시/블랙리스트 조회 키)
+     */
+    TokenDigest tokenDigest;
+
+    /**
+     * 서명 검증에 사용한 키의 kid (kid 헤더가 없는 토큰은 null)
+     * 캐시된 검증 결과를 재사용할 때 키가 아직 허용되는지 확인하는 데 사용
+     */
+    String keyId;
+
+    /**
+     * 설정된 추가 claim 값을 조회하는 메서드
+     *
+     * @param name jwt.claims 설정의 논리 이름 (예: role)
+     * @return claim 값, 토큰에 없으면 null
+     */
+    public String getClaim(String name) {
+        return claims.get(name);
+    }
+}
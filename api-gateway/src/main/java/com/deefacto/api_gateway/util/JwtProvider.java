@@ -1,35 +1,81 @@
 package com.deefacto.api_gateway.util;
 
+import com.deefacto.api_gateway.keys.SigningKeyLoader;
+import com.deefacto.api_gateway.keys.SigningKeyLocator;
+import com.deefacto.api_gateway.keys.SigningKeyRing;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
 import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.security.Key;
+import java.time.Duration;
 import java.util.Base64;
-import java.util.Date;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * JWT 토큰 처리 전용 유틸리티 클래스
- * 
+ *
  * 주요 기능:
  * - JWT 토큰 검증 (서명, 만료시간 확인)
  * - JWT 토큰에서 사용자 정보 추출 (직원ID, 역할)
  * - JWT 서명 키 관리
- * 
+ *
+ * 서명 키와 파서는 시작 시 한 번만 생성하고,
+ * 설정 변경(EnvironmentChangeEvent) 시에만 다시 생성함
+ * (gateway.reload.location 파일 변경 또는 refresh를 노출한 환경의 /actuator/refresh)
+ * 검증 결과는 JwtTokenCache에 보관하여 같은 토큰의 반복 검증을 생략함
+ *
+ * 서명 키는 kid로 찾는 키 목록(SigningKeyRing)으로 관리:
+ * - kid가 없는 토큰: jwt.secret-key로 검증 (기존 방식)
+ * - kid가 있는 토큰: jwt.keys.location의 키 파일에서 읽은 키로 검증 (HMAC, RS256/ES256 공개 키)
+ * - 키 파일이 바뀌면 재시작 없이 키 목록만 교체하고, 빠진 키는 jwt.keys.overlap 동안 계속 허용
+ * - jwt.secret-key가 바뀌면 이전 값도 jwt.keys.overlap 동안 kid가 없는 토큰 검증에 허용
+ *
  * @author RAFA
- * @version 1.0
+ * @version 1.3
  */
 @Component
 @Slf4j  // Lombok을 통한 로깅 기능 자동 생성
 @RequiredArgsConstructor  // final 필드들을 매개변수로 받는 생성자 자동 생성
 public class JwtProvider {
-    
+
+    /**
+     * 토큰 내부의 유저 ID claim 이름
+     */
+    private static final String USER_ID_CLAIM = "UserId";
+
+    /**
+     * 토큰 내부의 직원 ID claim 이름
+     */
+    private static final String EMPLOYEE_ID_CLAIM = "EmployeeId";
+
     /**
      * Spring의 Environment 객체를 주입받아 설정 파일의 값을 읽어옴
      * application.yml, application-local.yml, application-prod.yml 등의 설정값 접근 가능
@@ -37,99 +83,392 @@ public class JwtProvider {
     private final Environment environment;
 
     /**
-     * JWT 토큰의 유효성을 검증하는 메서드
-     * 
+     * 캐시 통계를 메트릭으로 노출하기 위한 레지스트리 (Actuator)
+     */
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    /**
+     * 검증된 토큰 캐시 (설정 변경 시에도 인스턴스는 유지하고 설정만 갱신)
+     */
+    private final JwtTokenCache tokenCache = new JwtTokenCache();
+
+    /**
+     * kid로 검증 키를 찾는 locator (파서는 그대로 두고 키 목록만 교체)
+     */
+    private final SigningKeyLocator keyLocator = new SigningKeyLocator();
+
+    /**
+     * kid가 없는 토큰을 이전 기본 키로 다시 검증하는 파서 (jwt.secret-key 교체 후 overlap 동안)
+     */
+    private final JwtParser retiringDefaultParser = Jwts.parser()
+            .keyLocator(keyLocator.retiringDefault())
+            .build();
+
+    /**
+     * 서명 키가 적용된 JWT 파서 (스레드 안전)
+     * 설정 오류로 키를 만들 수 없으면 null
+     */
+    private volatile JwtParser parser;
+
+    /**
+     * 키 파일 위치 (jwt.keys.location, 없으면 null)
+     */
+    private volatile Path keysLocation;
+
+    /**
+     * 키 파일에서 빠진 키를 계속 허용하는 시간 (jwt.keys.overlap)
+     */
+    private volatile Duration keyOverlap = Duration.ofDays(1);
+
+    /**
+     * 키 파일 변경 감지 (jwt.keys.watch, 사용하지 않으면 null)
+     */
+    private FileChangeWatcher keyWatcher;
+
+    /**
+     * jwt.claims 설정 (논리 이름 -> 토큰 claim 이름)
+     */
+    private volatile Map<String, String> configuredClaims = Map.of();
+
+    /**
+     * 애플리케이션 시작 시 서명 키와 파서를 미리 생성
+     */
+    @PostConstruct
+    public void init() {
+        refresh();
+        meterRegistry.ifAvailable(registry -> {
+            CaffeineCacheMetrics.monitor(registry, tokenCache.nativeCache(), "jwt.verified-tokens");
+            Gauge.builder("jwt.signing-keys", keyLocator, locator -> locator.ring().activeCount())
+                    .description("kid로 등록된 서명 키 수")
+                    .tag("state", "active")
+                    .register(registry);
+            Gauge.builder("jwt.signing-keys", keyLocator, locator -> locator.ring().retiringCount())
+                    .description("kid로 등록된 서명 키 수")
+                    .tag("state", "retiring")
+                    .register(registry);
+        });
+    }
+
+    /**
+     * 키 파일 변경 감지 종료
+     */
+    @PreDestroy
+    public synchronized void close() {
+        if (keyWatcher != null) {
+            keyWatcher.close();
+            keyWatcher = null;
+        }
+    }
+
+    /**
+     * 설정이 변경되면 (gateway.reload.location 파일, /actuator/refresh) jwt.* 값이 바뀐 경우에만 키와 파서를 다시 생성
+     *
+     * @param event 변경된 설정 키 목록을 담은 이벤트
+     */
+    @EventListener
+    public void onEnvironmentChange(EnvironmentChangeEvent event) {
+        if (event.getKeys().stream().anyMatch(key -> key.startsWith("jwt."))) {
+            log.info("JWT 설정 변경 감지 - 서명 키와 파서를 다시 생성합니다");
+            refresh();
+        }
+    }
+
+    /**
+     * 설정 파일에서 서명 키와 claim 설정을 읽어 파서를 다시 생성하는 메서드
+     *
+     * 키가 잘못된 경우 애플리케이션 기동은 막지 않고,
+     * 이후 모든 토큰 검증이 실패하도록 파서를 비워둠
+     */
+    synchronized void refresh() {
+        Binder binder = Binder.get(environment);
+
+        this.configuredClaims = Collections.unmodifiableMap(new LinkedHashMap<>(
+                binder.bind("jwt.claims", Bindable.mapOf(String.class, String.class))
+                        .orElse(Map.of())));
+
+        // 캐시 설정 갱신, 키가 바뀌었을 수 있으므로 기존 검증 결과는 모두 폐기
+        tokenCache.configure(
+                binder.bind("jwt.cache.enabled", Boolean.class).orElse(true),
+                binder.bind("jwt.cache.max-size", Long.class).orElse(JwtTokenCache.DEFAULT_MAX_SIZE),
+                binder.bind("jwt.cache.max-ttl", Duration.class).orElse(Duration.ofHours(1)),
+                binder.bind("jwt.cache.negative-ttl", Duration.class).orElse(Duration.ofSeconds(5)));
+        tokenCache.invalidateAll();
+
+        String location = binder.bind("jwt.keys.location", String.class).orElse("");
+        this.keysLocation = StringUtils.hasText(location) ? Path.of(location) : null;
+        // 기본값: 토큰 수명 (빠진 키로 서명된 토큰이 모두 만료될 때까지 허용)
+        this.keyOverlap = binder.bind("jwt.keys.overlap", Duration.class)
+                .orElseGet(() -> Duration.ofSeconds(binder.bind("jwt.expires-in", Long.class).orElse(86_400L)));
+
+        try {
+            Map<String, Key> loaded = keysLocation != null ? SigningKeyLoader.load(keysLocation) : Map.of();
+            SigningKeyRing ring = keyLocator.ring().rotate(createSigningKey(), loaded, keyOverlap);
+            if (ring.isEmpty()) {
+                throw new IllegalStateException("jwt.secret-key 또는 jwt.keys.location 설정이 없습니다");
+            }
+            keyLocator.swap(ring);
+            this.parser = buildParser();
+        } catch (Exception e) {
+            // 시크릿 키 누락, Base64 형식 오류, 키 길이 부족, 키 파일 오류 등
+            log.error("JWT 서명 키 생성 중 오류 발생: {}", e.getMessage());
+            this.parser = null;
+        }
+
+        restartKeyWatcher(binder.bind("jwt.keys.watch", Boolean.class).orElse(true));
+    }
+
+    /**
+     * 키 파일을 다시 읽어 키 목록을 교체하는 메서드 (키 파일 변경 감지 시 호출)
+     *
+     * 읽기에 실패하면 기존 키 목록을 그대로 사용하고,
+     * 새 키가 추가된 경우에만 검증 실패 캐시를 비움
+     * (검증 성공 캐시는 유지하되, 내용이 바뀐 kid로 검증한 항목은 다음 조회에서 다시 검증)
+     */
+    synchronized void reloadKeys() {
+        Path location = this.keysLocation;
+        if (location == null) {
+            return;
+        }
+        Map<String, Key> loaded;
+        try {
+            loaded = SigningKeyLoader.load(location);
+        } catch (IOException | RuntimeException e) {
+            log.error("JWT 서명 키 파일을 읽을 수 없어 기존 키를 유지합니다: location={}, reason={}",
+                    location, e.getMessage());
+            return;
+        }
+        SigningKeyRing previous = keyLocator.ring();
+        SigningKeyRing next = previous.rotate(previous.defaultKey(), loaded, keyOverlap);
+        keyLocator.swap(next);
+        if (this.parser == null && !next.isEmpty()) {
+            // 시작 시 키가 없었던 경우 (키 파일이 나중에 생성됨)
+            this.parser = buildParser();
+        }
+        if (next.hasNewKeys(previous)) {
+            tokenCache.invalidateFailures();
+        }
+        log.info("JWT 서명 키 교체: active={}, retiring={}", next.activeCount(), next.retiringCount());
+    }
+
+    /**
+     * kid로 서명 키를 찾아 검증하는 파서 생성 (키 목록이 바뀌어도 다시 만들 필요 없음)
+     */
+    private JwtParser buildParser() {
+        return Jwts.parser()
+                .keyLocator(keyLocator)
+                .build();
+    }
+
+    /**
+     * 키 파일 변경 감지를 현재 설정으로 다시 시작
+     */
+    private synchronized void restartKeyWatcher(boolean watch) {
+        close();
+        if (keysLocation == null || !watch) {
+            return;
+        }
+        try {
+            keyWatcher = new FileChangeWatcher("jwt-keys", keysLocation, Duration.ofMillis(500), this::reloadKeys);
+            keyWatcher.start();
+        } catch (IOException e) {
+            log.error("JWT 서명 키 변경 감지를 시작할 수 없습니다: location={}, reason={}",
+                    keysLocation, e.getMessage());
+        }
+    }
+
+    /**
+     * JWT 토큰을 한 번만 검증하고 인증 주체 정보를 반환하는 메서드
+     *
      * 검증 항목:
      * 1. 토큰 서명 검증 (위조 방지)
-     * 2. 토큰 만료시간 검증 (유효기간 확인)
-     * 
+     * 2. 토큰 만료시간 검증 (exp claim 필수)
+     *
+     * 캐시가 활성화된 경우 같은 토큰의 이전 검증 결과(성공/실패)를 그대로 재사용
+     *
+     * @param token 검증할 JWT 토큰 문자열
+     * @return 검증된 인증 주체 정보
+     * @throws JwtException 형식 오류, 만료, 서명 불일치 등으로 검증에 실패한 경우
+     */
+    public JwtPrincipal verify(String token) {
+        if (!StringUtils.hasText(token)) {
+            throw new MalformedJwtException("JWT 토큰이 비어 있습니다");
+        }
+        TokenDigest digest = TokenDigest.of(token);
+        if (!tokenCache.isEnabled()) {
+            return verifyWithKey(token, digest, keyLocator.ring()).principal();
+        }
+
+        Object cached = tokenCache.getIfPresent(digest);
+        // 검증에 사용한 키가 교체 허용 시간을 넘겼거나 같은 kid의 키 내용이 바뀐 경우
+        // 캐시를 쓰지 않고 현재 키로 다시 검증
+        if (cached instanceof JwtTokenCache.Verified verified
+                && keyLocator.ring().accepts(verified.principal().getKeyId(), verified.key())) {
+            return verified.principal();
+        }
+        if (cached instanceof JwtException failure) {
+            throw failure;
+        }
+
+        // 검증 전에 키 목록을 잡아둠 (검증 중 키가 바뀌면 저장한 키가 현재 키와 달라 다음 조회에서 다시 검증)
+        SigningKeyRing ring = keyLocator.ring();
+        try {
+            JwtTokenCache.Verified verified = verifyWithKey(token, digest, ring);
+            tokenCache.putVerified(digest, verified.principal(), verified.key());
+            return verified.principal();
+        } catch (JwtException e) {
+            tokenCache.putFailure(digest, e);
+            throw e;
+        }
+    }
+
+    /**
+     * 캐시 없이 검증하고, 검증에 사용한 키를 함께 반환하는 메서드
+     *
+     * kid가 없는 토큰이 기본 키로 서명 검증에 실패하면, 교체 중인 이전 기본 키로 한 번 더 검증
+     * (다시 검증해도 실패하면 기본 키의 검증 오류를 그대로 던짐)
+     *
+     * @param token 검증할 JWT 토큰 문자열
+     * @param digest 토큰 다이제스트
+     * @param ring 검증 전에 잡아둔 키 목록 (검증에 사용한 키 확인용)
+     * @return 검증된 인증 주체 정보와 검증 키
+     * @throws JwtException 검증에 실패한 경우
+     */
+    private JwtTokenCache.Verified verifyWithKey(String token, TokenDigest digest, SigningKeyRing ring) {
+        JwtParser current = this.parser;
+        if (current == null) {
+            throw new JwtException("JWT 서명 키가 설정되지 않았습니다");
+        }
+        try {
+            JwtPrincipal principal = parse(current, token, digest);
+            return new JwtTokenCache.Verified(principal, ring.find(principal.getKeyId()));
+        } catch (SignatureException e) {
+            Key retiring = ring.findRetiringDefault();
+            if (retiring == null) {
+                throw e;
+            }
+            try {
+                return new JwtTokenCache.Verified(parse(retiringDefaultParser, token, digest), retiring);
+            } catch (JwtException retry) {
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * 서명 검증과 claim 파싱을 수행하는 메서드
+     *
+     * @param parser 사용할 파서
+     * @param token 검증할 JWT 토큰 문자열
+     * @param digest 토큰 다이제스트
+     * @return 검증된 인증 주체 정보
+     * @throws JwtException 검증에 실패한 경우
+     */
+    private JwtPrincipal parse(JwtParser parser, String token, TokenDigest digest) {
+        // kid로 키 조회 + 서명 검증 + 만료시간 검증 (만료된 토큰은 ExpiredJwtException 발생)
+        Jws<Claims> jws = parser.parseSignedClaims(token);
+        Claims claims = jws.getPayload();
+
+        // 만료시간이 없는 토큰은 허용하지 않음
+        if (claims.getExpiration() == null) {
+            throw new MalformedJwtException("JWT 토큰에 만료시간(exp)이 없습니다");
+        }
+
+        return new JwtPrincipal(
+                claims.get(USER_ID_CLAIM, Long.class),
+                claims.get(EMPLOYEE_ID_CLAIM, String.class),
+                claims.getExpiration().toInstant(),
+                extractConfiguredClaims(claims),
+                digest,
+                jws.getHeader().getKeyId());
+    }
+
+    /**
+     * JWT 토큰의 유효성을 검증하는 메서드
+     *
      * @param token 검증할 JWT 토큰 문자열
      * @return true: 유효한 토큰, false: 유효하지 않은 토큰
      */
     public boolean validateToken(String token) {
         try {
-            // JWT 토큰을 파싱하여 Claims(페이로드) 추출
-            Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())  // 서명 키로 검증
-                .build()
-                .parseSignedClaims(token)     // 서명된 토큰 파싱
-                .getPayload();                // 페이로드(Claims) 추출
-                
-            // 토큰의 만료시간이 현재시간보다 이전인지 확인
-            // 만료시간이 현재시간보다 이전이면 true 반환 (만료됨)
-            // 만료시간이 현재시간보다 이후이면 false 반환 (유효함)
-            return !claims.getExpiration().before(new Date());
-            
-        } catch (Exception e) {
-            // 토큰 파싱 중 오류 발생 시 (잘못된 형식, 만료됨, 서명 불일치 등)
-            log.error("JWT 토큰 검증 중 오류 발생: {}", e.getMessage(), e);
+            verify(token);
+            return true;
+        } catch (JwtException e) {
+            log.error("JWT 토큰 검증 중 오류 발생: {}", e.getMessage());
             return false;  // 검증 실패로 처리
         }
     }
 
+    /**
+     * JWT 토큰에서 유저 ID를 추출하는 메서드
+     *
+     * @param token JWT 토큰 문자열
+     * @return 유저 ID, 파싱 실패 시 null
+     */
     public Long getUserIdFromToken(String token) {
         try {
-            // JWT 토큰을 파싱하여 Claims 추출
-            Claims claims = Jwts.parser()
-                    .verifyWith(getSigningKey())  // 서명 키로 검증
-                    .build()
-                    .parseSignedClaims(token)     // 서명된 토큰 파싱
-                    .getPayload();                // 페이로드 추출
-
-            // Claims에서 "employeeId" 키의 값을 String 타입으로 추출
-            return claims.get("UserId", Long.class);
-
-        } catch (Exception e) {
-            // 토큰 파싱 중 오류 발생 시
-            log.error("JWT 토큰에서 유저 ID 추출 중 오류 발생: {}", e.getMessage(), e);
+            return verify(token).getUserId();
+        } catch (JwtException e) {
+            log.error("JWT 토큰에서 유저 ID 추출 중 오류 발생: {}", e.getMessage());
             return null;  // 추출 실패 시 null 반환
         }
     }
 
     /**
      * JWT 토큰에서 직원 ID를 추출하는 메서드
-     * 
-     * 토큰의 페이로드에서 "employeeId" claim을 추출하여 반환
-     * 
+     *
      * @param token JWT 토큰 문자열
      * @return 직원 ID 문자열, 파싱 실패 시 null
      */
     public String getEmployeeIdFromToken(String token) {
         try {
-            // JWT 토큰을 파싱하여 Claims 추출
-            Claims claims = Jwts.parser()
-                    .verifyWith(getSigningKey())  // 서명 키로 검증
-                    .build()
-                    .parseSignedClaims(token)     // 서명된 토큰 파싱
-                    .getPayload();                // 페이로드 추출
-            
-            // Claims에서 "employeeId" 키의 값을 String 타입으로 추출
-            return claims.get("EmployeeId", String.class);
-            
-        } catch (Exception e) {
-            // 토큰 파싱 중 오류 발생 시
-            log.error("JWT 토큰에서 직원 ID 추출 중 오류 발생: {}", e.getMessage(), e);
+            return verify(token).getEmployeeId();
+        } catch (JwtException e) {
+            log.error("JWT 토큰에서 직원 ID 추출 중 오류 발생: {}", e.getMessage());
             return null;  // 추출 실패 시 null 반환
         }
     }
 
+    /**
+     * jwt.claims 설정에 정의된 claim 값만 골라내는 메서드
+     *
+     * @param claims 검증된 토큰의 페이로드
+     * @return 논리 이름 -> claim 값 (토큰에 존재하는 것만)
+     */
+    private Map<String, String> extractConfiguredClaims(Claims claims) {
+        Map<String, String> mapping = this.configuredClaims;
+        if (mapping.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, String> values = new LinkedHashMap<>(mapping.size());
+        mapping.forEach((name, claimName) -> {
+            Object value = claims.get(claimName);
+            if (value != null) {
+                values.put(name, String.valueOf(value));
+            }
+        });
+        return Collections.unmodifiableMap(values);
+    }
+
     /**
      * JWT 토큰 서명에 사용할 비밀키를 생성하는 메서드
-     * 
+     *
      * 설정 파일(application.yml)에서 "jwt.secret-key" 값을 읽어와서
      * Base64 디코딩 후 HMAC-SHA256 알고리즘용 SecretKey 객체로 변환
-     * 
-     * @return JWT 서명용 SecretKey 객체
+     * (kid가 없는 토큰의 검증 키, jwt.keys.location만 쓰는 경우 설정하지 않아도 됨)
+     *
+     * @return JWT 서명용 SecretKey 객체, 설정이 없으면 null
      */
-    private SecretKey getSigningKey() {
+    private SecretKey createSigningKey() {
         // 설정 파일에서 JWT 시크릿 키를 읽어옴
         // 환경별로 다른 키 사용 가능 (dev/prod)
         String secret = environment.getProperty("jwt.secret-key");
-        
+        if (!StringUtils.hasText(secret)) {
+            return null;
+        }
+
         // Base64로 인코딩된 문자열을 디코딩하여 바이트 배열로 변환
-        // Base64.getDecoder(): Base64 디코더 인스턴스 생성
         byte[] keyBytes = Base64.getDecoder().decode(secret);
-        
+
         // 바이트 배열을 HMAC-SHA256 키로 변환
         return Keys.hmacShaKeyFor(keyBytes);
     }
@@ -0,0 +1,168 @@
+package com.deefacto.api_gateway.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.jsonwebtoken.JwtException;
+
+import java.security.Key;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검증이 끝난 JWT 토큰 캐시
+ *
+ * 같은 토큰이 토큰 수명(기본 24시간) 동안 반복해서 들어오므로,
+ * 서명 검증 + claim 파싱 결과를 토큰 다이제스트 기준으로 보관하여 재사용
+ *
+ * 특징:
+ * - Caffeine(W-TinyLFU) 기반 크기 제한, 조회는 lock-free
+ * - 성공 항목은 토큰 만료시간(exp)을 넘기지 않음
+ * - 성공 항목은 검증에 사용한 서명 키와 함께 보관 (키가 바뀌면 재사용하지 않도록)
+ * - 검증 실패 항목은 짧은 시간 동안만 보관 (잘못된 토큰의 반복 서명 검증 방지)
+ * - hit/miss/eviction 통계 기록
+ *
+ * 설정 (jwt.cache.*):
+ * - enabled: 캐시 사용 여부
+ * - max-size: 최대 항목 수
+ * - max-ttl: 성공 항목의 최대 보관 시간
+ * - negative-ttl: 실패 항목 보관 시간
+ *
+ * @author RAFA
+ * @version 1.0
+ */
+public class JwtTokenCache {
+
+    /**
+     * 기본 최대 항목 수
+     */
+    public static final long DEFAULT_MAX_SIZE = 100_000;
+
+    /**
+     * 캐시 본체 (값은 Verified 또는 검증 실패 시의 JwtException)
+     */
+    private final Cache<TokenDigest, Object> cache;
+
+    private volatile boolean enabled = true;
+    private volatile long maxTtlNanos = TimeUnit.HOURS.toNanos(1);
+    private volatile long negativeTtlNanos = TimeUnit.SECONDS.toNanos(5);
+
+    public JwtTokenCache() {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(DEFAULT_MAX_SIZE)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 캐시 설정을 적용하는 메서드 (설정 변경 시 재호출 가능)
+     *
+     * @param enabled 캐시 사용 여부
+     * @param maxSize 최대 항목 수
+     * @param maxTtl 성공 항목의 최대 보관 시간
+     * @param negativeTtl 실패 항목 보관 시간
+     */
+    public void configure(boolean enabled, long maxSize, Duration maxTtl, Duration negativeTtl) {
+        this.enabled = enabled;
+        this.maxTtlNanos = maxTtl.toNanos();
+        this.negativeTtlNanos = negativeTtl.toNanos();
+        cache.policy().eviction().ifPresent(eviction -> eviction.setMaximum(maxSize));
+        if (!enabled) {
+            cache.invalidateAll();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 캐시된 검증 결과를 조회하는 메서드 (lock-free)
+     *
+     * @param digest 토큰 다이제스트
+     * @return Verified(검증 성공), JwtException(검증 실패) 또는 null(캐시 없음)
+     */
+    public Object getIfPresent(TokenDigest digest) {
+        return cache.getIfPresent(digest);
+    }
+
+    /**
+     * 검증 성공 결과를 저장
+     *
+     * @param key 검증 시작 시점의 키 목록에서 kid로 찾은 키 (없으면 null, 이 경우 재사용되지 않음)
+     */
+    public void putVerified(TokenDigest digest, JwtPrincipal principal, Key key) {
+        cache.put(digest, new Verified(principal, key));
+    }
+
+    /**
+     * 검증 실패 결과를 저장 (negative-ttl 동안만 유지)
+     */
+    public void putFailure(TokenDigest digest, JwtException failure) {
+        cache.put(digest, failure);
+    }
+
+    /**
+     * 모든 항목 제거 (서명 키 변경 등)
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * 검증 실패 항목만 제거 (새 서명 키 추가 시, 성공 항목은 유지)
+     */
+    public void invalidateFailures() {
+        cache.asMap().values().removeIf(value -> value instanceof JwtException);
+    }
+
+    /**
+     * hit/miss/eviction 통계
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * 메트릭 바인딩용 Caffeine 캐시 객체
+     */
+    public Cache<TokenDigest, Object> nativeCache() {
+        return cache;
+    }
+
+    /**
+     * 검증 성공 항목 (key: 검증에 사용한 서명 키)
+     */
+    public record Verified(JwtPrincipal principal, Key key) {
+    }
+
+    /**
+     * 항목별 만료 정책
+     * 성공 항목: min(토큰 만료까지 남은 시간, max-ttl)
+     * 실패 항목: negative-ttl
+     */
+    private class TokenExpiry implements Expiry<TokenDigest, Object> {
+
+        @Override
+        public long expireAfterCreate(TokenDigest key, Object value, long currentTime) {
+            if (value instanceof Verified verified) {
+                long untilExpiry = TimeUnit.MILLISECONDS.toNanos(
+                        verified.principal().getExpiresAt().toEpochMilli() - System.currentTimeMillis());
+                return Math.max(0, Math.min(untilExpiry, maxTtlNanos));
+            }
+            return negativeTtlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(TokenDigest key, Object value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(TokenDigest key, Object value, long currentTime, long currentDuration) {
+            return currentDuration;  // 조회로 수명이 늘어나지 않음
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.deefacto.api_gateway.util;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * JWT 토큰 문자열의 SHA-256 다이제스트
+ *
+ * 토큰 원문 대신 캐시/블랙리스트의 키로 사용하기 위한 값 객체
+ * 256비트 다이제스트를 long 4개로 보관하여 equals/hashCode 비용을 최소화
+ *
+ * @author RAFA
+ * @version 1.0
+ */
+public final class TokenDigest {
+
+    /**
+     * 스레드별 MessageDigest 인스턴스 (MessageDigest는 스레드 안전하지 않음)
+     */
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다", e);
+        }
+    });
+
+    private final long h0;
+    private final long h1;
+    private final long h2;
+    private final long h3;
+
+    private TokenDigest(long h0, long h1, long h2, long h3) {
+        this.h0 = h0;
+        this.h1 = h1;
+        this.h2 = h2;
+        this.h3 = h3;
+    }
+
+    /**
+     * 토큰 문자열의 다이제스트를 계산하는 메서드
+     *
+     * @param token JWT 토큰 문자열 (ASCII)
+     * @return 토큰 다이제스트
+     */
+    public static TokenDigest of(String token) {
+        MessageDigest md = SHA256.get();
+        ByteBuffer digest = ByteBuffer.wrap(md.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        return new TokenDigest(digest.getLong(), digest.getLong(), digest.getLong(), digest.getLong());
+    }
+
+    /**
+     * 다이제스트의 첫 번째 64비트 (해시 함수 입력용)
+     */
+    public long high() {
+        return h0;
+    }
+
+    /**
+     * 다이제스트의 두 번째 64비트 (해시 함수 입력용)
+     */
+    public long low() {
+        return h1;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TokenDigest other)) {
+            return false;
+        }
+        return h0 == other.h0 && h1 == other.h1 && h2 == other.h2 && h3 == other.h3;
+    }
+
+    @Override
+    public int hashCode() {
+        // SHA-256 출력은 이미 균등 분포이므로 상위 비트만 사용해도 충분
+        return (int) (h0 ^ (h0 >>> 32));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%016x%016x%016x%016x", h0, h1, h2, h3);
+    }
+}
@@ -0,0 +1,131 @@
+package com.deefacto.api_gateway.stub;
+
+import io.netty.handler.codec.http.HttpResponseStatus;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 게이트웨이 로컬 테스트용 하위 서비스 스텁
+ *
+ * 지연과 오류를 주입할 수 있는 최소한의 HTTP 서버로,
+ * 서킷 브레이커/동시 요청 제한/타임아웃 동작을 실제 하위 서비스 없이 확인하기 위해 사용
+ *
+ * 실행: ./gradlew stubBackend -Pport=8086 -Platency=200ms -Pjitter=50ms -PerrorRate=0.1 -PpayloadSize=4096
+ *
+ * 요청 헤더로 요청별 재정의 가능 (게이트웨이가 그대로 전달):
+ * - X-Stub-Delay: 응답 지연 (예: 3s, 500ms)
+ * - X-Stub-Status: 응답 상태 코드 (예: 503)
+ *
+ * Accept: text/event-stream 요청에는 1초마다 이벤트를 보내는 SSE 스트림으로 응답
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+public final class StubBackend {
+
+    private StubBackend() {
+    }
+
+    public static void main(String[] args) {
+        Map<String, String> options = parse(args);
+        int port = Integer.parseInt(options.getOrDefault("port", "8086"));
+        Duration latency = duration(options.getOrDefault("latency", "0ms"));
+        Duration jitter = duration(options.getOrDefault("jitter", "0ms"));
+        double errorRate = Double.parseDouble(options.getOrDefault("error-rate", "0"));
+        int payloadSize = Integer.parseInt(options.getOrDefault("payload-size", "0"));
+
+        DisposableServer server = start(port, latency, jitter, errorRate, payloadSize);
+        System.out.printf("스텁 서버 시작: port=%d, latency=%s, jitter=%s, errorRate=%.2f, payloadSize=%d%n",
+                server.port(), latency, jitter, errorRate, payloadSize);
+        server.onDispose().block();
+    }
+
+    /**
+     * 스텁 서버 시작
+     *
+     * @param port 리스닝 포트 (0: 임의 포트)
+     * @param latency 기본 응답 지연
+     * @param jitter 지연에 더할 최대 무작위 시간
+     * @param errorRate 500 응답 비율 (0.0 ~ 1.0)
+     */
+    public static DisposableServer start(int port, Duration latency, Duration jitter, double errorRate) {
+        return start(port, latency, jitter, errorRate, 0);
+    }
+
+    /**
+     * 응답 크기를 지정하여 스텁 서버 시작
+     *
+     * @param payloadSize 응답 본문 최소 크기 (바이트, data 필드를 채워 맞춤, 0이면 최소 응답)
+     */
+    public static DisposableServer start(int port, Duration latency, Duration jitter, double errorRate,
+                                         int payloadSize) {
+        String padding = "x".repeat(Math.max(0, payloadSize));
+        return HttpServer.create()
+                .port(port)
+                .handle((request, response) -> handle(request, response, port, latency, jitter, errorRate, padding))
+                .bindNow();
+    }
+
+    private static Mono<Void> handle(HttpServerRequest request, HttpServerResponse response, int port,
+                                     Duration latency, Duration jitter, double errorRate, String padding) {
+        String accept = request.requestHeaders().get("Accept", "");
+        if (accept.contains("text/event-stream")) {
+            return response.header("Content-Type", "text/event-stream")
+                    .sendString(Flux.interval(Duration.ofSeconds(1))
+                            .map(tick -> "id:" + tick + "\ndata:{\"tick\":" + tick + ",\"port\":" + port + "}\n\n"))
+                    .then();
+        }
+
+        String delayHeader = request.requestHeaders().get("X-Stub-Delay");
+        Duration delay = delayHeader != null ? duration(delayHeader) : latency.plusMillis(
+                jitter.isZero() ? 0 : ThreadLocalRandom.current().nextLong(jitter.toMillis() + 1));
+
+        String statusHeader = request.requestHeaders().get("X-Stub-Status");
+        int status = statusHeader != null ? Integer.parseInt(statusHeader)
+                : ThreadLocalRandom.current().nextDouble() < errorRate ? 500 : 200;
+
+        byte[] body = ("{\"stub\":true,\"port\":" + port + ",\"path\":\"" + request.path()
+                + "\",\"status\":" + status + ",\"data\":\"" + padding + "\"}").getBytes(StandardCharsets.UTF_8);
+        return Mono.delay(delay)
+                .then(response.status(HttpResponseStatus.valueOf(status))
+                        .header("Content-Type", "application/json")
+                        .header("Content-Length", String.valueOf(body.length))
+                        .sendByteArray(Mono.just(body))
+                        .then());
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                int separator = arg.indexOf('=');
+                options.put(arg.substring(2, separator), arg.substring(separator + 1));
+            }
+        }
+        return options;
+    }
+
+    /**
+     * "200ms", "3s" 형식의 시간 파싱 (단위가 없으면 밀리초)
+     */
+    public static Duration duration(String value) {
+        String text = value.trim().toLowerCase();
+        if (text.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(text.substring(0, text.length() - 2)));
+        }
+        if (text.endsWith("s")) {
+            return Duration.ofMillis((long) (Double.parseDouble(text.substring(0, text.length() - 1)) * 1000));
+        }
+        return Duration.ofMillis(Long.parseLong(text));
+    }
+}
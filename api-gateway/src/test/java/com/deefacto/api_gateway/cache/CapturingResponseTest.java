@@ -0,0 +1,123 @@
+package com.deefacto.api_gateway.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpResponse;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CapturingResponse 단위 테스트 (캐시 가능 여부 판단, ETag)
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+class CapturingResponseTest {
+
+    private static final Duration TTL = Duration.ofSeconds(5);
+
+    @Test
+    @DisplayName("Vary 없는 200 응답은 본문과 함께 캐시")
+    void cachesPlainOkResponse() {
+        CapturingResponse response = respond(HttpHeaders.EMPTY, "{\"value\":1}");
+
+        CachedResponse cached = response.toCachedResponse(TTL, false);
+
+        assertThat(cached).isNotNull();
+        assertThat(new String(cached.getBody(), StandardCharsets.UTF_8)).isEqualTo("{\"value\":1}");
+    }
+
+    @Test
+    @DisplayName("Vary가 캐시 키에 포함된 헤더(Accept, Accept-Encoding)뿐이면 캐시")
+    void cachesWhenVaryIsKeyed() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(HttpHeaders.VARY, "Accept, Accept-Encoding");
+
+        assertThat(respond(headers, "{}").toCachedResponse(TTL, false)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Vary에 사용자 식별 헤더가 있으면 유저별 라우트에서만 캐시")
+    void userVaryOnlyCachedPerUser() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(HttpHeaders.VARY, "X-User-Id");
+
+        assertThat(respond(headers, "{}").toCachedResponse(TTL, false)).isNull();
+        assertThat(respond(headers, "{}").toCachedResponse(TTL, true)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Vary: * 또는 키에 없는 헤더가 있으면 캐시하지 않음")
+    void skipsUnkeyedVary() {
+        HttpHeaders wildcard = new HttpHeaders();
+        wildcard.add(HttpHeaders.VARY, "*");
+        HttpHeaders language = new HttpHeaders();
+        language.add(HttpHeaders.VARY, "Accept-Language");
+
+        assertThat(respond(wildcard, "{}").toCachedResponse(TTL, true)).isNull();
+        assertThat(respond(language, "{}").toCachedResponse(TTL, true)).isNull();
+    }
+
+    @Test
+    @DisplayName("Cache-Control: private 응답은 공유 라우트에서 캐시하지 않음")
+    void privateResponseNotShared() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setCacheControl("private, max-age=5");
+
+        assertThat(respond(headers, "{}").toCachedResponse(TTL, false)).isNull();
+        assertThat(respond(headers, "{}").toCachedResponse(TTL, true)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("ETag 없는 응답은 본문 해시 ETag를 첫 응답에도 넣고 캐시 항목과 같은 값을 사용")
+    void generatedEtagOnFirstResponse() {
+        String body = "{\"value\":1}";
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentLength(body.getBytes(StandardCharsets.UTF_8).length);
+        MockServerHttpResponse client = new MockServerHttpResponse();
+        CapturingResponse response = respond(client, headers, body);
+
+        CachedResponse cached = response.toCachedResponse(TTL, false);
+
+        assertThat(client.getHeaders().getETag()).isNotNull().isEqualTo(cached.getEtag());
+        assertThat(client.getBodyAsString().block()).isEqualTo(body);
+        assertThat(cached.getHeaders().getETag()).isNull();
+    }
+
+    @Test
+    @DisplayName("하위 서비스 ETag는 그대로 사용하고, 길이를 모르는 응답은 ETag 없이 캐시")
+    void upstreamEtagKeptAndUnknownLengthHasNone() {
+        HttpHeaders withEtag = new HttpHeaders();
+        withEtag.setETag("\"v1\"");
+        withEtag.setContentLength(2);
+
+        assertThat(respond(withEtag, "{}").toCachedResponse(TTL, false).getEtag()).isEqualTo("\"v1\"");
+
+        MockServerHttpResponse client = new MockServerHttpResponse();
+        CachedResponse chunked = respond(client, HttpHeaders.EMPTY, "{}").toCachedResponse(TTL, false);
+        assertThat(client.getHeaders().getETag()).isNull();
+        assertThat(chunked.getEtag()).isNull();
+        assertThat(chunked.matches(List.of("*"))).isFalse();
+    }
+
+    private static CapturingResponse respond(HttpHeaders headers, String body) {
+        return respond(new MockServerHttpResponse(), headers, body);
+    }
+
+    private static CapturingResponse respond(MockServerHttpResponse client, HttpHeaders headers, String body) {
+        CapturingResponse response = new CapturingResponse(client, 1024);
+        response.setStatusCode(HttpStatus.OK);
+        response.getHeaders().putAll(headers);
+        response.writeWith(Flux.just(DefaultDataBufferFactory.sharedInstance
+                .wrap(body.getBytes(StandardCharsets.UTF_8)))).block();
+        return response;
+    }
+}
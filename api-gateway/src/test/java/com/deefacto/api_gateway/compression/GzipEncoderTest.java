@@ -0,0 +1,108 @@
+package com.deefacto.api_gateway.compression;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * GzipEncoder 단위 테스트 (출력은 표준 GZIPInputStream으로 복원해 확인)
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+class GzipEncoderTest {
+
+    private final DefaultDataBufferFactory bufferFactory = DefaultDataBufferFactory.sharedInstance;
+
+    @Test
+    @DisplayName("여러 청크로 나눠 압축해도 원본 그대로 복원 (CRC32, 원본 크기 트레일러 포함)")
+    void roundTripsChunkedInput() throws IOException {
+        byte[] original = new byte[200_000];
+        new Random(42).nextBytes(original);
+        for (int i = 0; i < original.length; i += 3) {
+            original[i] = 'a';  // 일부는 압축되도록
+        }
+
+        GzipEncoder encoder = new GzipEncoder(5, bufferFactory);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        for (int offset = 0; offset < original.length; offset += 7_000) {
+            int length = Math.min(7_000, original.length - offset);
+            append(compressed, encoder.encode(bufferFactory.wrap(Arrays.copyOfRange(original, offset, offset + length))));
+        }
+        append(compressed, encoder.finish());
+
+        assertThat(gunzip(compressed.toByteArray())).isEqualTo(original);
+        assertThat(encoder.inputBytes()).isEqualTo(original.length);
+        assertThat(encoder.outputBytes()).isEqualTo(compressed.size());
+    }
+
+    @Test
+    @DisplayName("flush까지 나온 데이터만으로 그때까지의 입력을 복원 가능 (스트리밍 응답)")
+    void flushEmitsDecodablePrefix() throws IOException {
+        GzipEncoder encoder = new GzipEncoder(5, bufferFactory);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        append(compressed, encoder.encode(bufferFactory.wrap("data: first\n\n".getBytes(StandardCharsets.UTF_8))));
+        append(compressed, encoder.flush());
+
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed.toByteArray()))) {
+            byte[] prefix = in.readNBytes("data: first\n\n".length());
+            assertThat(new String(prefix, StandardCharsets.UTF_8)).isEqualTo("data: first\n\n");
+        }
+
+        append(compressed, encoder.encode(bufferFactory.wrap("data: second\n\n".getBytes(StandardCharsets.UTF_8))));
+        append(compressed, encoder.finish());
+        assertThat(new String(gunzip(compressed.toByteArray()), StandardCharsets.UTF_8))
+                .isEqualTo("data: first\n\ndata: second\n\n");
+    }
+
+    @Test
+    @DisplayName("빈 본문도 올바른 gzip 스트림으로 완료")
+    void emptyBody() throws IOException {
+        GzipEncoder encoder = new GzipEncoder(5, bufferFactory);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        append(compressed, encoder.finish());
+
+        assertThat(gunzip(compressed.toByteArray())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("finish/close 이후 호출은 아무것도 내보내지 않음")
+    void closedEncoderEmitsNothing() {
+        GzipEncoder encoder = new GzipEncoder(5, bufferFactory);
+        encoder.close();
+        encoder.close();
+
+        assertThat(encoder.encode(bufferFactory.wrap(new byte[]{1, 2, 3}))).isNull();
+        assertThat(encoder.flush()).isNull();
+        assertThat(encoder.finish()).isNull();
+    }
+
+    private static void append(ByteArrayOutputStream out, DataBuffer buffer) {
+        if (buffer == null) {
+            return;
+        }
+        byte[] bytes = new byte[buffer.readableByteCount()];
+        buffer.read(bytes);
+        DataBufferUtils.release(buffer);
+        out.writeBytes(bytes);
+    }
+
+    private static byte[] gunzip(byte[] compressed) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.deefacto.api_gateway.keys;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.security.Key;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SigningKeyRing 단위 테스트 (교체 허용 시간, 같은 kid의 키 내용 변경, 기본 키 교체)
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+class SigningKeyRingTest {
+
+    @Test
+    @DisplayName("키 파일에서 빠진 키는 overlap 동안만 허용")
+    void removedKeyRetiresAfterOverlap() {
+        ManualClock clock = new ManualClock();
+        Key old = hmac(1);
+        SigningKeyRing ring = SigningKeyRing.empty(clock).rotate(null, Map.of("old", old), Duration.ofHours(1));
+
+        SigningKeyRing retiring = ring.rotate(null, Map.of("new", hmac(2)), Duration.ofMinutes(10));
+        assertThat(retiring.find("old")).isSameAs(old);
+        assertThat(retiring.activeCount()).isEqualTo(1);
+        assertThat(retiring.retiringCount()).isEqualTo(1);
+
+        clock.advance(Duration.ofMinutes(10).minusMillis(1));
+        assertThat(retiring.find("old")).isSameAs(old);
+
+        clock.advance(Duration.ofMillis(1));
+        assertThat(retiring.find("old")).isNull();
+        assertThat(retiring.retiringCount()).isZero();
+        assertThat(retiring.rotate(null, Map.of("new", hmac(2)), Duration.ofMinutes(10)).find("old")).isNull();
+    }
+
+    @Test
+    @DisplayName("교체 중인 키는 다시 교체해도 허용 시간이 늘어나지 않음")
+    void retiringKeyKeepsOriginalDeadline() {
+        ManualClock clock = new ManualClock();
+        Key old = hmac(1);
+        SigningKeyRing ring = SigningKeyRing.empty(clock).rotate(null, Map.of("old", old), Duration.ofHours(1))
+                .rotate(null, Map.of(), Duration.ofMinutes(10));
+
+        clock.advance(Duration.ofMinutes(6));
+        SigningKeyRing again = ring.rotate(null, Map.of(), Duration.ofHours(1));
+        assertThat(again.find("old")).isSameAs(old);
+
+        clock.advance(Duration.ofMinutes(4));
+        assertThat(again.find("old")).isNull();
+    }
+
+    @Test
+    @DisplayName("이전 기본 키도 overlap이 지나면 거부")
+    void previousDefaultKeyExpires() {
+        ManualClock clock = new ManualClock();
+        Key before = hmac(1);
+        SigningKeyRing ring = SigningKeyRing.empty(clock).rotate(before, Map.of(), Duration.ofHours(1))
+                .rotate(hmac(2), Map.of(), Duration.ofMinutes(10));
+        assertThat(ring.accepts(null, before)).isTrue();
+
+        clock.advance(Duration.ofMinutes(10));
+        assertThat(ring.findRetiringDefault()).isNull();
+        assertThat(ring.accepts(null, before)).isFalse();
+        assertThat(ring.retiringCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("overlap이 0이면 빠진 키는 바로 거부")
+    void zeroOverlapRejectsImmediately() {
+        SigningKeyRing ring = SigningKeyRing.empty().rotate(null, Map.of("old", hmac(1)), Duration.ZERO)
+                .rotate(null, Map.of(), Duration.ZERO);
+
+        assertThat(ring.find("old")).isNull();
+        assertThat(ring.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("같은 kid의 키 내용이 바뀌면 새 키로 바로 교체되고, 이전 키로 검증한 결과는 허용하지 않음")
+    void sameKidContentChange() {
+        Key before = hmac(1);
+        Key after = hmac(2);
+        SigningKeyRing first = SigningKeyRing.empty().rotate(null, Map.of("k1", before), Duration.ofHours(1));
+        SigningKeyRing second = first.rotate(null, Map.of("k1", after), Duration.ofHours(1));
+
+        assertThat(second.find("k1")).isSameAs(after);
+        assertThat(second.retiringCount()).isZero();
+        assertThat(second.hasNewKeys(first)).isTrue();
+        assertThat(second.accepts("k1", before)).isFalse();
+        assertThat(second.accepts("k1", after)).isTrue();
+    }
+
+    @Test
+    @DisplayName("내용이 같은 키를 다시 읽으면 이전 Key 객체를 유지 (캐시된 검증 결과 계속 사용)")
+    void unchangedKeyKeepsIdentity() {
+        Key before = hmac(1);
+        SigningKeyRing first = SigningKeyRing.empty().rotate(null, Map.of("k1", before), Duration.ofHours(1));
+        SigningKeyRing second = first.rotate(null, Map.of("k1", hmac(1)), Duration.ofHours(1));
+
+        assertThat(second.find("k1")).isSameAs(before);
+        assertThat(second.hasNewKeys(first)).isFalse();
+        assertThat(second.accepts("k1", before)).isTrue();
+    }
+
+    @Test
+    @DisplayName("kid가 없는 토큰은 기본 키로 조회, 키를 모르면 허용하지 않음")
+    void defaultKeyAndUnknownKid() {
+        Key defaultKey = hmac(3);
+        SigningKeyRing ring = SigningKeyRing.empty().rotate(defaultKey, Map.of(), Duration.ofHours(1));
+
+        assertThat(ring.find(null)).isSameAs(defaultKey);
+        assertThat(ring.find("missing")).isNull();
+        assertThat(ring.accepts("missing", null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("기본 키가 바뀌면 이전 기본 키는 overlap 동안 kid가 없는 토큰에 허용")
+    void previousDefaultKeyRetiresAfterOverlap() {
+        Key before = hmac(1);
+        Key after = hmac(2);
+        SigningKeyRing first = SigningKeyRing.empty().rotate(before, Map.of(), Duration.ofHours(1));
+        SigningKeyRing second = first.rotate(after, Map.of(), Duration.ofHours(1));
+
+        assertThat(second.find(null)).isSameAs(after);
+        assertThat(second.findRetiringDefault()).isSameAs(before);
+        assertThat(second.retiringCount()).isEqualTo(1);
+        assertThat(second.accepts(null, before)).isTrue();
+        assertThat(second.accepts(null, after)).isTrue();
+        assertThat(second.accepts("k1", before)).isFalse();
+
+        // 같은 기본 키로 다시 교체해도 이전 기본 키와 Key 객체는 그대로
+        SigningKeyRing third = second.rotate(hmac(2), Map.of(), Duration.ofHours(1));
+        assertThat(third.find(null)).isSameAs(after);
+        assertThat(third.findRetiringDefault()).isSameAs(before);
+
+        SigningKeyRing immediate = first.rotate(after, Map.of(), Duration.ZERO);
+        assertThat(immediate.findRetiringDefault()).isNull();
+        assertThat(immediate.accepts(null, before)).isFalse();
+    }
+
+    @Test
+    @DisplayName("이전 기본 키로 되돌리면 교체 중 상태 없이 그 키를 다시 기본 키로 사용")
+    void revertToPreviousDefaultKey() {
+        Key before = hmac(1);
+        SigningKeyRing reverted = SigningKeyRing.empty().rotate(before, Map.of(), Duration.ofHours(1))
+                .rotate(hmac(2), Map.of(), Duration.ofHours(1))
+                .rotate(hmac(1), Map.of(), Duration.ofHours(1));
+
+        assertThat(reverted.find(null)).isSameAs(before);
+        assertThat(reverted.findRetiringDefault()).isNotNull().isNotSameAs(before);
+    }
+
+    private static Key hmac(int seed) {
+        byte[] bytes = new byte[32];
+        Arrays.fill(bytes, (byte) seed);
+        return new SecretKeySpec(bytes, "HmacSHA256");
+    }
+
+    /**
+     * 테스트에서 직접 시간을 옮기는 Clock
+     */
+    private static final class ManualClock extends Clock {
+
+        private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
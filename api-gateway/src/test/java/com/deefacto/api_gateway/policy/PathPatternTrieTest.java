@@ -0,0 +1,86 @@
+package com.deefacto.api_gateway.policy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * PathPatternTrie 단위 테스트 (우선순위: 리터럴 > "*" > "**")
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+class PathPatternTrieTest {
+
+    @Test
+    @DisplayName("같은 위치에서는 리터럴 > \"*\" > \"**\" 순으로 우선")
+    void literalBeatsSingleBeatsRest() {
+        PathPatternTrie<String> trie = new PathPatternTrie<>();
+        trie.insert("/sensors/**", "rest");
+        trie.insert("/sensors/*", "single");
+        trie.insert("/sensors/health", "literal");
+
+        assertThat(trie.match("/sensors/health")).isEqualTo("literal");
+        assertThat(trie.match("/sensors/42")).isEqualTo("single");
+        assertThat(trie.match("/sensors/42/data")).isEqualTo("rest");
+        assertThat(trie.match("/sensors")).isEqualTo("rest");
+    }
+
+    @Test
+    @DisplayName("등록 순서와 무관하게 같은 결과")
+    void insertionOrderDoesNotMatter() {
+        PathPatternTrie<String> trie = new PathPatternTrie<>();
+        trie.insert("/sensors/health", "literal");
+        trie.insert("/sensors/*", "single");
+        trie.insert("/sensors/**", "rest");
+
+        assertThat(trie.match("/sensors/health")).isEqualTo("literal");
+        assertThat(trie.match("/sensors/42")).isEqualTo("single");
+        assertThat(trie.match("/sensors/42/data")).isEqualTo("rest");
+    }
+
+    @Test
+    @DisplayName("리터럴 경로가 더 깊은 곳에서 일치하지 않으면 \"*\" 경로로 되돌아가 찾음")
+    void backtracksFromLiteralToSingle() {
+        PathPatternTrie<String> trie = new PathPatternTrie<>();
+        trie.insert("/admin/users", "admin-users");
+        trie.insert("/*/reports", "any-reports");
+
+        assertThat(trie.match("/admin/reports")).isEqualTo("any-reports");
+        assertThat(trie.match("/admin/users")).isEqualTo("admin-users");
+        assertThat(trie.match("/admin/other")).isNull();
+    }
+
+    @Test
+    @DisplayName("더 깊이 일치하는 \"**\" 패턴이 얕은 \"**\"보다 우선")
+    void deeperRestWins() {
+        PathPatternTrie<String> trie = new PathPatternTrie<>();
+        trie.insert("/**", "all");
+        trie.insert("/auth/**", "auth");
+
+        assertThat(trie.match("/auth/login")).isEqualTo("auth");
+        assertThat(trie.match("/sensors/1")).isEqualTo("all");
+        assertThat(trie.match("/")).isEqualTo("all");
+    }
+
+    @Test
+    @DisplayName("같은 패턴은 먼저 등록된 값 유지, 연속된 \"/\"는 무시")
+    void firstInsertWinsAndSlashesCollapse() {
+        PathPatternTrie<String> trie = new PathPatternTrie<>();
+        trie.insert("/auth/login", "first");
+        trie.insert("/auth/login", "second");
+
+        assertThat(trie.match("//auth///login/")).isEqualTo("first");
+    }
+
+    @Test
+    @DisplayName("\"**\"가 패턴 중간에 있으면 거부")
+    void rejectsRestInMiddle() {
+        PathPatternTrie<String> trie = new PathPatternTrie<>();
+
+        assertThatThrownBy(() -> trie.insert("/a/**/b", "x"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
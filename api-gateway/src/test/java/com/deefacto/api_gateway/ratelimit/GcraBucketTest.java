@@ -0,0 +1,81 @@
+package com.deefacto.api_gateway.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * GcraBucket 단위 테스트
+ *
+ * 시각(now)을 직접 넘겨 버스트 허용량과 토큰 재충전을 확인
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+class GcraBucketTest {
+
+    /**
+     * 초당 10회 (100ms마다 토큰 하나), 버스트 5
+     */
+    private static final long INTERVAL = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long TOLERANCE = INTERVAL * 5;
+
+    @Test
+    @DisplayName("버스트 크기만큼 연속 허용한 뒤 차단하고 다음 토큰까지 남은 시간을 반환")
+    void allowsBurstThenRejects() {
+        GcraBucket bucket = new GcraBucket();
+        long now = System.nanoTime();
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(bucket.tryAcquire(now, INTERVAL, TOLERANCE)).isZero();
+        }
+        assertThat(bucket.tryAcquire(now, INTERVAL, TOLERANCE)).isEqualTo(INTERVAL);
+    }
+
+    @Test
+    @DisplayName("차단된 요청은 토큰을 소비하지 않음")
+    void rejectionDoesNotConsume() {
+        GcraBucket bucket = new GcraBucket();
+        long now = System.nanoTime();
+        for (int i = 0; i < 5; i++) {
+            bucket.tryAcquire(now, INTERVAL, TOLERANCE);
+        }
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(bucket.tryAcquire(now, INTERVAL, TOLERANCE)).isPositive();
+        }
+        assertThat(bucket.tryAcquire(now + INTERVAL, INTERVAL, TOLERANCE)).isZero();
+    }
+
+    @Test
+    @DisplayName("interval마다 토큰 하나씩 다시 채워짐")
+    void refillsOneTokenPerInterval() {
+        GcraBucket bucket = new GcraBucket();
+        long now = System.nanoTime();
+        for (int i = 0; i < 5; i++) {
+            bucket.tryAcquire(now, INTERVAL, TOLERANCE);
+        }
+
+        long later = now + INTERVAL;
+        assertThat(bucket.tryAcquire(later, INTERVAL, TOLERANCE)).isZero();
+        assertThat(bucket.tryAcquire(later, INTERVAL, TOLERANCE)).isEqualTo(INTERVAL);
+
+        long halfway = later + INTERVAL / 2;
+        assertThat(bucket.tryAcquire(halfway, INTERVAL, TOLERANCE)).isEqualTo(INTERVAL / 2);
+    }
+
+    @Test
+    @DisplayName("오래 쉬어도 버스트 크기 이상은 쌓이지 않음")
+    void idleTimeDoesNotExceedBurst() {
+        GcraBucket bucket = new GcraBucket();
+        long later = System.nanoTime() + TimeUnit.MINUTES.toNanos(10);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(bucket.tryAcquire(later, INTERVAL, TOLERANCE)).isZero();
+        }
+        assertThat(bucket.tryAcquire(later, INTERVAL, TOLERANCE)).isPositive();
+    }
+}
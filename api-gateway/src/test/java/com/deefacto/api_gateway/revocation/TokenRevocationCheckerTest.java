@@ -0,0 +1,176 @@
+package com.deefacto.api_gateway.revocation;
+
+import com.deefacto.api_gateway.config.RevocationProperties;
+import com.deefacto.api_gateway.util.TokenDigest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * TokenRevocationChecker 단위 테스트
+ *
+ * 저장소의 전체 목록 조회(revokedTokens)를 테스트에서 직접 끝내어
+ * 첫 블룸 필터 생성 전/중/후의 판단과, 생성 실패/구독 재연결 시의 재생성을 확인
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+class TokenRevocationCheckerTest {
+
+    private final ControlledStore store = new ControlledStore();
+    private final TokenRevocationChecker checker = new TokenRevocationChecker(store, properties());
+
+    @AfterEach
+    void tearDown() {
+        checker.stop();
+    }
+
+    @Test
+    @DisplayName("첫 블룸 필터 생성 전에는 원격 조회 필요(null)로 판단")
+    void remoteLookupUntilFirstBuild() {
+        store.revoked.add("revoked-before-start");
+        checker.start();
+
+        assertThat(checker.checkLocally(TokenDigest.of("revoked-before-start"))).isNull();
+        assertThat(checker.checkLocally(TokenDigest.of("valid"))).isNull();
+
+        store.completeSnapshot();
+
+        assertThat(checker.checkLocally(TokenDigest.of("valid"))).isFalse();
+        assertThat(checker.checkLocally(TokenDigest.of("revoked-before-start"))).isNull();
+    }
+
+    @Test
+    @DisplayName("필터 재생성 중에 들어온 폐기 이벤트는 교체된 필터에도 반영")
+    void eventDuringRebuildSurvivesSwap() {
+        checker.start();
+        store.awaitSnapshotRequested();
+
+        store.publish("revoked-during-build");
+        store.completeSnapshot();
+
+        assertThat(checker.checkLocally(TokenDigest.of("revoked-during-build"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("원격 조회 결과(폐기됨)는 near-cache에서 바로 판단")
+    void remoteResultIsCached() {
+        store.revoked.add("revoked");
+        checker.start();
+        store.completeSnapshot();
+
+        TokenDigest digest = TokenDigest.of("revoked");
+        assertThat(checker.checkRemotely(digest, "revoked").block()).isTrue();
+        assertThat(checker.checkLocally(digest)).isTrue();
+        assertThat(checker.remoteLookupCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("첫 블룸 필터 생성이 실패하면 재생성 주기를 기다리지 않고 다시 시도")
+    void firstBuildFailureIsRetried() {
+        store.snapshotFailures.set(2);
+        checker.start();
+        store.completeSnapshot();
+
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(checker.checkLocally(TokenDigest.of("valid"))).isFalse());
+        assertThat(store.snapshotFailures.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("폐기 이벤트 구독이 끊겼다가 다시 연결되면 끊긴 동안의 폐기를 재생성으로 반영")
+    void resubscribeTriggersRebuild() {
+        checker.start();
+        store.completeSnapshot();
+        assertThat(checker.checkLocally(TokenDigest.of("revoked-in-gap"))).isFalse();
+
+        // 구독이 끊긴 동안 폐기된 토큰 (이벤트는 전달되지 않음)
+        store.disconnect();
+        store.revoked.add("revoked-in-gap");
+
+        await().atMost(Duration.ofSeconds(10))
+                .untilAsserted(() -> assertThat(checker.checkLocally(TokenDigest.of("revoked-in-gap"))).isNull());
+    }
+
+    private static RevocationProperties properties() {
+        RevocationProperties properties = new RevocationProperties();
+        properties.setExpectedRevocations(1_000);
+        properties.setRebuildInterval(Duration.ofHours(1));
+        properties.setRebuildRetryMinBackoff(Duration.ofMillis(10));
+        properties.setRebuildRetryMaxBackoff(Duration.ofMillis(50));
+        return properties;
+    }
+
+    /**
+     * 전체 목록 조회가 completeSnapshot() 호출 시 끝나는 저장소
+     */
+    private static final class ControlledStore implements TokenRevocationStore {
+
+        private final Set<String> revoked = ConcurrentHashMap.newKeySet();
+        private final CountDownLatch snapshotRequested = new CountDownLatch(1);
+        private final Sinks.Empty<Void> snapshotDone = Sinks.empty();
+        private final AtomicInteger snapshotFailures = new AtomicInteger();
+        private volatile Sinks.Many<String> events = Sinks.many().multicast().directBestEffort();
+
+        @Override
+        public Mono<Boolean> isRevoked(String token) {
+            return Mono.just(revoked.contains(token));
+        }
+
+        @Override
+        public Flux<String> revokedTokens() {
+            if (snapshotFailures.getAndUpdate(left -> Math.max(0, left - 1)) > 0) {
+                return Flux.error(new IllegalStateException("저장소 연결 실패"));
+            }
+            // 구독 시점이 아니라 완료 시점의 목록을 내보냄 (조회 도중 추가된 폐기는 빠질 수 있음)
+            return snapshotDone.asMono()
+                    .thenMany(Flux.defer(() -> Flux.fromIterable(Set.copyOf(revoked))))
+                    .doOnSubscribe(subscription -> snapshotRequested.countDown());
+        }
+
+        @Override
+        public Flux<String> revocations() {
+            return events.asFlux();
+        }
+
+        void publish(String token) {
+            events.tryEmitNext(token);
+        }
+
+        /**
+         * 구독 연결 끊김 (다음 구독은 새 채널)
+         */
+        void disconnect() {
+            Sinks.Many<String> previous = events;
+            events = Sinks.many().multicast().directBestEffort();
+            previous.tryEmitError(new IllegalStateException("연결 끊김"));
+        }
+
+        void awaitSnapshotRequested() {
+            try {
+                assertThat(snapshotRequested.await(5, TimeUnit.SECONDS)).isTrue();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+
+        void completeSnapshot() {
+            awaitSnapshotRequested();
+            snapshotDone.tryEmitEmpty();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.deefacto.api_gateway.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BloomFilter 단위 테스트
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 항목은 항상 있을 수도 있음으로 판단 (거짓 음성 없음)")
+    void noFalseNegatives() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.001);
+        for (int i = 0; i < 10_000; i++) {
+            TokenDigest digest = TokenDigest.of("token-" + i);
+            filter.put(digest.high(), digest.low());
+        }
+        for (int i = 0; i < 10_000; i++) {
+            TokenDigest digest = TokenDigest.of("token-" + i);
+            assertThat(filter.mightContain(digest.high(), digest.low())).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("예상 항목 수만큼 채웠을 때 오탐률이 목표치 근처")
+    void falsePositiveRateNearTarget() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            TokenDigest digest = TokenDigest.of("revoked-" + i);
+            filter.put(digest.high(), digest.low());
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            TokenDigest digest = TokenDigest.of("valid-" + i);
+            if (filter.mightContain(digest.high(), digest.low())) {
+                falsePositives++;
+            }
+        }
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+    }
+
+    @Test
+    @DisplayName("빈 필터는 모든 항목을 확실히 없음으로 판단")
+    void emptyFilterContainsNothing() {
+        BloomFilter filter = BloomFilter.create(1_000, 0.001);
+        TokenDigest digest = TokenDigest.of("token");
+        assertThat(filter.mightContain(digest.high(), digest.low())).isFalse();
+    }
+}
@@ -0,0 +1,137 @@
+package com.deefacto.api_gateway.util;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.mock.env.MockEnvironment;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * JwtProvider 검증 캐시와 키 파일 교체 테스트
+ *
+ * @author API Gateway Team
+ * @version 1.0
+ */
+class JwtProviderTest {
+
+    @TempDir
+    Path keys;
+
+    private MockEnvironment environment;
+    private JwtProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        environment = new MockEnvironment()
+                .withProperty("jwt.keys.location", keys.toString())
+                .withProperty("jwt.keys.watch", "false")
+                .withProperty("jwt.keys.overlap", "1h");
+        provider = new JwtProvider(environment, new DefaultListableBeanFactory().getBeanProvider(MeterRegistry.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        provider.close();
+    }
+
+    @Test
+    @DisplayName("같은 kid의 키 내용이 바뀌면 이전 키로 검증해 캐시된 토큰도 거부")
+    void cachedTokenRejectedAfterSameKidContentChange() throws IOException {
+        writeKey("k1", 1);
+        provider.refresh();
+        String token = token("k1", 1);
+        assertThat(provider.verify(token).getUserId()).isEqualTo(7L);
+        assertThat(provider.verify(token).getUserId()).isEqualTo(7L);  // 캐시 사용
+
+        writeKey("k1", 2);
+        provider.reloadKeys();
+
+        assertThatThrownBy(() -> provider.verify(token)).isInstanceOf(SignatureException.class);
+        assertThat(provider.verify(token("k1", 2)).getUserId()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("내용이 그대로인 키 파일을 다시 읽어도 캐시된 토큰은 계속 허용")
+    void cachedTokenKeptWhenKeyUnchanged() throws IOException {
+        writeKey("k1", 1);
+        provider.refresh();
+        String token = token("k1", 1);
+        provider.verify(token);
+
+        writeKey("k1", 1);
+        writeKey("k2", 3);
+        provider.reloadKeys();
+
+        assertThat(provider.verify(token).getKeyId()).isEqualTo("k1");
+        assertThat(provider.verify(token("k2", 3)).getKeyId()).isEqualTo("k2");
+    }
+
+    @Test
+    @DisplayName("jwt.secret-key를 바꿔도 이전 값으로 서명한 kid 없는 토큰은 overlap 동안 허용")
+    void previousSecretKeyAcceptedDuringOverlap() {
+        environment.setProperty("jwt.secret-key", Base64.getEncoder().encodeToString(secret(1)));
+        provider.refresh();
+        String oldToken = token(null, 1);
+        assertThat(provider.verify(oldToken).getUserId()).isEqualTo(7L);
+
+        environment.setProperty("jwt.secret-key", Base64.getEncoder().encodeToString(secret(2)));
+        provider.refresh();
+
+        assertThat(provider.verify(oldToken).getUserId()).isEqualTo(7L);
+        assertThat(provider.verify(oldToken).getUserId()).isEqualTo(7L);  // 캐시 사용
+        assertThat(provider.verify(token(null, 2)).getUserId()).isEqualTo(7L);
+        assertThatThrownBy(() -> provider.verify(token(null, 3))).isInstanceOf(SignatureException.class);
+    }
+
+    @Test
+    @DisplayName("overlap이 0이면 jwt.secret-key 교체 후 이전 값으로 서명한 토큰은 바로 거부")
+    void previousSecretKeyRejectedWithoutOverlap() {
+        environment.setProperty("jwt.keys.overlap", "0s");
+        environment.setProperty("jwt.secret-key", Base64.getEncoder().encodeToString(secret(1)));
+        provider.refresh();
+        String oldToken = token(null, 1);
+        provider.verify(oldToken);
+
+        environment.setProperty("jwt.secret-key", Base64.getEncoder().encodeToString(secret(2)));
+        provider.refresh();
+
+        assertThatThrownBy(() -> provider.verify(oldToken)).isInstanceOf(SignatureException.class);
+    }
+
+    private void writeKey(String kid, int seed) throws IOException {
+        Files.writeString(keys.resolve(kid + ".key"), Base64.getEncoder().encodeToString(secret(seed)));
+    }
+
+    private static String token(String kid, int seed) {
+        return Jwts.builder()
+                .header().keyId(kid).and()
+                .claim("UserId", 7L)
+                .claim("EmployeeId", "E-7")
+                .expiration(Date.from(Instant.now().plusSeconds(600)))
+                .signWith(new SecretKeySpec(secret(seed), "HmacSHA256"))
+                .compact();
+    }
+
+    private static byte[] secret(int seed) {
+        byte[] bytes = new byte[32];
+        Arrays.fill(bytes, (byte) seed);
+        return bytes;
+    }
+}